@@ -0,0 +1,168 @@
+package com.minseok.enigma.enigma.availability;
+
+import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.util.RebuildableSnapshot;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * 사용자 이름과 이메일의 사용 여부를 확인하는 컴포넌트입니다.<p>
+ * 사용 중인 사용자 이름과 이메일을 블룸 필터에 담아 두고, 필터에 없으면 DB를 조회하지 않고 바로 사용 가능으로 답합니다.
+ * 필터에 있을 수도 있다고 나오면 Repository로 실제 존재 여부를 확인합니다.
+ * 필터는 사용자 수에 맞춰 크기를 정해 시작 시와 주기적으로 다시 만들고, 가입과 이메일 변경 시 증분으로 추가합니다.
+ * 값은 발음 구별 기호를 떼고 소문자로 바꿔 담으므로, 대소문자와 악센트를 구분하지 않는 DB 정렬 규칙에서도
+ * "사용 가능"이 잘못 나오지 않습니다. 정렬 규칙이 같게 보는 값을 모두 덮지는 못하므로 최종 판단은 가입 시 유니크 제약이 합니다.
+ * 필터 교체와 증분 추가는 {@link RebuildableSnapshot}이 조율합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserAvailabilityService {
+
+    private static final String COUNT_USERS_SQL = "SELECT COUNT(*) FROM users";
+    private static final String SELECT_USERS_SQL = "SELECT user_name, email FROM users";
+
+    private static final Pattern COMBINING_MARKS = Pattern.compile("\\p{M}+");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${enigma.availability.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    @Value("${enigma.availability.min-expected-insertions:10000}")
+    private long minExpectedInsertions;
+
+    /**
+     * 사용자 이름 필터와 이메일 필터입니다. 처음 만들어지기 전에는 null이며, 그동안은 항상 DB로 확인합니다.
+     */
+    private final RebuildableSnapshot<Filters> filters = new RebuildableSnapshot<>(null);
+
+    private Counter filterAnswers;
+    private Counter repositoryAnswers;
+
+    private record Filters(BloomFilter userNames, BloomFilter emails) {
+    }
+
+    @PostConstruct
+    public void registerMeters() {
+        filterAnswers = Counter.builder("enigma.availability.lookups")
+                .tag("source", "filter")
+                .description("블룸 필터만으로 사용 가능하다고 답한 확인 수")
+                .register(meterRegistry);
+        repositoryAnswers = Counter.builder("enigma.availability.lookups")
+                .tag("source", "repository")
+                .description("DB 조회로 답한 확인 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 사용자 이름이 이미 사용 중인지 확인합니다.
+     *
+     * @param userName 사용자 이름
+     * @return 사용 중이면 true
+     */
+    public boolean isUserNameTaken(String userName) {
+        Filters current = filters.get();
+        if (current != null && !current.userNames().mightContain(normalize(userName))) {
+            filterAnswers.increment();
+            return false;
+        }
+        repositoryAnswers.increment();
+        return userRepository.existsByUserName(userName);
+    }
+
+    /**
+     * 이메일이 이미 사용 중인지 확인합니다.
+     *
+     * @param email 이메일
+     * @return 사용 중이면 true
+     */
+    public boolean isEmailTaken(String email) {
+        Filters current = filters.get();
+        if (current != null && !current.emails().mightContain(normalize(email))) {
+            filterAnswers.increment();
+            return false;
+        }
+        repositoryAnswers.increment();
+        return userRepository.existsByEmail(email);
+    }
+
+    /**
+     * 새로 가입한 사용자의 이름과 이메일을 필터에 추가합니다.<p>
+     * 가입 트랜잭션이 커밋된 뒤에 호출해야 합니다. 커밋과 추가 사이에 "사용 가능"으로 답하더라도 가입은 유니크 제약이 막습니다.
+     *
+     * @param userName 사용자 이름
+     * @param email 이메일
+     */
+    public void register(String userName, String email) {
+        String normalizedUserName = normalize(userName);
+        String normalizedEmail = normalize(email);
+        filters.apply(current -> {
+            current.userNames().put(normalizedUserName);
+            current.emails().put(normalizedEmail);
+        });
+    }
+
+    /**
+     * 변경된 이메일을 필터에 추가합니다. 이전 이메일은 다음 재구성 때 빠집니다. 수정 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+     *
+     * @param email 이메일
+     */
+    public void registerEmail(String email) {
+        String normalized = normalize(email);
+        filters.apply(current -> current.emails().put(normalized));
+    }
+
+    /**
+     * 애플리케이션 시작 시 필터를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * 현재 사용자 수에 맞는 크기로 필터를 새로 만들어 교체합니다.<p>
+     * 가입이 늘어 예상 원소 수를 넘으면 오탐률이 올라가므로, 예상 원소 수를 사용자 수의 두 배로 잡고 주기적으로 다시 만듭니다.
+     */
+    @Scheduled(cron = "${enigma.availability.rebuild-cron:0 30 4 * * *}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        Long userCount = jdbcTemplate.queryForObject(COUNT_USERS_SQL, Long.class);
+        long expectedInsertions = Math.max(minExpectedInsertions, (userCount == null ? 0 : userCount) * 2);
+        filters.rebuild(() -> {
+            Filters rebuilt = new Filters(new BloomFilter(expectedInsertions, falsePositiveRate),
+                    new BloomFilter(expectedInsertions, falsePositiveRate));
+            RebuildableSnapshot.stream(jdbcTemplate, SELECT_USERS_SQL, RebuildableSnapshot.DEFAULT_FETCH_SIZE, rs -> {
+                rebuilt.userNames().put(normalize(rs.getString("user_name")));
+                rebuilt.emails().put(normalize(rs.getString("email")));
+            });
+            return rebuilt;
+        });
+        log.info("사용자 이름/이메일 필터를 다시 만들었습니다. expectedInsertions={}, elapsedMs={}",
+                expectedInsertions, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 필터에 담고 조회할 형태로 바꿉니다. 정준 분해(NFD) 후 결합 문자(악센트 등)를 떼고 소문자로 바꿉니다.
+     */
+    static String normalize(String value) {
+        String decomposed = Normalizer.normalize(value, Normalizer.Form.NFD);
+        return COMBINING_MARKS.matcher(decomposed).replaceAll("").toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,12 @@
+package com.minseok.enigma.enigma.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기적으로 실행되는 백그라운드 작업(@Scheduled)을 활성화하는 설정 클래스입니다.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
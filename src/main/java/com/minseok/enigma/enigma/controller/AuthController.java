@@ -2,6 +2,7 @@ package com.minseok.enigma.enigma.controller;
 
 import com.minseok.enigma.enigma.dto.request.auth.LoginRequest;
 import com.minseok.enigma.enigma.dto.request.auth.SignupRequest;
+import com.minseok.enigma.enigma.dto.response.auth.AvailabilityResponse;
 import com.minseok.enigma.enigma.dto.response.auth.LoginResponse;
 import com.minseok.enigma.enigma.service.AuthService;
 import jakarta.validation.Valid;
@@ -44,4 +45,18 @@ public class AuthController {
         LoginResponse response = authService.login(loginRequest);
         return ResponseEntity.ok(response);
     }
+
+    /**
+     * 사용자 이름과 이메일의 사용 가능 여부를 확인합니다. 가입 화면에서 입력할 때마다 호출됩니다.
+     *
+     * @param userName 확인할 사용자 이름 (선택)
+     * @param email 확인할 이메일 (선택)
+     * @return 사용 가능 여부 응답 DTO와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/availability")
+    public ResponseEntity<AvailabilityResponse> checkAvailability(@RequestParam(required = false) String userName,
+                                                                  @RequestParam(required = false) String email) {
+        AvailabilityResponse response = authService.checkAvailability(userName, email);
+        return ResponseEntity.ok(response);
+    }
 }
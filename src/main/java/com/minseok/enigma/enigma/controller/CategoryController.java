@@ -0,0 +1,33 @@
+package com.minseok.enigma.enigma.controller;
+
+import com.minseok.enigma.enigma.dto.response.category.PostCategoryResponse;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.service.PostCategoryRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+
+/**
+ * 카테고리 관련 요청을 처리하는 컨트롤러 클래스입니다.
+ */
+@RestController
+@RequestMapping("/api/categories")
+@RequiredArgsConstructor
+public class CategoryController {
+
+    private final PostCategoryRegistry postCategoryRegistry;
+
+    /**
+     * 활성 카테고리 목록을 조회합니다. DB를 거치지 않고 카테고리 레지스트리의 스냅샷에서 바로 응답합니다.
+     *
+     * @param schoolLevel 학교 수준 (생략하면 전체)
+     * @return 카테고리 응답 DTO 리스트와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping
+    public ResponseEntity<List<PostCategoryResponse>> getCategories(@RequestParam(required = false) SchoolLevel schoolLevel) {
+        List<PostCategoryResponse> responses = postCategoryRegistry.getCategories(schoolLevel);
+        return ResponseEntity.ok(responses);
+    }
+}
@@ -2,15 +2,18 @@ package com.minseok.enigma.enigma.controller;
 
 import com.minseok.enigma.enigma.dto.request.comment.CommentCreateRequest;
 import com.minseok.enigma.enigma.dto.response.comment.CommentResponse;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
 import com.minseok.enigma.enigma.service.CommentService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
-
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import java.util.List;
+import java.util.Map;
 
 /**
  * 댓글 관련 요청을 처리하는 컨트롤러 클래스입니다.
@@ -35,15 +38,100 @@ public class CommentController {
     }
 
     /**
-     * 특정 게시글에 달린 댓글을 조회합니다.
+     * 특정 게시글에 달린 댓글을 페이지 조회합니다.
      *
      * @param postId 게시글 ID
      * @param userId 사용자 ID
-     * @return 댓글 목록과 함께 HTTP 상태 코드 200을 반환합니다.
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @param newestFirst 최신순 조회 여부 (생략하면 작성 순)
+     * @return 댓글 페이지와 함께 HTTP 상태 코드 200을 반환합니다.
      */
     @GetMapping("/post/{postId}/user/{userId}")
-    public ResponseEntity<List<CommentResponse>> getCommentsByPost(@PathVariable Long postId, @PathVariable Long userId) {
-        List<CommentResponse> responses = commentService.getCommentsByPost(postId, userId);
+    public ResponseEntity<CursorResponse<CommentResponse>> getCommentsByPost(@PathVariable Long postId,
+                                                                            @PathVariable Long userId,
+                                                                            @RequestParam(required = false) String cursor,
+                                                                            @RequestParam(defaultValue = "20") int size,
+                                                                            @RequestParam(defaultValue = "false") boolean newestFirst) {
+        CursorResponse<CommentResponse> responses = commentService.getCommentsByPost(postId, userId, cursor, size, newestFirst);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 특정 게시글에 새로 달리는 댓글을 SSE(text/event-stream)로 구독합니다.<p>
+     * 새 댓글은 comment 이벤트(ID는 댓글 ID)로, 전달하지 못한 댓글이 있으면 resync 이벤트로 알립니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 댓글 이벤트 스트림
+     */
+    @GetMapping(value = "/post/{postId}/user/{userId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamComments(@PathVariable Long postId, @PathVariable Long userId) {
+        return commentService.subscribeComments(postId, userId);
+    }
+
+    /**
+     * 특정 게시글의 댓글을 답글을 포함한 스레드 순서로 페이지 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 스레드 순서의 댓글 페이지와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/post/{postId}/user/{userId}/thread")
+    public ResponseEntity<CursorResponse<CommentResponse>> getThread(@PathVariable Long postId,
+                                                                    @PathVariable Long userId,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<CommentResponse> responses = commentService.getThread(postId, userId, cursor, size);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * 댓글에 달린 답글 전체를 스레드 순서로 페이지 조회합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 스레드 순서의 답글 페이지와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/{commentId}/replies/user/{userId}")
+    public ResponseEntity<CursorResponse<CommentResponse>> getReplies(@PathVariable Long commentId,
+                                                                     @PathVariable Long userId,
+                                                                     @RequestParam(required = false) String cursor,
+                                                                     @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<CommentResponse> responses = commentService.getReplies(commentId, userId, cursor, size);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 여러 게시글의 최신 댓글 미리보기를 한 번에 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param postIds 게시글 ID 목록 (피드 한 페이지의 게시글)
+     * @param size 게시글당 댓글 수
+     * @return 게시글 ID별 댓글 목록과 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/previews/user/{userId}")
+    public ResponseEntity<Map<Long, List<CommentResponse>>> getCommentPreviews(@PathVariable Long userId,
+                                                                             @RequestParam List<Long> postIds,
+                                                                             @RequestParam(defaultValue = "3") int size) {
+        Map<Long, List<CommentResponse>> responses = commentService.getCommentPreviews(postIds, userId, size);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 댓글을 삭제합니다.
+     *
+     * @param commentId 댓글 ID
+     * @param userId 사용자 ID (작성자)
+     * @return HTTP 상태 코드 200을 반환합니다.
+     */
+    @DeleteMapping("/{commentId}/user/{userId}")
+    public ResponseEntity<Void> deleteComment(@PathVariable Long commentId, @PathVariable Long userId) {
+        commentService.deleteComment(commentId, userId);
+        return ResponseEntity.ok().build();
+    }
 }
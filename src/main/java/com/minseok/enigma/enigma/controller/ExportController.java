@@ -0,0 +1,64 @@
+package com.minseok.enigma.enigma.controller;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.service.ExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.time.LocalDate;
+
+/**
+ * 분석용 데이터 내보내기 요청을 처리하는 컨트롤러 클래스입니다.<p>
+ * 응답은 NDJSON(application/x-ndjson)이며, 전체 결과를 메모리에 만들지 않고 스트리밍으로 내려갑니다.
+ */
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class ExportController {
+
+    private final ExportService exportService;
+
+    /**
+     * 게시글을 NDJSON으로 내보냅니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param categoryId 카테고리 ID (생략하면 전체)
+     * @param from 시작 날짜 (yyyy-MM-dd, 포함)
+     * @param to 종료 날짜 (yyyy-MM-dd, 포함)
+     * @return 게시글 NDJSON 스트림과 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping(value = "/posts", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam String schoolLevel,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        SchoolLevel level = SchoolLevel.valueOf(schoolLevel.toUpperCase());
+        StreamingResponseBody body = out -> exportService.exportPosts(level, categoryId, from, to, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+
+    /**
+     * 댓글을 NDJSON으로 내보냅니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param categoryId 댓글이 달린 게시글의 카테고리 ID (생략하면 전체)
+     * @param from 시작 날짜 (yyyy-MM-dd, 포함)
+     * @param to 종료 날짜 (yyyy-MM-dd, 포함)
+     * @return 댓글 NDJSON 스트림과 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping(value = "/comments", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<StreamingResponseBody> exportComments(
+            @RequestParam String schoolLevel,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        SchoolLevel level = SchoolLevel.valueOf(schoolLevel.toUpperCase());
+        StreamingResponseBody body = out -> exportService.exportComments(level, categoryId, from, to, out);
+        return ResponseEntity.ok().contentType(MediaType.APPLICATION_NDJSON).body(body);
+    }
+}
@@ -0,0 +1,46 @@
+package com.minseok.enigma.enigma.controller;
+
+import com.minseok.enigma.enigma.dto.response.common.ImportResponse;
+import com.minseok.enigma.enigma.service.BulkImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+import java.io.InputStream;
+
+/**
+ * 기존 게시판 데이터의 대량 가져오기 요청을 처리하는 컨트롤러 클래스입니다.<p>
+ * 요청 본문은 NDJSON(한 줄에 JSON 객체 하나)이며, 전체를 메모리에 올리지 않고 읽으면서 청크 단위로 저장합니다.
+ */
+@RestController
+@RequestMapping("/api/import")
+@RequiredArgsConstructor
+public class ImportController {
+
+    private final BulkImportService bulkImportService;
+
+    /**
+     * 게시글을 대량으로 가져옵니다. 각 줄은 게시글 작성 요청과 같은 형식이며, 작성 시각(createdAt)을 함께 담을 수 있습니다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return 가져오기 결과와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @PostMapping(value = "/posts", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportResponse> importPosts(InputStream body) {
+        ImportResponse response = bulkImportService.importPosts(body);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 댓글을 대량으로 가져옵니다. 각 줄은 댓글 작성 요청과 같은 형식이며, 작성 시각(createdAt)을 함께 담을 수 있습니다.
+     *
+     * @param body NDJSON 요청 본문
+     * @return 가져오기 결과와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @PostMapping(value = "/comments", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportResponse> importComments(InputStream body) {
+        ImportResponse response = bulkImportService.importComments(body);
+        return ResponseEntity.ok(response);
+    }
+}
@@ -1,6 +1,7 @@
 package com.minseok.enigma.enigma.controller;
 
 import com.minseok.enigma.enigma.dto.request.post.PostCreateRequest;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
 import com.minseok.enigma.enigma.dto.response.post.PostResponse;
 import com.minseok.enigma.enigma.service.PostService;
 import jakarta.validation.Valid;
@@ -34,14 +35,77 @@ public class PostController {
     }
 
     /**
-     * 동일한 학교 수준의 게시글을 조회합니다.
+     * 동일한 학교 수준의 게시글을 최신순으로 페이지 조회합니다.
      *
      * @param userId 사용자 ID
-     * @return 게시글 목록과 함께 HTTP 상태 코드 200을 반환합니다.
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 게시글 페이지와 함께 HTTP 상태 코드 200을 반환합니다.
      */
     @GetMapping("/user/{userId}")
-    public ResponseEntity<List<PostResponse>> getPostsByUser(@PathVariable Long userId) {
-        List<PostResponse> responses = postService.getPosts(userId);
+    public ResponseEntity<CursorResponse<PostResponse>> getPostsByUser(@PathVariable Long userId,
+                                                                       @RequestParam(required = false) String cursor,
+                                                                       @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<PostResponse> responses = postService.getPosts(userId, cursor, size);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * 동일한 학교 수준의 인기 게시글을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param size 조회할 개수
+     * @return 인기 게시글 목록과 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/trending")
+    public ResponseEntity<List<PostResponse>> getTrendingPosts(@RequestParam Long userId,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        List<PostResponse> responses = postService.getTrendingPosts(userId, size);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 동일한 학교 수준의 게시글을 제목/본문으로 검색합니다.
+     *
+     * @param userId 사용자 ID
+     * @param query 검색어
+     * @param cursor 이전 페이지 응답의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 검색된 게시글 페이지와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/search")
+    public ResponseEntity<CursorResponse<PostResponse>> searchPosts(@RequestParam Long userId,
+                                                                    @RequestParam("q") String query,
+                                                                    @RequestParam(required = false) String cursor,
+                                                                    @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<PostResponse> responses = postService.searchPosts(userId, query, cursor, size);
+        return ResponseEntity.ok(responses);
+    }
+
+    /**
+     * 게시글을 본문까지 상세 조회합니다. 조회할 때마다 조회수가 1 증가합니다.<p>
+     * 목록/검색/인기 게시글 응답에는 본문 대신 요약만 담기므로, 본문은 이 요청으로만 내려갑니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 게시글 응답 DTO와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/{postId}/user/{userId}")
+    public ResponseEntity<PostResponse> getPost(@PathVariable Long postId, @PathVariable Long userId) {
+        PostResponse response = postService.getPost(postId, userId);
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * 게시글을 삭제합니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID (작성자)
+     * @return HTTP 상태 코드 200을 반환합니다.
+     */
+    @DeleteMapping("/{postId}/user/{userId}")
+    public ResponseEntity<Void> deletePost(@PathVariable Long postId, @PathVariable Long userId) {
+        postService.deletePost(postId, userId);
+        return ResponseEntity.ok().build();
+    }
 }
@@ -1,6 +1,9 @@
 package com.minseok.enigma.enigma.controller;
 
+import com.minseok.enigma.enigma.dto.request.user.FriendBulkAddRequest;
 import com.minseok.enigma.enigma.dto.request.user.UserUpdateRequest;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
+import com.minseok.enigma.enigma.dto.response.user.FriendSuggestionResponse;
 import com.minseok.enigma.enigma.dto.response.user.UserResponse;
 import com.minseok.enigma.enigma.entity.SchoolLevel;
 import com.minseok.enigma.enigma.service.UserService;
@@ -60,6 +63,27 @@ public class UserController {
         return ResponseEntity.ok(responses);
     }
 
+    /**
+     * 특정 학교 수준과 학년의 사용자를 커서 페이지로 조회합니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     * @param userNamePrefix 아이디 접두어 (선택)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 생략)
+     * @param size 페이지 크기
+     * @return 사용자 목록과 다음 페이지 커서와 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/school-level/{schoolLevel}/grade/{grade}/directory")
+    public ResponseEntity<CursorResponse<UserResponse>> getUserDirectory(@PathVariable String schoolLevel,
+                                                                        @PathVariable int grade,
+                                                                        @RequestParam(required = false) String userNamePrefix,
+                                                                        @RequestParam(required = false) String cursor,
+                                                                        @RequestParam(defaultValue = "20") int size) {
+        CursorResponse<UserResponse> responses = userService.getUserDirectory(
+                SchoolLevel.valueOf(schoolLevel.toUpperCase()), grade, userNamePrefix, cursor, size);
+        return ResponseEntity.ok(responses);
+    }
+
     /**
      * 사용자에게 친구를 추가합니다.
      *
@@ -73,6 +97,19 @@ public class UserController {
         return ResponseEntity.ok().build();
     }
 
+    /**
+     * 여러 사용자를 한 번에 친구로 추가합니다.
+     *
+     * @param userId 사용자 ID
+     * @param request 추가할 친구 ID 목록
+     * @return HTTP 상태 코드 200을 반환합니다.
+     */
+    @PostMapping("/{userId}/friends")
+    public ResponseEntity<Void> addFriends(@PathVariable Long userId, @RequestBody FriendBulkAddRequest request) {
+        userService.addFriends(userId, request.getFriendIds());
+        return ResponseEntity.ok().build();
+    }
+
     /**
      * 사용자에게서 친구를 제거합니다.
      *
@@ -97,4 +134,30 @@ public class UserController {
         List<UserResponse> responses = userService.getFriends(userId);
         return ResponseEntity.ok(responses);
     }
+
+    /**
+     * 사용자의 친구 ID 목록을 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 오름차순으로 정렬된 친구 ID 배열과 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/{userId}/friends/ids")
+    public ResponseEntity<long[]> getFriendIds(@PathVariable Long userId) {
+        long[] friendIds = userService.getFriendIds(userId);
+        return ResponseEntity.ok(friendIds);
+    }
+
+    /**
+     * 알 수도 있는 친구를 공통 친구 수 순으로 추천합니다.
+     *
+     * @param userId 사용자 ID
+     * @param size 최대 추천 수
+     * @return 추천 목록과 함께 HTTP 상태 코드 200을 반환합니다.
+     */
+    @GetMapping("/{userId}/friend-suggestions")
+    public ResponseEntity<List<FriendSuggestionResponse>> getFriendSuggestions(@PathVariable Long userId,
+                                                                               @RequestParam(defaultValue = "10") int size) {
+        List<FriendSuggestionResponse> responses = userService.getFriendSuggestions(userId, size);
+        return ResponseEntity.ok(responses);
+    }
 }
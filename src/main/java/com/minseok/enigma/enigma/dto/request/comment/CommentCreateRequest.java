@@ -4,12 +4,14 @@ import com.minseok.enigma.enigma.entity.SchoolLevel;
 import lombok.Data;
 
 /**
- * 댓글 생성 요청을 위한 DTO 클래스입니다.
+ * 댓글 생성 요청을 위한 DTO 클래스입니다.<p>
+ * 답글이면 parentId에 부모 댓글 ID를 담습니다.
  */
 @Data
 public class CommentCreateRequest {
     private Long postId;
     private Long userId;
+    private Long parentId;
     private String content;
     private SchoolLevel schoolLevel;
 }
\ No newline at end of file
@@ -0,0 +1,16 @@
+package com.minseok.enigma.enigma.dto.request.comment;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 대량 가져오기의 한 행을 위한 DTO 클래스입니다.<p>
+ * 댓글 생성 요청과 같은 형식에, 기존 게시판에서의 작성 시각(createdAt)을 선택적으로 담습니다. 없으면 가져온 시각으로 저장합니다.
+ */
+@Data
+@EqualsAndHashCode(callSuper = true)
+public class CommentImportRequest extends CommentCreateRequest {
+    private LocalDateTime createdAt;
+}
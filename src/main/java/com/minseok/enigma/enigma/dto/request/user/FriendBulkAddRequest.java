@@ -0,0 +1,13 @@
+package com.minseok.enigma.enigma.dto.request.user;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 여러 친구를 한 번에 추가하는 요청을 위한 DTO 클래스입니다.
+ */
+@Data
+public class FriendBulkAddRequest {
+    private List<Long> friendIds;
+}
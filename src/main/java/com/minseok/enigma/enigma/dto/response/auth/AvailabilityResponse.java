@@ -0,0 +1,17 @@
+package com.minseok.enigma.enigma.dto.response.auth;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 사용자 이름/이메일 사용 가능 여부 응답을 위한 DTO 클래스입니다.<p>
+ * 요청에 포함된 항목만 응답에 담습니다.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class AvailabilityResponse {
+    private Boolean userNameAvailable;
+    private Boolean emailAvailable;
+}
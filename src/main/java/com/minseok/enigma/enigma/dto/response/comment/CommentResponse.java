@@ -1,11 +1,13 @@
 package com.minseok.enigma.enigma.dto.response.comment;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 /**
- * 댓글 응답을 위한 DTO 클래스입니다.
+ * 댓글 응답을 위한 DTO 클래스입니다.<p>
+ * 답글 정보(parentId, depth, replyCount)는 작성 응답과 스레드 조회에서만 채워집니다.
  */
 @Data
 @Builder
@@ -14,6 +16,12 @@ public class CommentResponse {
     private String content;
     private String userName;
     private Long postId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Long parentId;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer depth;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
+    private Integer replyCount;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String status;
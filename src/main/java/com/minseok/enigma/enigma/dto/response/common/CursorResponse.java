@@ -0,0 +1,19 @@
+package com.minseok.enigma.enigma.dto.response.common;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 커서 기반 페이지 응답을 위한 DTO 클래스입니다.
+ *
+ * @param <T> 페이지에 담긴 항목의 타입
+ */
+@Data
+@Builder
+public class CursorResponse<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+}
@@ -0,0 +1,19 @@
+package com.minseok.enigma.enigma.dto.response.common;
+
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * 대량 가져오기 결과를 위한 DTO 클래스입니다.
+ */
+@Data
+@Builder
+public class ImportResponse {
+    private long imported;
+    private long failed;
+    private List<Long> failedRows;
+    private long elapsedMs;
+    private double rowsPerSecond;
+}
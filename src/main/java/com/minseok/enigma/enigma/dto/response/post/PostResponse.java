@@ -1,21 +1,27 @@
 package com.minseok.enigma.enigma.dto.response.post;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
 import lombok.Builder;
 import lombok.Data;
 import java.time.LocalDateTime;
 
 /**
- * 게시글 응답을 위한 DTO 클래스입니다.
+ * 게시글 응답을 위한 DTO 클래스입니다.<p>
+ * 목록 응답에는 요약(excerpt)만 담고, 본문(content)은 상세 조회에서만 채워집니다.
  */
 @Data
 @Builder
 public class PostResponse {
     private Long id;
     private String title;
+    private String excerpt;
+    @JsonInclude(JsonInclude.Include.NON_NULL)
     private String content;
     private String authorName;
     private String categoryName;
     private int viewCount;
+    private int commentCount;
+    private LocalDateTime lastCommentAt;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String status;
@@ -0,0 +1,18 @@
+package com.minseok.enigma.enigma.dto.response.user;
+
+import lombok.Builder;
+import lombok.Data;
+
+/**
+ * 친구 추천 응답을 위한 DTO 클래스입니다.<p>
+ * 아직 친구가 아닌 사용자이므로 이메일 등 개인 정보는 담지 않습니다.
+ */
+@Data
+@Builder
+public class FriendSuggestionResponse {
+    private Long id;
+    private String userName;
+    private String schoolLevel;
+    private int grade;
+    private int mutualFriendCount;
+}
@@ -3,14 +3,18 @@ package com.minseok.enigma.enigma.entity;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 /**
- * 게시글에 대한 댓글을 나타내는 클래스입니다.
+ * 게시글에 대한 댓글을 나타내는 클래스입니다.<p>
+ * 삭제 상태(DELETED)의 댓글은 엔티티를 대상으로 하는 모든 조회에서 자동으로 제외됩니다.<p>
+ * 답글은 부모 댓글과 함께 루트부터의 경로(path)를 저장하므로, 스레드나 하위 트리를 경로 순으로 한 번에 조회할 수 있습니다.
  */
 @Entity
+@SQLRestriction("status <> 'DELETED'")
 @Table(name = "comments")
 @Getter
 @Setter
@@ -19,11 +23,29 @@ import java.time.LocalDateTime;
 @Builder
 public class Comment {
 
+    /**
+     * 경로에서 댓글 하나가 차지하는 길이입니다. 댓글 ID를 이 길이만큼 0으로 채워 문자열 순서와 ID 순서를 맞춥니다.
+     */
+    public static final int PATH_SEGMENT_LENGTH = 19;
+
+    /**
+     * 경로 컬럼의 최대 길이입니다.
+     */
+    public static final int MAX_PATH_LENGTH = 255;
+
+    /**
+     * 답글이 가질 수 있는 최대 깊이입니다. 루트 댓글의 깊이는 0입니다.
+     */
+    public static final int MAX_DEPTH = MAX_PATH_LENGTH / PATH_SEGMENT_LENGTH - 1;
+
     /**
      * 댓글의 고유 ID입니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "comment_id_generator")
+    @TableGenerator(name = "comment_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "comments",
+            allocationSize = 50)
     private Long id;
 
     /**
@@ -40,6 +62,35 @@ public class Comment {
     @JoinColumn(name = "post_id", nullable = false)
     private Post post;
 
+    /**
+     * 답글이 달린 부모 댓글입니다. 루트 댓글이면 null입니다.<p>
+     * 삭제된 부모 댓글이 보관 테이블로 옮겨져도 답글은 남도록 외래 키를 두지 않습니다.
+     */
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "parent_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
+    private Comment parent;
+
+    /**
+     * 루트 댓글부터 이 댓글까지의 경로입니다. 각 댓글 ID를 {@value #PATH_SEGMENT_LENGTH}자리로 이어 붙입니다.<p>
+     * 저장 전에는 부모 댓글의 경로(루트 댓글이면 null)를 담고, INSERT 시점에 {@link MaterializedPath}가
+     * 할당된 ID 구간을 덧붙입니다.
+     */
+    @MaterializedPath
+    @Column(nullable = false, length = MAX_PATH_LENGTH)
+    private String path;
+
+    /**
+     * 댓글의 깊이입니다. 루트 댓글은 0, 그 답글은 1입니다.
+     */
+    @Column(nullable = false)
+    private int depth;
+
+    /**
+     * 이 댓글에 바로 달린 활성 답글 수입니다. 답글 작성과 삭제 시 함께 갱신합니다.
+     */
+    @Column(name = "reply_count", nullable = false)
+    private int replyCount;
+
     /**
      * 댓글의 내용입니다.
      */
@@ -91,6 +142,16 @@ public class Comment {
         this.status = Status.ACTIVE;
     }
 
+    /**
+     * 댓글 ID를 경로 구간으로 변환합니다.
+     *
+     * @param id 댓글 ID
+     * @return {@value #PATH_SEGMENT_LENGTH}자리로 0을 채운 ID
+     */
+    public static String pathSegment(long id) {
+        return String.format("%0" + PATH_SEGMENT_LENGTH + "d", id);
+    }
+
     /**
      * 댓글을 삭제 상태로 변경합니다.
      */
@@ -0,0 +1,20 @@
+package com.minseok.enigma.enigma.entity;
+
+import org.hibernate.annotations.ValueGenerationType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 댓글 경로 컬럼에 INSERT 시점의 댓글 ID 구간을 덧붙이도록 표시합니다.<p>
+ * ID가 persist 시점에 할당되므로 저장 전에는 부모 경로만 알 수 있고, 자기 구간은 INSERT 직전에 채웁니다.
+ *
+ * @see MaterializedPathGenerator
+ */
+@ValueGenerationType(generatedBy = MaterializedPathGenerator.class)
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.FIELD, ElementType.METHOD})
+public @interface MaterializedPath {
+}
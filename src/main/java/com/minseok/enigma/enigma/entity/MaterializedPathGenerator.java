@@ -0,0 +1,27 @@
+package com.minseok.enigma.enigma.entity;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+
+import java.util.EnumSet;
+
+/**
+ * 댓글의 경로를 완성하는 생성기입니다.<p>
+ * 현재 값(부모 경로, 루트 댓글이면 null) 뒤에 할당된 댓글 ID 구간을 덧붙입니다.
+ * 메모리에서 값을 만들어 INSERT 문에 함께 담으므로 별도의 UPDATE가 발생하지 않습니다.
+ */
+public class MaterializedPathGenerator implements BeforeExecutionGenerator {
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue, EventType eventType) {
+        Comment comment = (Comment) owner;
+        String parentPath = currentValue == null ? "" : (String) currentValue;
+        return parentPath + Comment.pathSegment(comment.getId());
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EnumSet.of(EventType.INSERT);
+    }
+}
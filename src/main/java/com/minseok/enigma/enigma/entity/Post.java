@@ -1,16 +1,21 @@
 package com.minseok.enigma.enigma.entity;
 
+import com.minseok.enigma.enigma.util.ExcerptUtil;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.SQLRestriction;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 /**
- * 커뮤니티 게시글을 나타내는 클래스입니다.
+ * 커뮤니티 게시글을 나타내는 클래스입니다.<p>
+ * 삭제 상태(DELETED)의 게시글은 엔티티를 대상으로 하는 모든 조회에서 자동으로 제외되며,
+ * 일정 기간이 지나면 {@link com.minseok.enigma.enigma.service.DeletedRowArchiver}가 보관 테이블로 옮깁니다.
  */
 @Entity
+@SQLRestriction("status <> 'DELETED'")
 @Table(name = "posts")
 @Getter
 @Setter
@@ -23,7 +28,10 @@ public class Post {
      * 게시글의 고유 ID입니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "post_id_generator")
+    @TableGenerator(name = "post_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "posts",
+            allocationSize = 50)
     private Long id;
 
     /**
@@ -33,11 +41,19 @@ public class Post {
     private String title;
 
     /**
-     * 게시글의 내용입니다.
+     * 게시글의 내용입니다.<p>
+     * 목록 조회에서는 읽지 않으므로 지연 로딩하며, 처음 접근할 때 별도로 조회됩니다.
      */
+    @Basic(fetch = FetchType.LAZY)
     @Column(columnDefinition = "TEXT")
     private String content;
 
+    /**
+     * 목록 응답에 사용하는 본문 요약입니다. 본문을 저장할 때 함께 계산됩니다.
+     */
+    @Column(name = "excerpt")
+    private String excerpt;
+
     /**
      * 게시글 작성자입니다.
      */
@@ -51,6 +67,20 @@ public class Post {
     @Column(name = "view_count", nullable = false)
     private int viewCount = 0;
 
+    /**
+     * 게시글에 달린 활성 댓글 수입니다.<p>
+     * 댓글 작성/삭제 시 단일 UPDATE 문으로 증감하며, 엔티티를 통해 직접 변경하지 않습니다.
+     */
+    @Builder.Default
+    @Column(name = "comment_count", nullable = false)
+    private int commentCount = 0;
+
+    /**
+     * 게시글에 마지막으로 활성 댓글이 작성된 날짜와 시간입니다.
+     */
+    @Column(name = "last_comment_at")
+    private LocalDateTime lastCommentAt;
+
     /**
      * 게시글이 생성된 날짜와 시간입니다.
      */
@@ -84,7 +114,7 @@ public class Post {
      * 게시글의 학교 수준입니다.
      */
     @Enumerated(EnumType.STRING)
-    @Column(nullable = false)
+    @Column(name = "school_level", nullable = false)
     private SchoolLevel schoolLevel;
 
     /**
@@ -100,13 +130,35 @@ public class Post {
     public Post(String title, String content, User author, PostCategory postCategory, SchoolLevel schoolLevel) {
         this.title = title;
         this.content = content;
+        this.excerpt = ExcerptUtil.of(content);
         this.author = author;
         this.postCategory = postCategory;
         this.schoolLevel = schoolLevel;
         this.viewCount = 0;
+        this.commentCount = 0;
         this.status = Status.ACTIVE;
     }
 
+    /**
+     * 게시글의 내용을 변경하고 요약을 다시 계산합니다.
+     *
+     * @param content 게시글의 내용
+     */
+    public void setContent(String content) {
+        this.content = content;
+        this.excerpt = ExcerptUtil.of(content);
+    }
+
+    /**
+     * 요약이 채워지지 않은 채 저장되는 경우(빌더로 생성한 경우 등) 본문으로부터 요약을 계산합니다.
+     */
+    @PrePersist
+    void fillExcerpt() {
+        if (excerpt == null) {
+            excerpt = ExcerptUtil.of(content);
+        }
+    }
+
     /**
      * 게시글을 삭제 상태로 변경합니다.
      */
@@ -115,7 +167,8 @@ public class Post {
     }
 
     /**
-     * 게시글의 조회수를 1 증가시킵니다.
+     * 게시글의 조회수를 1 증가시킵니다.<p>
+     * 조회 요청 경로에서는 행 잠금을 피하기 위해 PostViewCountService를 통해 증가분을 모아서 반영합니다.
      */
     public void incrementViewCount() {
         this.viewCount++;
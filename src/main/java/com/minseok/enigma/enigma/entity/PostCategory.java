@@ -2,14 +2,19 @@ package com.minseok.enigma.enigma.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 import java.util.List;
 
 
 /**
- * 커뮤니티 게시글의 카테고리를 나타내는 클래스입니다.
+ * 커뮤니티 게시글의 카테고리를 나타내는 클래스입니다.<p>
+ * 변경이 드물어 2차 캐시(categories 영역)에 둡니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "categories")
 @Table(name = "categories")
 @Getter
 @Setter
@@ -22,7 +27,10 @@ public class PostCategory {
      * 카테고리의 고유 ID입니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "category_id_generator")
+    @TableGenerator(name = "category_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "categories",
+            allocationSize = 50)
     private Long id;
 
     /**
@@ -2,6 +2,8 @@ package com.minseok.enigma.enigma.entity;
 
 import jakarta.persistence.*;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,9 +12,13 @@ import java.util.HashSet;
 import java.util.Set;
 
 /**
- * 커뮤니티 사용자를 나타내는 클래스입니다.
+ * 커뮤니티 사용자를 나타내는 클래스입니다.<p>
+ * 거의 모든 요청이 ID로 사용자를 조회하므로 2차 캐시(users 영역)에 둡니다.
+ * 엔티티를 통한 변경은 READ_WRITE 전략으로 커밋 시 캐시에 반영됩니다.
  */
 @Entity
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "users")
 @Table(name = "users")
 @Getter
 @Setter
@@ -25,7 +31,10 @@ public class User {
      * 사용자의 고유 ID입니다.
      */
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = "id_generators",
+            pkColumnName = "sequence_name", valueColumnName = "next_val", pkColumnValue = "users",
+            allocationSize = 50)
     private Long id;
 
     /**
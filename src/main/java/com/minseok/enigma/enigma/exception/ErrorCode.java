@@ -12,7 +12,21 @@ public enum ErrorCode {
     USER_NOT_FOUND(HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."),
     CATEGORY_NOT_FOUND(HttpStatus.NOT_FOUND, "카테고리를 찾을 수 없습니다."),
     INVALID_ACCESS(HttpStatus.FORBIDDEN, "동일한 학교 수준에서만 활동할 수 있습니다."),
-    POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다.");
+    POST_NOT_FOUND(HttpStatus.NOT_FOUND, "게시글을 찾을 수 없습니다."),
+    INVALID_CURSOR(HttpStatus.BAD_REQUEST, "잘못된 커서입니다."),
+    POST_ACCESS_DENIED(HttpStatus.FORBIDDEN, "게시글 작성자만 삭제할 수 있습니다."),
+    INVALID_SEARCH_QUERY(HttpStatus.BAD_REQUEST, "검색어를 입력해 주세요."),
+    COMMENT_NOT_FOUND(HttpStatus.NOT_FOUND, "댓글을 찾을 수 없습니다."),
+    COMMENT_ACCESS_DENIED(HttpStatus.FORBIDDEN, "댓글 작성자만 삭제할 수 있습니다."),
+    INVALID_REPLY(HttpStatus.BAD_REQUEST, "답글을 달 수 없는 댓글입니다."),
+    INVALID_IMPORT_FORMAT(HttpStatus.BAD_REQUEST, "가져올 데이터의 형식이 올바르지 않습니다."),
+    TOO_MANY_PREVIEW_POSTS(HttpStatus.BAD_REQUEST, "한 번에 미리보기를 요청할 수 있는 게시글 수를 초과했습니다."),
+    COMMENT_WRITE_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "댓글 작성 요청이 많습니다. 잠시 후 다시 시도해 주세요."),
+    COMMENT_WRITE_TIMEOUT(HttpStatus.GATEWAY_TIMEOUT, "댓글 저장 결과를 확인하지 못했습니다. 잠시 후 댓글 목록을 확인해 주세요."),
+    COMMENT_STREAM_BUSY(HttpStatus.SERVICE_UNAVAILABLE, "실시간 댓글 구독자가 많습니다. 잠시 후 다시 시도해 주세요."),
+    INVALID_FRIEND(HttpStatus.BAD_REQUEST, "자기 자신은 친구로 추가할 수 없습니다."),
+    TOO_MANY_FRIENDS(HttpStatus.BAD_REQUEST, "한 번에 추가할 수 있는 친구 수를 초과했습니다."),
+    INVALID_AVAILABILITY_QUERY(HttpStatus.BAD_REQUEST, "확인할 사용자 이름 또는 이메일을 입력해 주세요.");
 
     private final HttpStatus status;
     private final String message;
@@ -0,0 +1,235 @@
+package com.minseok.enigma.enigma.friend;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 사용자 간 친구 관계(user_friends)를 메모리에 유지하는 인접 리스트입니다.<p>
+ * 사용자마다 친구 ID를 오름차순으로 정렬한 long[] 배열로 들고 있어 박싱 없이 저장하며,
+ * 두 사용자의 공통 친구 수는 정렬된 두 배열을 한 번씩 훑는 교집합으로 계산합니다.
+ * 배열은 불변으로 다루고 변경 시 새 배열로 교체(copy-on-write)하므로 읽기는 잠금 없이 이루어집니다.
+ */
+public class FriendGraph {
+
+    private static final long[] NO_FRIENDS = new long[0];
+    private static final int UNKNOWN_COHORT = -1;
+
+    private static final Comparator<Suggestion> WEAKEST_FIRST = Comparator
+            .comparingInt(Suggestion::mutualFriendCount)
+            .thenComparing(Comparator.comparingLong(Suggestion::userId).reversed());
+
+    private final Map<Long, Node> nodes = new ConcurrentHashMap<>();
+
+    /**
+     * 사용자 한 명의 친구 배열과 학교 수준/학년 묶음입니다.
+     *
+     * @param friends 오름차순으로 정렬된 친구 ID 배열 (불변)
+     * @param cohort 학교 수준과 학년을 합친 값 (모르면 -1)
+     */
+    private record Node(long[] friends, int cohort) {
+    }
+
+    /**
+     * 추천 친구입니다.
+     *
+     * @param userId 추천 사용자 ID
+     * @param mutualFriendCount 공통 친구 수
+     */
+    public record Suggestion(long userId, int mutualFriendCount) {
+    }
+
+    /**
+     * 사용자를 등록하거나 학교 수준과 학년을 갱신합니다. 친구 목록은 유지됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     */
+    public void putUser(long userId, SchoolLevel schoolLevel, int grade) {
+        int cohort = cohort(schoolLevel, grade);
+        nodes.compute(userId, (key, node) -> new Node(node == null ? NO_FRIENDS : node.friends(), cohort));
+    }
+
+    /**
+     * 친구 배열을 통째로 설정합니다. DB에서 색인을 만들 때 사용합니다.
+     *
+     * @param userId 사용자 ID
+     * @param sortedFriends 오름차순으로 정렬된 중복 없는 친구 ID 배열
+     */
+    void setFriends(long userId, long[] sortedFriends) {
+        nodes.compute(userId, (key, node) -> new Node(sortedFriends, node == null ? UNKNOWN_COHORT : node.cohort()));
+    }
+
+    /**
+     * 친구를 추가합니다. 이미 친구이면 아무것도 바꾸지 않습니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendId 친구 ID
+     */
+    public void addFriend(long userId, long friendId) {
+        nodes.compute(userId, (key, node) -> {
+            long[] friends = node == null ? NO_FRIENDS : node.friends();
+            int index = Arrays.binarySearch(friends, friendId);
+            if (index >= 0) {
+                return node;
+            }
+            int insertAt = -index - 1;
+            long[] added = new long[friends.length + 1];
+            System.arraycopy(friends, 0, added, 0, insertAt);
+            added[insertAt] = friendId;
+            System.arraycopy(friends, insertAt, added, insertAt + 1, friends.length - insertAt);
+            return new Node(added, node == null ? UNKNOWN_COHORT : node.cohort());
+        });
+    }
+
+    /**
+     * 친구를 제거합니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendId 친구 ID
+     */
+    public void removeFriend(long userId, long friendId) {
+        nodes.computeIfPresent(userId, (key, node) -> {
+            long[] friends = node.friends();
+            int index = Arrays.binarySearch(friends, friendId);
+            if (index < 0) {
+                return node;
+            }
+            long[] removed = new long[friends.length - 1];
+            System.arraycopy(friends, 0, removed, 0, index);
+            System.arraycopy(friends, index + 1, removed, index, friends.length - index - 1);
+            return new Node(removed, node.cohort());
+        });
+    }
+
+    /**
+     * 사용자의 친구 ID를 오름차순으로 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 친구 ID 배열 (복사본)
+     */
+    public long[] getFriends(long userId) {
+        Node node = nodes.get(userId);
+        return node == null ? NO_FRIENDS : node.friends().clone();
+    }
+
+    /**
+     * 두 사용자의 공통 친구 수를 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @param otherId 다른 사용자 ID
+     * @return 공통 친구 수
+     */
+    public int countMutualFriends(long userId, long otherId) {
+        Node node = nodes.get(userId);
+        Node other = nodes.get(otherId);
+        if (node == null || other == null) {
+            return 0;
+        }
+        return intersectionSize(node.friends(), other.friends());
+    }
+
+    /**
+     * 같은 학교 수준, 같은 학년의 친구의 친구 가운데 아직 친구가 아닌 사용자를 공통 친구 수 순으로 추천합니다.<p>
+     * 친구들의 친구 배열에서 후보를 모아 정렬한 뒤 중복을 없애고, 후보마다 정렬된 친구 배열끼리 교집합 크기를 구합니다.
+     * 상위 limit명만 크기 limit의 힙에 남기므로 후보가 많아도 정렬 비용은 작게 유지됩니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit 최대 추천 수
+     * @return 공통 친구 수 내림차순(같으면 ID 오름차순)으로 정렬된 추천 목록
+     */
+    public List<Suggestion> suggest(long userId, int limit) {
+        Node node = nodes.get(userId);
+        if (node == null || node.friends().length == 0 || node.cohort() == UNKNOWN_COHORT || limit <= 0) {
+            return List.of();
+        }
+        long[] friends = node.friends();
+
+        long[] candidates = new long[16];
+        int count = 0;
+        for (long friendId : friends) {
+            Node friend = nodes.get(friendId);
+            if (friend == null) {
+                continue;
+            }
+            for (long candidateId : friend.friends()) {
+                if (candidateId == userId || Arrays.binarySearch(friends, candidateId) >= 0) {
+                    continue;
+                }
+                if (count == candidates.length) {
+                    candidates = Arrays.copyOf(candidates, count * 2);
+                }
+                candidates[count++] = candidateId;
+            }
+        }
+        Arrays.sort(candidates, 0, count);
+
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(limit + 1, WEAKEST_FIRST);
+        for (int i = 0; i < count; i++) {
+            if (i > 0 && candidates[i] == candidates[i - 1]) {
+                continue;
+            }
+            Node candidate = nodes.get(candidates[i]);
+            if (candidate == null || candidate.cohort() != node.cohort()) {
+                continue;
+            }
+            int mutual = intersectionSize(friends, candidate.friends());
+            if (mutual == 0) {
+                continue;
+            }
+            top.add(new Suggestion(candidates[i], mutual));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Suggestion> suggestions = new ArrayList<>(top);
+        suggestions.sort(WEAKEST_FIRST.reversed());
+        return suggestions;
+    }
+
+    /**
+     * 등록된 사용자 수를 반환합니다.
+     *
+     * @return 사용자 수
+     */
+    public int size() {
+        return nodes.size();
+    }
+
+    /**
+     * 오름차순으로 정렬된 두 배열의 교집합 크기를 구합니다.
+     *
+     * @param a 정렬된 배열
+     * @param b 정렬된 배열
+     * @return 두 배열에 모두 있는 값의 개수
+     */
+    static int intersectionSize(long[] a, long[] b) {
+        int i = 0;
+        int j = 0;
+        int size = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) {
+                i++;
+            } else if (a[i] > b[j]) {
+                j++;
+            } else {
+                size++;
+                i++;
+                j++;
+            }
+        }
+        return size;
+    }
+
+    private static int cohort(SchoolLevel schoolLevel, int grade) {
+        return schoolLevel.ordinal() * 100 + grade;
+    }
+}
@@ -0,0 +1,149 @@
+package com.minseok.enigma.enigma.friend;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.util.RebuildableSnapshot;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 전체 친구 관계를 메모리에 유지하는 컴포넌트입니다.<p>
+ * 시작 시 users와 user_friends를 스트리밍으로 읽어 {@link FriendGraph}를 만들고,
+ * 이후에는 친구 추가/삭제와 사용자 가입/수정 시 증분으로 갱신합니다.
+ * 주기적으로 DB로부터 다시 만들어 교체하며({@link RebuildableSnapshot}), 증분 갱신은 DB 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendGraphIndex {
+
+    private static final String SELECT_USERS_SQL = "SELECT id, school_level, grade FROM users";
+    private static final String SELECT_FRIENDS_SQL = "SELECT user_id, friend_id FROM user_friends ORDER BY user_id, friend_id";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private final RebuildableSnapshot<FriendGraph> graph = new RebuildableSnapshot<>(new FriendGraph());
+
+    /**
+     * 사용자를 등록하거나 학교 수준과 학년을 갱신합니다.
+     *
+     * @param userId 사용자 ID
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     */
+    public void putUser(Long userId, SchoolLevel schoolLevel, int grade) {
+        graph.apply(current -> current.putUser(userId, schoolLevel, grade));
+    }
+
+    /**
+     * 친구 관계를 추가합니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendId 친구 ID
+     */
+    public void addFriend(Long userId, Long friendId) {
+        graph.apply(current -> current.addFriend(userId, friendId));
+    }
+
+    /**
+     * 친구 관계를 제거합니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendId 친구 ID
+     */
+    public void removeFriend(Long userId, Long friendId) {
+        graph.apply(current -> current.removeFriend(userId, friendId));
+    }
+
+    /**
+     * 사용자의 친구 ID를 오름차순으로 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 친구 ID 배열
+     */
+    public long[] getFriends(Long userId) {
+        return graph.get().getFriends(userId);
+    }
+
+    /**
+     * 같은 학교 수준, 같은 학년의 친구의 친구를 공통 친구 수 순으로 추천합니다.
+     *
+     * @param userId 사용자 ID
+     * @param limit 최대 추천 수
+     * @return 추천 목록
+     */
+    public List<FriendGraph.Suggestion> suggest(Long userId, int limit) {
+        return graph.get().suggest(userId, limit);
+    }
+
+    /**
+     * 애플리케이션 시작 시 그래프를 만듭니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        rebuild();
+    }
+
+    /**
+     * DB의 사용자와 친구 관계 전체로 새 그래프를 만들어 교체합니다.<p>
+     * 친구 관계는 기본 키(user_id, friend_id) 순으로 읽으므로 사용자별 친구 배열이 이미 정렬된 상태로 채워집니다.
+     */
+    @Scheduled(cron = "${enigma.friend-graph.rebuild-cron:0 15 4 * * *}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        FriendGraph rebuilt = graph.rebuild(this::load);
+        log.info("친구 그래프를 다시 만들었습니다. users={}, elapsedMs={}", rebuilt.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    private FriendGraph load() {
+        FriendGraph loaded = new FriendGraph();
+        RebuildableSnapshot.stream(jdbcTemplate, SELECT_USERS_SQL, RebuildableSnapshot.DEFAULT_FETCH_SIZE,
+                rs -> loaded.putUser(rs.getLong("id"), SchoolLevel.valueOf(rs.getString("school_level")), rs.getInt("grade")));
+
+        FriendsCollector collector = new FriendsCollector(loaded);
+        RebuildableSnapshot.stream(jdbcTemplate, SELECT_FRIENDS_SQL, RebuildableSnapshot.DEFAULT_FETCH_SIZE,
+                rs -> collector.add(rs.getLong("user_id"), rs.getLong("friend_id")));
+        collector.finish();
+        return loaded;
+    }
+
+    /**
+     * 사용자 ID 순으로 읽은 친구 관계를 사용자별 배열로 모읍니다.
+     */
+    private static final class FriendsCollector {
+
+        private final FriendGraph target;
+        private long currentUserId = -1;
+        private long[] buffer = new long[64];
+        private int size;
+
+        private FriendsCollector(FriendGraph target) {
+            this.target = target;
+        }
+
+        void add(long userId, long friendId) {
+            if (userId != currentUserId) {
+                finish();
+                currentUserId = userId;
+            }
+            if (size == buffer.length) {
+                buffer = Arrays.copyOf(buffer, size * 2);
+            }
+            buffer[size++] = friendId;
+        }
+
+        void finish() {
+            if (size > 0) {
+                target.setFriends(currentUserId, Arrays.copyOf(buffer, size));
+            }
+            size = 0;
+        }
+    }
+}
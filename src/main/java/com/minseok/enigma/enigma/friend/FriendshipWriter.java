@@ -0,0 +1,92 @@
+package com.minseok.enigma.enigma.friend;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * user_friends 테이블에 친구 관계 행을 직접 추가/삭제하는 컴포넌트입니다.<p>
+ * User 엔티티의 friends 컬렉션을 거치면 관계 하나를 바꾸는 데도 컬렉션 전체를 읽고 다시 쓰게 되므로,
+ * 바뀌는 행만 단건 SQL로 다룹니다. 친구 관계는 양방향이라 두 방향의 행을 함께 추가하고 삭제합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class FriendshipWriter {
+
+    /**
+     * 이미 있는 관계는 건너뛰는 추가 문장입니다. 기본 키가 겹치는 행은 예외 없이 건너뛰고 영향받은 행 수 0을 돌려주므로,
+     * 같은 관계를 동시에 추가해도 배치 중간에서 실패하지 않습니다.
+     */
+    private static final String INSERT_SQL = "INSERT IGNORE INTO user_friends (user_id, friend_id) VALUES (?, ?)";
+    private static final String DELETE_SQL = "DELETE FROM user_friends " +
+            "WHERE (user_id = ? AND friend_id = ?) OR (user_id = ? AND friend_id = ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 두 사용자를 서로 친구로 추가합니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendId 친구 ID
+     * @return 이번 호출로 관계 행이 추가되었으면 true, 이미 친구였으면 false
+     */
+    public boolean add(long userId, long friendId) {
+        return !addAll(userId, List.of(friendId)).isEmpty();
+    }
+
+    /**
+     * 여러 사용자를 한 번에 서로 친구로 추가합니다. 두 방향의 행을 하나의 배치 문장으로 보냅니다.<p>
+     * 이미 있는 행(동시에 다른 요청이 넣은 행 포함)은 건너뛰며, 두 방향 중 한 행이라도 실제로 추가된 친구만 반환합니다.
+     * 드라이버가 행 수를 알려 주지 않으면({@link Statement#SUCCESS_NO_INFO}) 추가된 것으로 봅니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendIds 친구 ID 목록 (중복 없이, 존재하는 사용자만)
+     * @return 이번 호출로 관계 행이 추가된 친구 ID 목록
+     */
+    public List<Long> addAll(long userId, Collection<Long> friendIds) {
+        if (friendIds.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = List.copyOf(friendIds);
+        List<Object[]> batchArgs = new ArrayList<>(ids.size() * 2);
+        for (Long friendId : ids) {
+            batchArgs.add(new Object[]{userId, friendId});
+            batchArgs.add(new Object[]{friendId, userId});
+        }
+        int[] counts = jdbcTemplate.batchUpdate(INSERT_SQL, batchArgs);
+
+        List<Long> added = new ArrayList<>(ids.size());
+        for (int i = 0; i < ids.size(); i++) {
+            if (isWritten(counts[i * 2]) || isWritten(counts[i * 2 + 1])) {
+                added.add(ids.get(i));
+            }
+        }
+        if (added.size() < ids.size()) {
+            log.debug("이미 있는 친구 관계를 건너뛰었습니다. userId={}, requested={}, added={}", userId, ids.size(), added.size());
+        }
+        return added;
+    }
+
+    private static boolean isWritten(int count) {
+        return count > 0 || count == Statement.SUCCESS_NO_INFO;
+    }
+
+    /**
+     * 두 사용자의 친구 관계를 양방향 모두 삭제합니다.
+     *
+     * @param userId 사용자 ID
+     * @param friendId 친구 ID
+     * @return 삭제된 행 수
+     */
+    public int remove(long userId, long friendId) {
+        return jdbcTemplate.update(DELETE_SQL, userId, friendId, friendId, userId);
+    }
+}
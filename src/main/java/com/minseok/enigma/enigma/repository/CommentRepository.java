@@ -4,10 +4,27 @@ import com.minseok.enigma.enigma.entity.Comment;
 import com.minseok.enigma.enigma.entity.Post;
 import com.minseok.enigma.enigma.entity.Status;
 import com.minseok.enigma.enigma.entity.User;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.repository.projection.CommentExportView;
+import com.minseok.enigma.enigma.repository.projection.CommentPathView;
+import com.minseok.enigma.enigma.repository.projection.CommentThreadView;
+import com.minseok.enigma.enigma.repository.projection.CommentView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Comment 엔티티에 대한 Repository 인터페이스입니다.
@@ -25,12 +42,15 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
     List<Comment> findByPost(Post post);
 
     /**
-     * 특정 게시글에 달린 활성 상태의 댓글 목록을 조회합니다.
+     * 특정 게시글에 달린 활성 상태의 댓글 목록을 조회합니다.<p>
+     * 응답 변환 시 작성자 이름이 필요하므로 작성자를 함께 조회합니다.
      *
      * @param post 댓글이 달린 게시글
      * @param status 댓글의 상태
      * @return 해당 게시글에 달린 활성 상태의 댓글 목록
      */
+    @EntityGraph(attributePaths = {"user"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Comment> findByPostAndStatus(Post post, Status status);
 
     /**
@@ -48,5 +68,183 @@ public interface CommentRepository extends JpaRepository<Comment, Long> {
      * @param status 댓글의 상태
      * @return 해당 사용자가 작성한 활성 상태의 댓글 목록
      */
+    @EntityGraph(attributePaths = {"user"})
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
     List<Comment> findByUserAndStatus(User user, Status status);
-}
\ No newline at end of file
+
+    /**
+     * 특정 게시글에 달린 댓글의 첫 페이지를 작성 순으로 조회합니다.<p>
+     * 응답에 필요한 컬럼만 프로젝션으로 가져옵니다.
+     *
+     * @param postId 게시글 ID
+     * @param status 댓글의 상태
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 작성 순으로 정렬된 댓글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentView(" +
+            "c.id, c.content, u.userName, c.post.id, c.createdAt, c.updatedAt, c.status, c.schoolLevel) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id = :postId AND c.status = :status " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentView> findViewsByPostId(@Param("postId") Long postId,
+                                        @Param("status") Status status,
+                                        Pageable pageable);
+
+    /**
+     * 지정한 시각 이후에 작성된 댓글을 작성 순으로 조회합니다.<p>
+     * 작성 순 커서 페이지네이션에서 사용합니다. 생성 시각은 커밋이 아니라 INSERT 시점에 찍히므로, 커서가 지나간 시각으로 찍힌 댓글이
+     * 그 뒤에 커밋될 수 있습니다. 그래서 마지막으로 내려준 시각보다 조금 앞에서부터 다시 읽고, 이미 내려준 댓글은 호출하는 쪽에서 거릅니다.
+     * OFFSET 없이 인덱스 범위 탐색으로 이어서 읽으므로 댓글이 아무리 많아도 페이지 비용이 같습니다.
+     *
+     * @param postId 게시글 ID
+     * @param status 댓글의 상태
+     * @param since 이 시각 이후(포함)에 작성된 댓글만 조회
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 작성 순으로 정렬된 댓글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentView(" +
+            "c.id, c.content, u.userName, c.post.id, c.createdAt, c.updatedAt, c.status, c.schoolLevel) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id = :postId AND c.status = :status AND c.createdAt >= :since " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    List<CommentView> findViewsByPostIdSince(@Param("postId") Long postId,
+                                             @Param("status") Status status,
+                                             @Param("since") LocalDateTime since,
+                                             Pageable pageable);
+
+    /**
+     * 특정 게시글에 달린 댓글의 첫 페이지를 최신순으로 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param status 댓글의 상태
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 최신순으로 정렬된 댓글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentView(" +
+            "c.id, c.content, u.userName, c.post.id, c.createdAt, c.updatedAt, c.status, c.schoolLevel) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id = :postId AND c.status = :status " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findLatestViewsByPostId(@Param("postId") Long postId,
+                                              @Param("status") Status status,
+                                              Pageable pageable);
+
+    /**
+     * 커서(생성 시각, ID) 이전에 작성된 댓글을 최신순으로 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param status 댓글의 상태
+     * @param createdAt 커서의 생성 시각
+     * @param id 커서의 댓글 ID
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 커서보다 먼저 작성된 댓글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentView(" +
+            "c.id, c.content, u.userName, c.post.id, c.createdAt, c.updatedAt, c.status, c.schoolLevel) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id = :postId AND c.status = :status " +
+            "AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    List<CommentView> findLatestViewsByPostIdBefore(@Param("postId") Long postId,
+                                                    @Param("status") Status status,
+                                                    @Param("createdAt") LocalDateTime createdAt,
+                                                    @Param("id") Long id,
+                                                    Pageable pageable);
+
+    /**
+     * 여러 게시글 각각의 최신 댓글을 최대 limit개씩 한 번의 쿼리로 조회합니다.<p>
+     * 게시글별로 ROW_NUMBER() 윈도 함수로 최신순 순번을 매긴 뒤 순번이 limit 이하인 댓글만 남기므로,
+     * 피드 한 페이지의 댓글 미리보기를 게시글 수와 관계없이 한 번의 왕복으로 가져옵니다.
+     *
+     * @param postIds 게시글 ID 목록
+     * @param status 댓글의 상태
+     * @param limit 게시글당 댓글 수
+     * @return 게시글 ID 순, 게시글 안에서는 최신순으로 정렬된 댓글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentView(" +
+            "r.id, r.content, r.userName, r.postId, r.createdAt, r.updatedAt, r.status, r.schoolLevel) " +
+            "FROM (" +
+            "SELECT c.id AS id, c.content AS content, u.userName AS userName, c.post.id AS postId, " +
+            "c.createdAt AS createdAt, c.updatedAt AS updatedAt, c.status AS status, c.schoolLevel AS schoolLevel, " +
+            "ROW_NUMBER() OVER (PARTITION BY c.post.id ORDER BY c.createdAt DESC, c.id DESC) AS rowNumber " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id IN :postIds AND c.status = :status" +
+            ") r " +
+            "WHERE r.rowNumber <= :limit " +
+            "ORDER BY r.postId ASC, r.rowNumber ASC")
+    List<CommentView> findLatestViewsByPostIds(@Param("postIds") Collection<Long> postIds,
+                                               @Param("status") Status status,
+                                               @Param("limit") long limit);
+
+    /**
+     * 댓글의 게시글, 경로, 깊이만 조회합니다. 답글을 달 부모 댓글 확인과 하위 트리 조회에 사용합니다.
+     *
+     * @param id 댓글 ID
+     * @param status 댓글의 상태
+     * @return 댓글 위치 프로젝션
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentPathView(c.id, c.post.id, c.path, c.depth) " +
+            "FROM Comment c WHERE c.id = :id AND c.status = :status")
+    Optional<CommentPathView> findPathViewById(@Param("id") Long id, @Param("status") Status status);
+
+    /**
+     * 게시글의 댓글을 스레드 표시 순서(경로 순)로 조회합니다.<p>
+     * 경로는 부모 경로 뒤에 자기 ID를 이어 붙인 값이므로 경로 순으로 읽으면 각 댓글 바로 뒤에 그 답글들이 이어집니다.
+     * pattern을 '%'로 주면 게시글 전체 스레드를, '부모 경로%'로 주면 해당 댓글의 하위 트리를 읽으며,
+     * 어느 쪽이든 (post_id, status, path) 인덱스의 한 범위만 탐색합니다. after는 이 경로 이후부터 읽는 커서입니다.
+     *
+     * @param postId 게시글 ID
+     * @param status 댓글의 상태
+     * @param pattern 경로 LIKE 패턴
+     * @param after 이 경로보다 뒤에 있는 댓글부터 조회 (처음부터면 빈 문자열)
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 경로 순으로 정렬된 댓글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentThreadView(" +
+            "c.id, c.parent.id, c.path, c.depth, c.replyCount, c.content, u.userName, c.post.id, " +
+            "c.createdAt, c.updatedAt, c.status, c.schoolLevel) " +
+            "FROM Comment c JOIN c.user u " +
+            "WHERE c.post.id = :postId AND c.status = :status AND c.path LIKE :pattern AND c.path > :after " +
+            "ORDER BY c.path ASC")
+    List<CommentThreadView> findThreadViews(@Param("postId") Long postId,
+                                            @Param("status") Status status,
+                                            @Param("pattern") String pattern,
+                                            @Param("after") String after,
+                                            Pageable pageable);
+
+    /**
+     * 댓글의 답글 수를 1 감소시킵니다. 답글이 삭제될 때 부모 댓글에 반영합니다.
+     *
+     * @param id 부모 댓글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 WHERE c.id = :id AND c.replyCount > 0")
+    int decrementReplyCount(@Param("id") Long id);
+
+    /**
+     * 내보내기 대상 댓글을 작성 순으로 스트리밍 조회합니다.<p>
+     * 게시글 내보내기와 마찬가지로 JDBC fetch size 단위로 읽으며, 스트림은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 합니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param status 댓글의 상태
+     * @param categoryId 댓글이 달린 게시글의 카테고리 ID (null이면 전체)
+     * @param from 이 시각 이후에 작성된 댓글 (null이면 제한 없음)
+     * @param to 이 시각 이전에 작성된 댓글 (null이면 제한 없음)
+     * @return 댓글 내보내기 프로젝션 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.CommentExportView(" +
+            "c.id, p.id, u.id, u.userName, c.content, c.createdAt, c.updatedAt, c.status, c.schoolLevel) " +
+            "FROM Comment c JOIN c.user u JOIN c.post p " +
+            "WHERE c.schoolLevel = :schoolLevel AND c.status = :status " +
+            "AND (:categoryId IS NULL OR p.postCategory.id = :categoryId) " +
+            "AND (:from IS NULL OR c.createdAt >= :from) " +
+            "AND (:to IS NULL OR c.createdAt < :to) " +
+            "ORDER BY c.createdAt ASC, c.id ASC")
+    Stream<CommentExportView> streamForExport(@Param("schoolLevel") SchoolLevel schoolLevel,
+                                              @Param("status") Status status,
+                                              @Param("categoryId") Long categoryId,
+                                              @Param("from") LocalDateTime from,
+                                              @Param("to") LocalDateTime to);
+}
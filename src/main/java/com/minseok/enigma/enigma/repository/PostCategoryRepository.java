@@ -1,7 +1,9 @@
 package com.minseok.enigma.enigma.repository;
 
 import com.minseok.enigma.enigma.entity.PostCategory;
+import com.minseok.enigma.enigma.repository.projection.PostCategoryView;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -30,4 +32,14 @@ public interface PostCategoryRepository extends JpaRepository<PostCategory, Long
      * @return 해당 이름과 활성 상태에 해당하는 카테고리
      */
     Optional<PostCategory> findByCodeAndIsActive(String code, boolean isActive);
-}
\ No newline at end of file
+
+    /**
+     * 모든 카테고리를 게시글 목록 없이 프로젝션으로 조회합니다.
+     *
+     * @return ID 순으로 정렬된 카테고리 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.PostCategoryView(" +
+            "c.id, c.code, c.name, c.description, c.isActive, c.schoolLevel) " +
+            "FROM PostCategory c ORDER BY c.id")
+    List<PostCategoryView> findAllViews();
+}
@@ -3,12 +3,25 @@ package com.minseok.enigma.enigma.repository;
 import com.minseok.enigma.enigma.entity.Post;
 import com.minseok.enigma.enigma.entity.Status;
 import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.repository.projection.PostDetailView;
+import com.minseok.enigma.enigma.repository.projection.PostExportView;
+import com.minseok.enigma.enigma.repository.projection.PostView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 
 /**
  * Post 엔티티에 대한 Repository 인터페이스입니다.
@@ -31,7 +44,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param status 게시글의 상태
      * @return 작성자에 해당하고 상태가 ACTIVE인 게시글 목록
      */
-    List<Post> findByAuthorId(Long authorId, Status status);
+    @Query("SELECT p FROM Post p WHERE p.author.id = :authorId AND p.status = :status")
+    List<Post> findByAuthorId(@Param("authorId") Long authorId, @Param("status") Status status);
 
     /**
      * 특정 카테고리의 활성화된 게시글 목록을 조회합니다.
@@ -40,7 +54,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param status 게시글의 상태
      * @return 카테고리에 해당하고 상태가 ACTIVE인 게시글 목록
      */
-    List<Post> findByPostCategoryId(Long categoryId, Status status);
+    @Query("SELECT p FROM Post p WHERE p.postCategory.id = :categoryId AND p.status = :status")
+    List<Post> findByPostCategoryId(@Param("categoryId") Long categoryId, @Param("status") Status status);
 
 
     /**
@@ -60,7 +75,8 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이징 정보
      * @return 작성자에 해당하는 게시글 목록 페이지
      */
-    Page<Post> findByAuthorId(Long authorId, Status status, Pageable pageable);
+    @Query("SELECT p FROM Post p WHERE p.author.id = :authorId AND p.status = :status")
+    Page<Post> findByAuthorId(@Param("authorId") Long authorId, @Param("status") Status status, Pageable pageable);
 
     /**
      * 특정 카테고리의 게시글 목록을 페이징하여 조회합니다.
@@ -70,7 +86,132 @@ public interface PostRepository extends JpaRepository<Post, Long> {
      * @param pageable 페이징 정보
      * @return 카테고리에 해당하는 게시글 목록 페이지
      */
-    Page<Post> findByPostCategoryId(Long categoryId, Status status, Pageable pageable);
+    @Query("SELECT p FROM Post p WHERE p.postCategory.id = :categoryId AND p.status = :status")
+    Page<Post> findByPostCategoryId(@Param("categoryId") Long categoryId, @Param("status") Status status, Pageable pageable);
 
+    /**
+     * 학교 수준에 해당하는 게시글을 조회합니다.<p>
+     * 삭제된 게시글은 엔티티의 조회 제한 조건에 따라 자동으로 제외됩니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @return 학교 수준에 해당하는 게시글 목록
+     */
     List<Post> findBySchoolLevel(SchoolLevel schoolLevel);
-}
\ No newline at end of file
+
+    /**
+     * 게시글의 학교 수준만 조회합니다. 게시글 존재 여부 확인을 겸합니다.
+     *
+     * @param id 게시글 ID
+     * @return 해당 게시글의 학교 수준
+     */
+    @Query("SELECT p.schoolLevel FROM Post p WHERE p.id = :id")
+    Optional<SchoolLevel> findSchoolLevelById(@Param("id") Long id);
+
+    /**
+     * 특정 학교 수준의 피드 첫 페이지를 최신순으로 조회합니다.<p>
+     * 작성자 이름과 카테고리 이름을 조인하여 응답에 필요한 컬럼만 프로젝션으로 가져오며, 본문 대신 요약을 읽습니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param status 게시글의 상태
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 최신순으로 정렬된 게시글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.PostView(" +
+            "p.id, p.title, p.excerpt, a.userName, c.name, p.viewCount, p.commentCount, p.lastCommentAt, p.createdAt, p.updatedAt, p.status, p.schoolLevel) " +
+            "FROM Post p LEFT JOIN p.author a LEFT JOIN p.postCategory c " +
+            "WHERE p.schoolLevel = :schoolLevel AND p.status = :status " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostView> findFeed(@Param("schoolLevel") SchoolLevel schoolLevel,
+                            @Param("status") Status status,
+                            Pageable pageable);
+
+    /**
+     * 커서(생성 시각, ID) 이후의 피드를 최신순으로 조회합니다.<p>
+     * OFFSET 없이 인덱스 범위 탐색으로 이어서 읽으므로 몇 번째 페이지든 비용이 같습니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param status 게시글의 상태
+     * @param createdAt 커서의 생성 시각
+     * @param id 커서의 게시글 ID
+     * @param pageable 조회할 개수 정보 (정렬은 쿼리에 고정)
+     * @return 커서보다 오래된 게시글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.PostView(" +
+            "p.id, p.title, p.excerpt, a.userName, c.name, p.viewCount, p.commentCount, p.lastCommentAt, p.createdAt, p.updatedAt, p.status, p.schoolLevel) " +
+            "FROM Post p LEFT JOIN p.author a LEFT JOIN p.postCategory c " +
+            "WHERE p.schoolLevel = :schoolLevel AND p.status = :status " +
+            "AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostView> findFeedAfter(@Param("schoolLevel") SchoolLevel schoolLevel,
+                                 @Param("status") Status status,
+                                 @Param("createdAt") LocalDateTime createdAt,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    /**
+     * 게시글 하나를 본문까지 포함해 상세 응답에 필요한 컬럼만 프로젝션으로 조회합니다.
+     *
+     * @param id 게시글 ID
+     * @return 게시글 상세 프로젝션
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.PostDetailView(" +
+            "p.id, p.title, p.content, a.userName, c.name, p.viewCount, p.commentCount, p.lastCommentAt, p.createdAt, p.updatedAt, p.status, p.schoolLevel) " +
+            "FROM Post p LEFT JOIN p.author a LEFT JOIN p.postCategory c " +
+            "WHERE p.id = :id")
+    Optional<PostDetailView> findDetailById(@Param("id") Long id);
+
+    /**
+     * 여러 게시글을 응답에 필요한 컬럼만 프로젝션으로 조회합니다. 결과 순서는 보장하지 않습니다.
+     *
+     * @param ids 게시글 ID 목록
+     * @return 게시글 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.PostView(" +
+            "p.id, p.title, p.excerpt, a.userName, c.name, p.viewCount, p.commentCount, p.lastCommentAt, p.createdAt, p.updatedAt, p.status, p.schoolLevel) " +
+            "FROM Post p LEFT JOIN p.author a LEFT JOIN p.postCategory c " +
+            "WHERE p.id IN :ids")
+    List<PostView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 게시글의 댓글 수를 1 감소시키고 마지막 댓글 작성 시각을 남은 활성 댓글 기준으로 다시 계산합니다.<p>
+     * 삭제된 댓글의 상태 변경이 먼저 반영되어야 하므로 실행 전에 영속성 컨텍스트를 flush합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 갱신된 행 수
+     */
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE Post p SET p.commentCount = CASE WHEN p.commentCount > 0 THEN p.commentCount - 1 ELSE 0 END, " +
+            "p.lastCommentAt = (SELECT MAX(c.createdAt) FROM Comment c " +
+            "WHERE c.post.id = :postId AND c.status = com.minseok.enigma.enigma.entity.Status.ACTIVE) " +
+            "WHERE p.id = :postId")
+    int decrementCommentCount(@Param("postId") Long postId);
+
+    /**
+     * 내보내기 대상 게시글을 작성 순으로 스트리밍 조회합니다.<p>
+     * 결과를 한 번에 메모리에 올리지 않고 JDBC fetch size 단위로 읽으며, 엔티티가 아닌 프로젝션이므로
+     * 영속성 컨텍스트에 쌓이지 않습니다. 스트림은 트랜잭션 안에서 소비한 뒤 반드시 닫아야 합니다.
+     * (MySQL에서 fetch size 단위로 읽으려면 접속 URL에 {@code useCursorFetch=true}가 필요합니다.)
+     *
+     * @param schoolLevel 학교 수준
+     * @param status 게시글의 상태
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param from 이 시각 이후에 작성된 게시글 (null이면 제한 없음)
+     * @param to 이 시각 이전에 작성된 게시글 (null이면 제한 없음)
+     * @return 게시글 내보내기 프로젝션 스트림
+     */
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"))
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.PostExportView(" +
+            "p.id, p.title, p.content, a.id, a.userName, c.id, c.name, p.viewCount, p.commentCount, " +
+            "p.createdAt, p.updatedAt, p.status, p.schoolLevel) " +
+            "FROM Post p LEFT JOIN p.author a LEFT JOIN p.postCategory c " +
+            "WHERE p.schoolLevel = :schoolLevel AND p.status = :status " +
+            "AND (:categoryId IS NULL OR c.id = :categoryId) " +
+            "AND (:from IS NULL OR p.createdAt >= :from) " +
+            "AND (:to IS NULL OR p.createdAt < :to) " +
+            "ORDER BY p.createdAt ASC, p.id ASC")
+    Stream<PostExportView> streamForExport(@Param("schoolLevel") SchoolLevel schoolLevel,
+                                           @Param("status") Status status,
+                                           @Param("categoryId") Long categoryId,
+                                           @Param("from") LocalDateTime from,
+                                           @Param("to") LocalDateTime to);
+}
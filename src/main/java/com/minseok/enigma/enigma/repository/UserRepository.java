@@ -2,15 +2,29 @@ package com.minseok.enigma.enigma.repository;
 
 import com.minseok.enigma.enigma.entity.SchoolLevel;
 import com.minseok.enigma.enigma.entity.User;
+import com.minseok.enigma.enigma.repository.projection.UserView;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    /**
+     * 자주 실행되는 사용자 조회 쿼리 결과를 담는 쿼리 캐시 영역입니다.<p>
+     * users 테이블이 Hibernate를 통해 변경되면 이 영역의 결과는 자동으로 무효화됩니다.
+     */
+    String USER_QUERY_CACHE_REGION = "user-queries";
+
     /**
      * 특정 학교 수준의 사용자 목록을 조회합니다.
      *
@@ -34,7 +48,9 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param user 특정 유저
      * @return 해당 유저의 친구 목록을 반환합니다.
      */
-    List<User> findFriendsByUser(User user);
+    @Query("SELECT f FROM User u JOIN u.friends f WHERE u = :user")
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<User> findFriendsByUser(@Param("user") User user);
 
     /**
      * 사용자 이름으로 사용자를 조회합니다.
@@ -42,6 +58,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param userName 사용자 이름
      * @return 해당 이름의 사용자
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERY_CACHE_REGION)
+    })
     Optional<User> findByUserName(String userName);
 
     /**
@@ -50,6 +70,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @param email 이메일 주소
      * @return 해당 이메일의 사용자
      */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERY_CACHE_REGION)
+    })
     Optional<User> findByEmail(String email);
 
     /**
@@ -67,4 +91,119 @@ public interface UserRepository extends JpaRepository<User, Long> {
      * @return 이메일 존재 여부
      */
     boolean existsByEmail(String email);
-}
\ No newline at end of file
+
+    /**
+     * 사용자의 학교 수준만 조회합니다.
+     *
+     * @param id 사용자 ID
+     * @return 해당 사용자의 학교 수준
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERY_CACHE_REGION)
+    })
+    @Query("SELECT u.schoolLevel FROM User u WHERE u.id = :id")
+    Optional<SchoolLevel> findSchoolLevelById(@Param("id") Long id);
+
+    /**
+     * 사용자 정보를 응답에 필요한 컬럼만 프로젝션으로 조회합니다.
+     *
+     * @param id 사용자 ID
+     * @return 사용자 프로젝션
+     */
+    @QueryHints({
+            @QueryHint(name = HibernateHints.HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HibernateHints.HINT_CACHE_REGION, value = USER_QUERY_CACHE_REGION)
+    })
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.UserView(" +
+            "u.id, u.userName, u.email, u.schoolLevel, u.grade, u.createdAt, u.updatedAt) " +
+            "FROM User u WHERE u.id = :id")
+    Optional<UserView> findViewById(@Param("id") Long id);
+
+    /**
+     * 특정 학교 수준과 학년의 사용자 목록을 프로젝션으로 조회합니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     * @return 해당 학교 수준과 학년의 사용자 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.UserView(" +
+            "u.id, u.userName, u.email, u.schoolLevel, u.grade, u.createdAt, u.updatedAt) " +
+            "FROM User u WHERE u.schoolLevel = :schoolLevel AND u.grade = :grade")
+    List<UserView> findViewsBySchoolLevelAndGrade(@Param("schoolLevel") SchoolLevel schoolLevel, @Param("grade") int grade);
+
+    /**
+     * 특정 학교 수준과 학년의 사용자를 ID 순으로 커서 페이지 조회합니다.<p>
+     * (school_level, grade, id) 인덱스 범위 탐색으로 처리됩니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     * @param afterId 이전 페이지 마지막 사용자 ID (첫 페이지는 0)
+     * @param pageable 조회 개수
+     * @return ID 오름차순 사용자 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.UserView(" +
+            "u.id, u.userName, u.email, u.schoolLevel, u.grade, u.createdAt, u.updatedAt) " +
+            "FROM User u WHERE u.schoolLevel = :schoolLevel AND u.grade = :grade AND u.id > :afterId " +
+            "ORDER BY u.id")
+    List<UserView> findDirectory(@Param("schoolLevel") SchoolLevel schoolLevel,
+                                 @Param("grade") int grade,
+                                 @Param("afterId") long afterId,
+                                 Pageable pageable);
+
+    /**
+     * 특정 학교 수준과 학년에서 아이디가 주어진 접두어로 시작하는 사용자를 아이디 순으로 커서 페이지 조회합니다.<p>
+     * (school_level, grade, user_name, id) 인덱스에서 접두어 범위를 탐색하고 (아이디, ID) 커서 이후부터 정렬된 순서대로 읽습니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     * @param pattern LIKE 패턴 (이스케이프한 접두어 뒤에 %)
+     * @param afterUserName 이전 페이지 마지막 사용자 아이디 (첫 페이지는 빈 문자열)
+     * @param afterId 이전 페이지 마지막 사용자 ID (첫 페이지는 0)
+     * @param pageable 조회 개수
+     * @return 아이디, ID 오름차순 사용자 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.UserView(" +
+            "u.id, u.userName, u.email, u.schoolLevel, u.grade, u.createdAt, u.updatedAt) " +
+            "FROM User u WHERE u.schoolLevel = :schoolLevel AND u.grade = :grade " +
+            "AND u.userName LIKE :pattern ESCAPE '!' " +
+            "AND (u.userName > :afterUserName OR (u.userName = :afterUserName AND u.id > :afterId)) " +
+            "ORDER BY u.userName, u.id")
+    List<UserView> findDirectoryByUserNamePrefix(@Param("schoolLevel") SchoolLevel schoolLevel,
+                                                 @Param("grade") int grade,
+                                                 @Param("pattern") String pattern,
+                                                 @Param("afterUserName") String afterUserName,
+                                                 @Param("afterId") long afterId,
+                                                 Pageable pageable);
+
+    /**
+     * 특정 사용자의 친구 목록을 프로젝션으로 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 친구 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.UserView(" +
+            "f.id, f.userName, f.email, f.schoolLevel, f.grade, f.createdAt, f.updatedAt) " +
+            "FROM User u JOIN u.friends f WHERE u.id = :userId")
+    List<UserView> findFriendViewsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 여러 사용자를 ID로 한 번에 프로젝션으로 조회합니다.
+     *
+     * @param ids 사용자 ID 목록
+     * @return ID 순으로 정렬된 사용자 프로젝션 목록
+     */
+    @Query("SELECT new com.minseok.enigma.enigma.repository.projection.UserView(" +
+            "u.id, u.userName, u.email, u.schoolLevel, u.grade, u.createdAt, u.updatedAt) " +
+            "FROM User u WHERE u.id IN :ids ORDER BY u.id")
+    List<UserView> findViewsByIdIn(@Param("ids") Collection<Long> ids);
+
+    /**
+     * 주어진 ID 가운데 실제로 존재하는 사용자 ID만 조회합니다.
+     *
+     * @param ids 사용자 ID 목록
+     * @return 존재하는 사용자 ID 목록
+     */
+    @Query("SELECT u.id FROM User u WHERE u.id IN :ids")
+    List<Long> findIdsByIdIn(@Param("ids") Collection<Long> ids);
+}
@@ -0,0 +1,22 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 댓글 내보내기(NDJSON)의 한 행을 담는 읽기 전용 프로젝션입니다.
+ */
+public record CommentExportView(
+        Long id,
+        Long postId,
+        Long userId,
+        String userName,
+        String content,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Status status,
+        SchoolLevel schoolLevel
+) {
+}
@@ -0,0 +1,12 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+/**
+ * 답글 작성과 하위 트리 조회에 필요한 댓글의 위치 정보만 담는 읽기 전용 프로젝션입니다.
+ */
+public record CommentPathView(
+        Long id,
+        Long postId,
+        String path,
+        int depth
+) {
+}
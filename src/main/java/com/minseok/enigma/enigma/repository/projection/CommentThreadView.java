@@ -0,0 +1,25 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 스레드 형태의 댓글 응답에 필요한 컬럼만 담는 읽기 전용 프로젝션입니다.
+ */
+public record CommentThreadView(
+        Long id,
+        Long parentId,
+        String path,
+        int depth,
+        int replyCount,
+        String content,
+        String userName,
+        Long postId,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Status status,
+        SchoolLevel schoolLevel
+) {
+}
@@ -0,0 +1,17 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+
+/**
+ * 카테고리 레지스트리 스냅샷에 담는 불변 카테고리 프로젝션입니다.<p>
+ * 카테고리에 속한 게시글 목록은 포함하지 않습니다.
+ */
+public record PostCategoryView(
+        Long id,
+        String code,
+        String name,
+        String description,
+        boolean active,
+        SchoolLevel schoolLevel
+) {
+}
@@ -0,0 +1,25 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 상세 응답에 필요한 컬럼을 본문까지 담는 읽기 전용 프로젝션입니다.
+ */
+public record PostDetailView(
+        Long id,
+        String title,
+        String content,
+        String authorName,
+        String categoryName,
+        int viewCount,
+        int commentCount,
+        LocalDateTime lastCommentAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Status status,
+        SchoolLevel schoolLevel
+) {
+}
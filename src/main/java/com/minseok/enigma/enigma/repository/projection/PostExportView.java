@@ -0,0 +1,26 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 내보내기(NDJSON)의 한 행을 담는 읽기 전용 프로젝션입니다.
+ */
+public record PostExportView(
+        Long id,
+        String title,
+        String content,
+        Long authorId,
+        String authorName,
+        Long categoryId,
+        String categoryName,
+        int viewCount,
+        int commentCount,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Status status,
+        SchoolLevel schoolLevel
+) {
+}
@@ -0,0 +1,40 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록 응답에 필요한 컬럼만 담는 읽기 전용 프로젝션입니다.<p>
+ * 영속성 컨텍스트에 엔티티를 올리지 않으므로 스냅샷과 dirty checking 비용이 없습니다.
+ * 본문(TEXT) 대신 요약만 담으며, 본문이 필요한 상세 조회는 {@link PostDetailView}를 사용합니다.
+ */
+public record PostView(
+        Long id,
+        String title,
+        String excerpt,
+        String authorName,
+        String categoryName,
+        int viewCount,
+        int commentCount,
+        LocalDateTime lastCommentAt,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Status status,
+        SchoolLevel schoolLevel
+) {
+
+    /**
+     * 댓글 하나가 추가된 프로젝션을 반환합니다.
+     *
+     * @param commentedAt 댓글 작성 시각
+     * @return 댓글 수와 마지막 댓글 작성 시각이 갱신된 프로젝션
+     */
+    public PostView withCommentAdded(LocalDateTime commentedAt) {
+        LocalDateTime latest = lastCommentAt == null || (commentedAt != null && commentedAt.isAfter(lastCommentAt))
+                ? commentedAt : lastCommentAt;
+        return new PostView(id, title, excerpt, authorName, categoryName, viewCount, commentCount + 1, latest,
+                createdAt, updatedAt, status, schoolLevel);
+    }
+}
@@ -0,0 +1,20 @@
+package com.minseok.enigma.enigma.repository.projection;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 응답에 필요한 컬럼만 담는 읽기 전용 프로젝션입니다.<p>
+ * 비밀번호와 친구 목록은 포함하지 않습니다.
+ */
+public record UserView(
+        Long id,
+        String userName,
+        String email,
+        SchoolLevel schoolLevel,
+        int grade,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,57 @@
+package com.minseok.enigma.enigma.search;
+
+import java.text.Normalizer;
+import java.util.LinkedHashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 문자 2-gram(bigram) 단위로 텍스트를 토큰화하는 클래스입니다.<p>
+ * 형태소 분석 없이도 한글 검색이 가능하도록, 글자/숫자로 이루어진 단어를 연속한 두 글자씩 잘라 색인어로 사용합니다.
+ * 한 글자짜리 단어는 그 글자 자체를 색인어로 사용합니다.
+ */
+public final class BigramTokenizer {
+
+    private BigramTokenizer() {
+    }
+
+    /**
+     * 텍스트를 중복 없는 색인어 집합으로 변환합니다.
+     *
+     * @param text 토큰화할 텍스트
+     * @return 색인어 집합 (등장 순서 유지)
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+
+        int[] codePoints = Normalizer.normalize(text, Normalizer.Form.NFKC)
+                .toLowerCase(Locale.ROOT)
+                .codePoints()
+                .toArray();
+
+        int wordStart = -1;
+        for (int i = 0; i <= codePoints.length; i++) {
+            boolean letter = i < codePoints.length && Character.isLetterOrDigit(codePoints[i]);
+            if (letter && wordStart < 0) {
+                wordStart = i;
+            } else if (!letter && wordStart >= 0) {
+                addWord(terms, codePoints, wordStart, i);
+                wordStart = -1;
+            }
+        }
+        return terms;
+    }
+
+    private static void addWord(Set<String> terms, int[] codePoints, int start, int end) {
+        if (end - start == 1) {
+            terms.add(new String(codePoints, start, 1));
+            return;
+        }
+        for (int i = start; i < end - 1; i++) {
+            terms.add(new String(codePoints, i, 2));
+        }
+    }
+}
@@ -0,0 +1,230 @@
+package com.minseok.enigma.enigma.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 게시글 제목/본문에 대한 메모리 내 역색인(inverted index)입니다.<p>
+ * 색인어마다 게시글 ID의 압축 목록({@link PostingsList})을 유지하고, 검색어의 모든 색인어가 등장하는 게시글(AND)을 찾습니다.
+ * 한 글자 검색어를 위해 색인어에 등장하는 글자마다의 목록도 함께 유지합니다.
+ * 삭제는 목록을 다시 쓰지 않고 삭제 표시(tombstone)로 처리하며, 재색인 시 정리됩니다.
+ * 쓰기는 배타 잠금 아래에서 수행하고, 검색은 공유 잠금 아래에서 목록을 고정한 뒤 잠금 밖에서 풀고 교집합을 구합니다.
+ */
+public class InvertedIndex {
+
+    private final Map<String, PostingsList> postings = new HashMap<>();
+
+    /**
+     * 글자마다 그 글자를 포함하는 색인어가 등장하는 게시글 ID 목록입니다.
+     */
+    private final Map<String, PostingsList> characterPostings = new HashMap<>();
+
+    private final Set<Long> deleted = ConcurrentHashMap.newKeySet();
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private long maxId;
+
+    /**
+     * 게시글을 색인합니다.
+     *
+     * @param id 게시글 ID
+     * @param texts 색인할 텍스트 (제목, 본문 등)
+     */
+    public void add(long id, String... texts) {
+        Set<String> terms = new HashSet<>();
+        for (String text : texts) {
+            terms.addAll(BigramTokenizer.tokenize(text));
+        }
+        Set<String> characters = new HashSet<>();
+        for (String term : terms) {
+            term.codePoints().forEach(codePoint -> characters.add(Character.toString(codePoint)));
+        }
+
+        lock.writeLock().lock();
+        try {
+            for (String term : terms) {
+                postings.computeIfAbsent(term, key -> new PostingsList()).add(id);
+            }
+            for (String character : characters) {
+                characterPostings.computeIfAbsent(character, key -> new PostingsList()).add(id);
+            }
+            deleted.remove(id);
+            maxId = Math.max(maxId, id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 게시글을 검색 결과에서 제외합니다.
+     *
+     * @param id 게시글 ID
+     */
+    public void remove(long id) {
+        lock.writeLock().lock();
+        try {
+            deleted.add(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색어의 모든 색인어를 포함하는 게시글을 최신순(ID 내림차순)으로 찾습니다.
+     *
+     * @param query 검색어
+     * @param beforeId 이 ID보다 작은 게시글만 반환 (커서)
+     * @param limit 최대 반환 개수
+     * @return 최신순으로 정렬된 게시글 ID 배열
+     */
+    public long[] search(String query, long beforeId, int limit) {
+        Set<String> terms = BigramTokenizer.tokenize(query);
+        if (terms.isEmpty()) {
+            return new long[0];
+        }
+
+        List<PostingsList.Snapshot> snapshots = new ArrayList<>(terms.size());
+        lock.readLock().lock();
+        try {
+            for (String term : terms) {
+                Map<String, PostingsList> source = term.codePointCount(0, term.length()) == 1 ? characterPostings : postings;
+                PostingsList list = source.get(term);
+                if (list == null) {
+                    return new long[0];
+                }
+                snapshots.add(list.snapshot());
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        // 가장 짧은 목록부터 교집합을 구해 중간 결과를 작게 유지합니다.
+        snapshots.sort(Comparator.comparingInt(PostingsList.Snapshot::estimatedSize));
+        long[] matched = snapshots.get(0).toArray();
+        for (int i = 1; i < snapshots.size() && matched.length > 0; i++) {
+            matched = intersect(matched, snapshots.get(i).toArray());
+        }
+
+        long[] result = new long[Math.min(limit, matched.length)];
+        int count = 0;
+        for (int i = matched.length - 1; i >= 0 && count < result.length; i--) {
+            if (matched[i] < beforeId && !deleted.contains(matched[i])) {
+                result[count++] = matched[i];
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    /**
+     * 색인된 가장 큰 게시글 ID를 반환합니다.
+     *
+     * @return 최대 게시글 ID
+     */
+    public long getMaxId() {
+        lock.readLock().lock();
+        try {
+            return maxId;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인어 개수를 반환합니다.
+     *
+     * @return 색인어 개수
+     */
+    public int getTermCount() {
+        lock.readLock().lock();
+        try {
+            return postings.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 색인을 스냅샷 스트림에 기록합니다.
+     *
+     * @param out 출력 스트림
+     * @throws IOException 기록에 실패한 경우
+     */
+    public void writeTo(DataOutput out) throws IOException {
+        lock.readLock().lock();
+        try {
+            out.writeLong(maxId);
+            writePostings(out, postings);
+            writePostings(out, characterPostings);
+            out.writeInt(deleted.size());
+            for (Long id : deleted) {
+                out.writeLong(id);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 스냅샷 스트림에서 색인을 읽습니다.
+     *
+     * @param in 입력 스트림
+     * @return 읽은 색인
+     * @throws IOException 읽기에 실패한 경우
+     */
+    public static InvertedIndex readFrom(DataInput in) throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        index.maxId = in.readLong();
+        readPostings(in, index.postings);
+        readPostings(in, index.characterPostings);
+        int deletedCount = in.readInt();
+        for (int i = 0; i < deletedCount; i++) {
+            index.deleted.add(in.readLong());
+        }
+        return index;
+    }
+
+    private static void writePostings(DataOutput out, Map<String, PostingsList> source) throws IOException {
+        out.writeInt(source.size());
+        for (Map.Entry<String, PostingsList> entry : source.entrySet()) {
+            out.writeUTF(entry.getKey());
+            entry.getValue().writeTo(out);
+        }
+    }
+
+    private static void readPostings(DataInput in, Map<String, PostingsList> target) throws IOException {
+        int termCount = in.readInt();
+        for (int i = 0; i < termCount; i++) {
+            String term = in.readUTF();
+            target.put(term, PostingsList.readFrom(in));
+        }
+    }
+
+    private static long[] intersect(long[] a, long[] b) {
+        long[] result = new long[Math.min(a.length, b.length)];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] == b[j]) {
+                result[count++] = a[i];
+                i++;
+                j++;
+            } else if (a[i] < b[j]) {
+                i++;
+            } else {
+                j++;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+}
@@ -0,0 +1,248 @@
+package com.minseok.enigma.enigma.search;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.util.RebuildableSnapshot;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * 학교 수준별 게시글 검색 색인을 관리하는 컴포넌트입니다.<p>
+ * 게시글 작성/삭제 시 증분으로 갱신되며, 주기적으로 로컬 디스크에 스냅샷을 저장합니다.
+ * 재시작 시에는 스냅샷을 읽은 뒤 그 이후에 작성/수정/삭제된 게시글만 DB에서 따라잡고,
+ * 스냅샷이 없으면 DB 전체로부터 다시 색인합니다({@link RebuildableSnapshot}).
+ * 증분 갱신은 DB 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchIndex {
+
+    private static final int SNAPSHOT_MAGIC = 0x454E4753;
+    private static final int SNAPSHOT_VERSION = 3;
+    private static final int FETCH_SIZE = 500;
+
+    private static final String SELECT_ACTIVE_POSTS_SQL =
+            "SELECT id, school_level, title, content FROM posts WHERE status = 'ACTIVE' ORDER BY id";
+    private static final String SELECT_CHANGED_ACTIVE_POSTS_SQL =
+            "SELECT id, school_level, title, content FROM posts WHERE status = 'ACTIVE' AND updated_at >= ? ORDER BY id";
+    private static final String SELECT_DELETED_POSTS_SQL =
+            "SELECT id, school_level FROM posts WHERE status = 'DELETED' AND updated_at >= ?";
+    private static final String SELECT_HIGH_WATER_MARK_SQL = "SELECT MAX(updated_at) FROM posts";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${enigma.search.snapshot-path:./data/post-search.snapshot}")
+    private String snapshotPath;
+
+    @Value("${enigma.search.catch-up-overlap-ms:300000}")
+    private long catchUpOverlapMs;
+
+    private final RebuildableSnapshot<Map<SchoolLevel, InvertedIndex>> indexes = new RebuildableSnapshot<>(createIndexes());
+
+    private static Map<SchoolLevel, InvertedIndex> createIndexes() {
+        Map<SchoolLevel, InvertedIndex> map = new EnumMap<>(SchoolLevel.class);
+        for (SchoolLevel schoolLevel : SchoolLevel.values()) {
+            map.put(schoolLevel, new InvertedIndex());
+        }
+        return map;
+    }
+
+    /**
+     * 게시글을 색인합니다.
+     *
+     * @param postId 게시글 ID
+     * @param schoolLevel 학교 수준
+     * @param title 제목
+     * @param content 본문
+     */
+    public void index(Long postId, SchoolLevel schoolLevel, String title, String content) {
+        indexes.apply(current -> current.get(schoolLevel).add(postId, title, content));
+    }
+
+    /**
+     * 게시글을 검색 대상에서 제외합니다.
+     *
+     * @param postId 게시글 ID
+     * @param schoolLevel 학교 수준
+     */
+    public void remove(Long postId, SchoolLevel schoolLevel) {
+        indexes.apply(current -> current.get(schoolLevel).remove(postId));
+    }
+
+    /**
+     * 학교 수준 안에서 검색어에 맞는 게시글 ID를 최신순으로 찾습니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param query 검색어
+     * @param beforeId 이 ID보다 작은 게시글만 반환 (커서)
+     * @param limit 최대 반환 개수
+     * @return 최신순으로 정렬된 게시글 ID 배열
+     */
+    public long[] search(SchoolLevel schoolLevel, String query, long beforeId, int limit) {
+        return indexes.get().get(schoolLevel).search(query, beforeId, limit);
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅샷을 읽어 색인을 복원하고, 스냅샷이 없으면 DB로부터 다시 색인합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        try {
+            if (loadSnapshot()) {
+                return;
+            }
+        } catch (IOException | RuntimeException e) {
+            log.warn("검색 색인 스냅샷을 읽지 못했습니다. DB로부터 다시 색인합니다. path={}", snapshotPath, e);
+        }
+        rebuild();
+    }
+
+    /**
+     * DB의 활성 게시글 전체로 새 색인을 만들어 교체합니다.<p>
+     * 색인을 만드는 동안 들어온 작성/삭제는 기존 색인에 반영하는 동시에 기록해 두었다가 새 색인에 다시 적용합니다.
+     */
+    @Scheduled(cron = "${enigma.search.rebuild-cron:0 0 4 * * *}")
+    public void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        indexes.rebuild(() -> {
+            Map<SchoolLevel, InvertedIndex> rebuilt = createIndexes();
+            indexActivePosts(rebuilt, SELECT_ACTIVE_POSTS_SQL);
+            return rebuilt;
+        });
+        log.info("검색 색인을 다시 만들었습니다. elapsedMs={}", System.currentTimeMillis() - startedAt);
+        saveSnapshot();
+    }
+
+    /**
+     * 현재 색인을 로컬 디스크에 스냅샷으로 저장합니다. 임시 파일에 쓴 뒤 원자적으로 교체합니다.<p>
+     * 색인을 기록하기 전에 DB의 MAX(updated_at)을 읽어 함께 저장합니다. 게시글 ID는 블록 단위로 미리 할당되어
+     * 커밋 순서와 다를 수 있으므로, 재시작 시에는 ID가 아니라 이 값을 기준으로 따라잡습니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.search.snapshot-interval-ms:300000}",
+            initialDelayString = "${enigma.search.snapshot-interval-ms:300000}")
+    public void saveSnapshot() {
+        Path target = Paths.get(snapshotPath);
+        Timestamp highWaterMark;
+        try {
+            highWaterMark = jdbcTemplate.queryForObject(SELECT_HIGH_WATER_MARK_SQL, Timestamp.class);
+        } catch (DataAccessException e) {
+            log.warn("검색 색인 스냅샷 기준 시각을 읽지 못해 저장하지 않습니다. path={}", snapshotPath, e);
+            return;
+        }
+        try {
+            Path parent = target.toAbsolutePath().getParent();
+            Files.createDirectories(parent);
+            Path temp = Files.createTempFile(parent, "post-search", ".tmp");
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                Map<SchoolLevel, InvertedIndex> current = indexes.get();
+                out.writeInt(SNAPSHOT_MAGIC);
+                out.writeInt(SNAPSHOT_VERSION);
+                out.writeBoolean(highWaterMark != null);
+                if (highWaterMark != null) {
+                    out.writeLong(highWaterMark.getTime());
+                }
+                out.writeInt(current.size());
+                for (Map.Entry<SchoolLevel, InvertedIndex> entry : current.entrySet()) {
+                    out.writeUTF(entry.getKey().name());
+                    entry.getValue().writeTo(out);
+                }
+            }
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            log.warn("검색 색인 스냅샷 저장에 실패했습니다. path={}", snapshotPath, e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 스냅샷을 저장합니다.
+     */
+    @PreDestroy
+    public void saveSnapshotOnShutdown() {
+        saveSnapshot();
+    }
+
+    /**
+     * 스냅샷을 읽어 색인을 복원하고, 스냅샷 이후의 변경 사항을 DB에서 따라잡습니다.
+     *
+     * @return 스냅샷을 읽었으면 true, 스냅샷 파일이 없으면 false
+     * @throws IOException 스냅샷을 읽지 못한 경우
+     */
+    boolean loadSnapshot() throws IOException {
+        Path source = Paths.get(snapshotPath);
+        if (!Files.exists(source)) {
+            return false;
+        }
+
+        indexes.rebuild(() -> readSnapshot(source));
+        return true;
+    }
+
+    /**
+     * 스냅샷 파일을 읽고, 스냅샷 이후 작성/수정/삭제된 게시글을 DB에서 반영한 색인을 만듭니다.<p>
+     * updated_at은 각 서버의 시계로 기록되고 오래 걸린 트랜잭션은 기준 시각보다 늦게 커밋될 수 있으므로,
+     * 기준 시각보다 일정 시간 앞에서부터 다시 읽습니다. 이미 색인된 게시글을 다시 색인해도 결과는 같습니다.
+     */
+    private Map<SchoolLevel, InvertedIndex> readSnapshot(Path source) throws IOException {
+        Map<SchoolLevel, InvertedIndex> loaded = createIndexes();
+        Timestamp highWaterMark;
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(source)))) {
+            if (in.readInt() != SNAPSHOT_MAGIC || in.readInt() != SNAPSHOT_VERSION) {
+                throw new IOException("지원하지 않는 스냅샷 형식입니다.");
+            }
+            highWaterMark = in.readBoolean() ? new Timestamp(in.readLong()) : null;
+            int levelCount = in.readInt();
+            for (int i = 0; i < levelCount; i++) {
+                SchoolLevel schoolLevel = SchoolLevel.valueOf(in.readUTF());
+                loaded.put(schoolLevel, InvertedIndex.readFrom(in));
+            }
+        }
+
+        if (highWaterMark == null) {
+            // 스냅샷 당시 게시글이 없었으므로 활성 게시글 전체가 따라잡을 대상입니다.
+            indexActivePosts(loaded, SELECT_ACTIVE_POSTS_SQL);
+            log.info("검색 색인 스냅샷을 읽었습니다. path={}, changedSince=(none)", snapshotPath);
+            return loaded;
+        }
+
+        Timestamp changedSince = new Timestamp(highWaterMark.getTime() - catchUpOverlapMs);
+        indexActivePosts(loaded, SELECT_CHANGED_ACTIVE_POSTS_SQL, changedSince);
+        jdbcTemplate.query(SELECT_DELETED_POSTS_SQL,
+                (RowCallbackHandler) rs -> loaded.get(SchoolLevel.valueOf(rs.getString("school_level"))).remove(rs.getLong("id")),
+                changedSince);
+
+        log.info("검색 색인 스냅샷을 읽었습니다. path={}, changedSince={}", snapshotPath, changedSince);
+        return loaded;
+    }
+
+    /**
+     * 활성 게시글을 스트리밍으로 읽어 색인합니다.
+     */
+    private void indexActivePosts(Map<SchoolLevel, InvertedIndex> target, String sql, Object... args) {
+        RebuildableSnapshot.stream(jdbcTemplate, sql, FETCH_SIZE,
+                rs -> target.get(SchoolLevel.valueOf(rs.getString("school_level")))
+                        .add(rs.getLong("id"), rs.getString("title"), rs.getString("content")),
+                args);
+    }
+}
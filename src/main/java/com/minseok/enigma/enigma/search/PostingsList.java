@@ -0,0 +1,253 @@
+package com.minseok.enigma.enigma.search;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * 하나의 색인어가 등장하는 게시글 ID 목록(postings list)입니다.<p>
+ * ID를 오름차순으로 정렬한 뒤 앞 ID와의 차이(delta)를 가변 길이 정수(varint)로 인코딩해 바이트 배열에 저장합니다.
+ * ID는 여러 서버가 블록 단위로 미리 할당받으므로 커밋 순서와 ID 순서가 다를 수 있습니다. 마지막 ID보다 큰 ID는 배열 끝에 덧붙이고,
+ * 작은 ID는 정렬되지 않은 작은 버퍼에 모아 두었다가 읽을 때 합치며, 버퍼가 가득 차면 한 번에 다시 인코딩합니다.
+ * 스레드 안전하지 않으며 {@link InvertedIndex}의 잠금 아래에서만 사용합니다.
+ */
+final class PostingsList {
+
+    /**
+     * 순서가 어긋난 ID를 다시 인코딩하지 않고 모아 두는 최대 개수입니다.
+     */
+    static final int MAX_PENDING = 64;
+
+    private byte[] data;
+    private int length;
+    private int size;
+    private long lastId;
+
+    /**
+     * 마지막 ID보다 작아 아직 인코딩되지 않은 ID입니다. 인코딩된 ID와 중복될 수 있습니다.
+     */
+    private long[] pending;
+    private int pendingSize;
+
+    PostingsList() {
+        this.data = new byte[8];
+    }
+
+    private PostingsList(byte[] data, int size, long lastId) {
+        this.data = data;
+        this.length = data.length;
+        this.size = size;
+        this.lastId = lastId;
+    }
+
+    /**
+     * 게시글 ID를 추가합니다. 이미 있는 ID는 무시합니다.
+     *
+     * @param id 게시글 ID
+     */
+    void add(long id) {
+        if (size > 0 && id <= lastId) {
+            if (id != lastId) {
+                addPending(id);
+            }
+            return;
+        }
+        writeVarLong(id - lastId);
+        lastId = id;
+        size++;
+    }
+
+    /**
+     * 저장된 ID 개수를 반환합니다.
+     *
+     * @return ID 개수
+     */
+    int size() {
+        return pendingSize == 0 ? size : toArray().length;
+    }
+
+    /**
+     * 압축된 ID 목록을 오름차순 배열로 풀어서 반환합니다. 아직 인코딩되지 않은 ID도 합쳐서 반환합니다.
+     *
+     * @return 오름차순으로 정렬된 게시글 ID 배열
+     */
+    long[] toArray() {
+        return snapshot().toArray();
+    }
+
+    /**
+     * 현재 목록을 고정합니다. 인코딩된 바이트는 덧붙이기만 하고 덮어쓰지 않으므로,
+     * 잠금 아래에서 고정한 뒤에는 잠금 없이 풀어도 이후의 추가에 영향을 받지 않습니다.
+     *
+     * @return 고정된 목록
+     */
+    Snapshot snapshot() {
+        long[] sortedPending = Arrays.copyOf(pending == null ? new long[0] : pending, pendingSize);
+        Arrays.sort(sortedPending);
+        return new Snapshot(data, size, sortedPending);
+    }
+
+    /**
+     * 특정 시점의 목록입니다.
+     *
+     * @param data 인코딩된 바이트 (앞의 size개 ID만 유효)
+     * @param size 인코딩된 ID 개수
+     * @param pending 아직 인코딩되지 않은 ID (오름차순)
+     */
+    record Snapshot(byte[] data, int size, long[] pending) {
+
+        /**
+         * 대략적인 ID 개수입니다. 인코딩되지 않은 ID가 중복일 수 있어 실제보다 클 수 있습니다.
+         *
+         * @return ID 개수
+         */
+        int estimatedSize() {
+            return size + pending.length;
+        }
+
+        /**
+         * 오름차순 배열로 풀어서 반환합니다.
+         *
+         * @return 오름차순으로 정렬된 게시글 ID 배열
+         */
+        long[] toArray() {
+            long[] ids = decode(data, size);
+            return pending.length == 0 ? ids : merge(ids, pending);
+        }
+    }
+
+    private static long[] decode(byte[] data, int size) {
+        long[] ids = new long[size];
+        long current = 0;
+        int position = 0;
+        for (int i = 0; i < size; i++) {
+            long delta = 0;
+            int shift = 0;
+            byte b;
+            do {
+                b = data[position++];
+                delta |= (long) (b & 0x7F) << shift;
+                shift += 7;
+            } while ((b & 0x80) != 0);
+            current += delta;
+            ids[i] = current;
+        }
+        return ids;
+    }
+
+    /**
+     * 오름차순으로 정렬된 ID 배열로부터 목록을 만듭니다.
+     *
+     * @param ids 오름차순으로 정렬된 중복 없는 ID 배열
+     * @return 압축된 목록
+     */
+    static PostingsList fromSorted(long[] ids) {
+        PostingsList postings = new PostingsList();
+        for (long id : ids) {
+            postings.add(id);
+        }
+        return postings;
+    }
+
+    /**
+     * 목록을 스냅샷 스트림에 기록합니다.
+     *
+     * @param out 출력 스트림
+     * @throws IOException 기록에 실패한 경우
+     */
+    void writeTo(DataOutput out) throws IOException {
+        if (pendingSize > 0) {
+            fromSorted(toArray()).writeTo(out);
+            return;
+        }
+        out.writeInt(size);
+        out.writeLong(lastId);
+        out.writeInt(length);
+        out.write(data, 0, length);
+    }
+
+    /**
+     * 스냅샷 스트림에서 목록을 읽습니다.
+     *
+     * @param in 입력 스트림
+     * @return 읽은 목록
+     * @throws IOException 읽기에 실패한 경우
+     */
+    static PostingsList readFrom(DataInput in) throws IOException {
+        int size = in.readInt();
+        long lastId = in.readLong();
+        byte[] data = new byte[in.readInt()];
+        in.readFully(data);
+        return new PostingsList(data, size, lastId);
+    }
+
+    private void addPending(long id) {
+        if (pending == null) {
+            pending = new long[8];
+        } else if (pendingSize == pending.length) {
+            pending = Arrays.copyOf(pending, pendingSize * 2);
+        }
+        pending[pendingSize++] = id;
+        if (pendingSize >= MAX_PENDING) {
+            compact();
+        }
+    }
+
+    /**
+     * 모아 둔 ID를 인코딩된 목록에 합쳐 다시 인코딩합니다.
+     */
+    private void compact() {
+        PostingsList rebuilt = fromSorted(toArray());
+        this.data = rebuilt.data;
+        this.length = rebuilt.length;
+        this.size = rebuilt.size;
+        this.lastId = rebuilt.lastId;
+        this.pending = null;
+        this.pendingSize = 0;
+    }
+
+    /**
+     * 오름차순으로 정렬된 두 배열을 중복 없이 합칩니다.
+     */
+    private static long[] merge(long[] a, long[] b) {
+        long[] result = new long[a.length + b.length];
+        int i = 0;
+        int j = 0;
+        int count = 0;
+        while (i < a.length || j < b.length) {
+            long next;
+            if (j >= b.length || (i < a.length && a[i] < b[j])) {
+                next = a[i++];
+            } else if (i >= a.length || b[j] < a[i]) {
+                next = b[j++];
+            } else {
+                next = a[i];
+                i++;
+                j++;
+            }
+            if (count == 0 || result[count - 1] != next) {
+                result[count++] = next;
+            }
+        }
+        return Arrays.copyOf(result, count);
+    }
+
+    private void writeVarLong(long value) {
+        while (true) {
+            ensureCapacity(1);
+            if ((value & ~0x7FL) == 0) {
+                data[length++] = (byte) value;
+                return;
+            }
+            data[length++] = (byte) ((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+    }
+
+    private void ensureCapacity(int extra) {
+        if (length + extra > data.length) {
+            data = Arrays.copyOf(data, Math.max(data.length * 2, length + extra));
+        }
+    }
+}
@@ -1,20 +1,27 @@
 package com.minseok.enigma.enigma.service;
 
 
+import com.minseok.enigma.enigma.availability.UserAvailabilityService;
 import com.minseok.enigma.enigma.dto.request.auth.LoginRequest;
 import com.minseok.enigma.enigma.dto.request.auth.SignupRequest;
+import com.minseok.enigma.enigma.dto.response.auth.AvailabilityResponse;
 import com.minseok.enigma.enigma.dto.response.auth.LoginResponse;
 import com.minseok.enigma.enigma.entity.SchoolLevel;
 import com.minseok.enigma.enigma.entity.User;
+import com.minseok.enigma.enigma.friend.FriendGraphIndex;
 import com.minseok.enigma.enigma.repository.UserRepository;
 import com.minseok.enigma.enigma.security.JwtTokenProvider;
+import com.minseok.enigma.enigma.util.TransactionUtil;
 import com.minseok.enigma.enigma.exception.CustomException;
 import com.minseok.enigma.enigma.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Locale;
 import java.util.Optional;
 import java.util.regex.Pattern;
 
@@ -29,26 +36,29 @@ public class AuthService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
+    private final FriendGraphIndex friendGraphIndex;
+    private final UserAvailabilityService userAvailabilityService;
+
+    /**
+     * V1 마이그레이션에서 만든 users 유니크 제약 이름입니다.
+     */
+    private static final String USER_NAME_CONSTRAINT = "uk_users_user_name";
+    private static final String EMAIL_CONSTRAINT = "uk_users_email";
 
     private static final String PASSWORD_PATTERN = "^(?=.*[0-9])(?=.*[a-zA-Z])(?=.*[!@#$%^&*()\\-_=+{};:,<.>]).{8,}$";
     private static final Pattern pattern = Pattern.compile(PASSWORD_PATTERN);
 
 
     /**
-     * 회원 가입을 처리합니다.
+     * 회원 가입을 처리합니다.<p>
+     * 중복 여부를 미리 조회하지 않고 바로 INSERT하며, 사용자 이름과 이메일의 유니크 제약 위반을
+     * {@link ErrorCode#USER_ALREADY_EXISTS}, {@link ErrorCode#EMAIL_ALREADY_EXISTS}로 변환합니다.
+     * 조회 후 저장 사이의 경합이 없으므로 동시에 같은 이름으로 가입해도 한 건만 성공합니다.
      *
      * @param signupRequest 회원 가입 요청 DTO
      */
     @Transactional
     public void signup(SignupRequest signupRequest) {
-        if (userRepository.existsByUserName(signupRequest.getUserName())) {
-            throw new CustomException("이미 존재하는 사용자 이름입니다.", ErrorCode.USER_ALREADY_EXISTS);
-        }
-
-        if (userRepository.existsByEmail(signupRequest.getEmail())) {
-            throw new CustomException("이미 존재하는 이메일입니다.", ErrorCode.EMAIL_ALREADY_EXISTS);
-        }
-
         // 비밀번호 정책 검증
         if (!isPasswordValid(signupRequest.getPassword())) {
             throw new CustomException("비밀번호는 8자 이상이며, 숫자, 문자, 특수문자를 포함해야 합니다.", ErrorCode.INVALID_PASSWORD);
@@ -62,7 +72,64 @@ public class AuthService {
                 .grade(signupRequest.getGrade())
                 .build();
 
-        userRepository.save(user);
+        try {
+            userRepository.saveAndFlush(user);
+        } catch (DataIntegrityViolationException e) {
+            throw translateDuplicate(e);
+        }
+        TransactionUtil.afterCommit(() -> friendGraphIndex.putUser(user.getId(), user.getSchoolLevel(), user.getGrade()));
+        TransactionUtil.afterCommit(() -> userAvailabilityService.register(user.getUserName(), user.getEmail()));
+    }
+
+    /**
+     * 유니크 제약 위반을 제약 이름으로 구분해 중복 예외로 변환합니다.<p>
+     * 제약 이름은 DB마다 스키마/테이블 접두어나 대소문자가 달라 소문자로 바꿔 포함 여부로 비교합니다.
+     *
+     * @param e 저장 중 발생한 무결성 위반 예외
+     * @return 변환된 예외 (알 수 없는 제약이면 원래 예외)
+     */
+    private RuntimeException translateDuplicate(DataIntegrityViolationException e) {
+        String constraint = null;
+        for (Throwable cause = e; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ConstraintViolationException violation && violation.getConstraintName() != null) {
+                constraint = violation.getConstraintName();
+                break;
+            }
+        }
+        if (constraint == null) {
+            constraint = String.valueOf(e.getMostSpecificCause().getMessage());
+        }
+        constraint = constraint.toLowerCase(Locale.ROOT);
+
+        if (constraint.contains(USER_NAME_CONSTRAINT)) {
+            return new CustomException("이미 존재하는 사용자 이름입니다.", ErrorCode.USER_ALREADY_EXISTS);
+        }
+        if (constraint.contains(EMAIL_CONSTRAINT)) {
+            return new CustomException("이미 존재하는 이메일입니다.", ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+        return e;
+    }
+
+    /**
+     * 사용자 이름과 이메일의 사용 가능 여부를 확인합니다. 요청한 항목만 확인합니다.<p>
+     * 블룸 필터에 없는 값은 DB를 조회하지 않고 바로 사용 가능으로 답합니다.
+     *
+     * @param userName 확인할 사용자 이름 (선택)
+     * @param email 확인할 이메일 (선택)
+     * @return 사용 가능 여부 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public AvailabilityResponse checkAvailability(String userName, String email) {
+        boolean hasUserName = userName != null && !userName.isBlank();
+        boolean hasEmail = email != null && !email.isBlank();
+        if (!hasUserName && !hasEmail) {
+            throw new CustomException("확인할 사용자 이름 또는 이메일을 입력해 주세요.", ErrorCode.INVALID_AVAILABILITY_QUERY);
+        }
+
+        return AvailabilityResponse.builder()
+                .userNameAvailable(hasUserName ? !userAvailabilityService.isUserNameTaken(userName) : null)
+                .emailAvailable(hasEmail ? !userAvailabilityService.isEmailTaken(email) : null)
+                .build();
     }
 
     /**
@@ -0,0 +1,275 @@
+package com.minseok.enigma.enigma.service;
+
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minseok.enigma.enigma.dto.request.comment.CommentImportRequest;
+import com.minseok.enigma.enigma.dto.request.post.PostImportRequest;
+import com.minseok.enigma.enigma.dto.response.common.ImportResponse;
+import com.minseok.enigma.enigma.entity.*;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.search.PostSearchIndex;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 기존 게시판 데이터 이전을 위해 게시글과 댓글을 대량으로 가져오는 서비스 클래스입니다.<p>
+ * 입력(NDJSON)을 한 행씩 읽어 일정 크기의 청크로 모은 뒤, 청크마다 하나의 트랜잭션에서 저장하고 커밋합니다.
+ * ID는 테이블 생성기에서 미리 할당받으므로 INSERT가 JDBC 배치로 묶이며, 청크가 끝날 때마다
+ * 영속성 컨텍스트를 비워 메모리 사용량을 일정하게 유지합니다.
+ * 필수 값이 빠진 행은 건너뛰고, 저장에 실패한 청크(존재하지 않는 작성자 등)는 한 행씩 다시 저장해 문제가 있는 행만 실패로 집계합니다.
+ * 실패한 행의 번호는 결과에 담아 돌려줍니다. 행에 작성 시각(createdAt)이 있으면 그 시각으로 저장하며,
+ * 가져오기가 끝나면 피드 캐시를 DB로부터 다시 채웁니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BulkImportService {
+
+    private static final String UPDATE_POST_CREATED_AT_SQL = "UPDATE posts SET created_at = ? WHERE id = ?";
+    private static final String UPDATE_COMMENT_CREATED_AT_SQL = "UPDATE comments SET created_at = ? WHERE id = ?";
+
+    /**
+     * 결과에 담을 실패한 행 번호의 최대 개수입니다. 실패 건수는 이와 관계없이 모두 집계합니다.
+     */
+    static final int MAX_REPORTED_FAILED_ROWS = 1000;
+
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostSearchIndex postSearchIndex;
+    private final PostCommentStatsWriter postCommentStatsWriter;
+    private final HotFeedCache hotFeedCache;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${enigma.import.chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 가져오기 진행 상황입니다.
+     */
+    private static class Progress {
+        private long rows;
+        private long imported;
+        private long failed;
+        private final List<Long> failedRows = new ArrayList<>();
+
+        void fail(long rowNumber) {
+            failed++;
+            if (failedRows.size() < MAX_REPORTED_FAILED_ROWS) {
+                failedRows.add(rowNumber);
+            }
+        }
+    }
+
+    /**
+     * 입력에서 읽은 행과 그 행 번호(1부터)입니다.
+     */
+    private record Row<T>(long number, T value) {
+    }
+
+    /**
+     * 게시글을 가져옵니다. 각 행은 게시글 작성 요청과 같은 형식에 선택적으로 작성 시각을 담은 JSON 객체입니다.
+     *
+     * @param in NDJSON 입력 스트림
+     * @return 가져오기 결과
+     */
+    public ImportResponse importPosts(InputStream in) {
+        return importRows(in, PostImportRequest.class, this::isValidPost, this::savePosts, "게시글");
+    }
+
+    /**
+     * 댓글을 가져옵니다. 각 행은 댓글 작성 요청과 같은 형식에 선택적으로 작성 시각을 담은 JSON 객체입니다.
+     *
+     * @param in NDJSON 입력 스트림
+     * @return 가져오기 결과
+     */
+    public ImportResponse importComments(InputStream in) {
+        return importRows(in, CommentImportRequest.class, this::isValidComment, this::saveComments, "댓글");
+    }
+
+    private <T> ImportResponse importRows(InputStream in, Class<T> type, Predicate<T> validator,
+                                          Consumer<List<T>> saver, String label) {
+        long startedAt = System.nanoTime();
+        Progress progress = new Progress();
+        List<Row<T>> chunk = new ArrayList<>(chunkSize);
+
+        try (MappingIterator<T> iterator = objectMapper.readerFor(type).readValues(in)) {
+            T row;
+            while ((row = readRow(iterator, progress)) != null) {
+                progress.rows++;
+                if (!validator.test(row)) {
+                    progress.fail(progress.rows);
+                    continue;
+                }
+                chunk.add(new Row<>(progress.rows, row));
+                if (chunk.size() >= chunkSize) {
+                    saveChunk(chunk, saver, progress, label);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                saveChunk(chunk, saver, progress, label);
+            }
+        } catch (IOException e) {
+            throw new CustomException("가져올 데이터를 읽을 수 없습니다.", ErrorCode.INVALID_IMPORT_FORMAT);
+        } finally {
+            if (progress.imported > 0) {
+                // 가져온 게시글과 댓글 통계가 피드 첫 페이지에 바로 보이도록 캐시를 다시 채웁니다.
+                hotFeedCache.refreshAll();
+            }
+        }
+
+        long elapsedMs = Math.max(1, (System.nanoTime() - startedAt) / 1_000_000);
+        double rowsPerSecond = progress.imported * 1000.0 / elapsedMs;
+        log.info("{} 가져오기를 마쳤습니다. imported={}, failed={}, elapsedMs={}, rowsPerSecond={}",
+                label, progress.imported, progress.failed, elapsedMs, String.format("%.1f", rowsPerSecond));
+
+        return ImportResponse.builder()
+                .imported(progress.imported)
+                .failed(progress.failed)
+                .failedRows(progress.failedRows)
+                .elapsedMs(elapsedMs)
+                .rowsPerSecond(rowsPerSecond)
+                .build();
+    }
+
+    /**
+     * 다음 행을 읽습니다. 행을 읽을 수 없으면 그때까지 저장된 건수와 함께 가져오기를 중단합니다.
+     *
+     * @return 다음 행 (입력이 끝났으면 null)
+     */
+    private <T> T readRow(MappingIterator<T> iterator, Progress progress) {
+        try {
+            return iterator.hasNextValue() ? iterator.nextValue() : null;
+        } catch (IOException | RuntimeException e) {
+            throw new CustomException(String.format("%d번째 행의 형식이 올바르지 않습니다. 앞선 %d건은 저장되었습니다.",
+                    progress.rows + 1, progress.imported), ErrorCode.INVALID_IMPORT_FORMAT);
+        }
+    }
+
+    /**
+     * 청크를 저장합니다. 청크 저장이 실패하면 한 행씩 다시 저장해, 저장할 수 있는 행은 저장하고 실패한 행의 번호만 기록합니다.
+     */
+    private <T> void saveChunk(List<Row<T>> chunk, Consumer<List<T>> saver, Progress progress, String label) {
+        try {
+            saver.accept(chunk.stream().map(Row::value).toList());
+            progress.imported += chunk.size();
+        } catch (RuntimeException e) {
+            log.warn("{} 청크 저장에 실패해 한 행씩 다시 저장합니다. rows={}, 처리한 행={}", label, chunk.size(), progress.rows, e);
+            for (Row<T> row : chunk) {
+                try {
+                    saver.accept(List.of(row.value()));
+                    progress.imported++;
+                } catch (RuntimeException rowException) {
+                    progress.fail(row.number());
+                    log.warn("{} {}번째 행 저장에 실패했습니다. cause={}", label, row.number(), rowException.getMessage());
+                }
+            }
+        }
+        chunk.clear();
+    }
+
+    private boolean isValidPost(PostImportRequest row) {
+        return row.getTitle() != null && !row.getTitle().isBlank()
+                && row.getAuthorId() != null && row.getCategoryId() != null && row.getSchoolLevel() != null;
+    }
+
+    private boolean isValidComment(CommentImportRequest row) {
+        return row.getContent() != null && !row.getContent().isBlank()
+                && row.getPostId() != null && row.getUserId() != null && row.getSchoolLevel() != null;
+    }
+
+    /**
+     * 게시글 청크를 하나의 트랜잭션에서 저장하고, 커밋된 뒤 검색 색인에 반영합니다.
+     * 작성자와 카테고리는 조회 없이 참조(프록시)로만 연결하며, 존재하지 않으면 외래 키 제약으로 청크 전체가 롤백됩니다.
+     * 작성 시각은 INSERT 시 현재 시각으로 채워지므로, 행에 작성 시각이 있으면 같은 트랜잭션에서 배치 UPDATE로 덮어씁니다.
+     */
+    private void savePosts(List<PostImportRequest> rows) {
+        List<Post> posts = transactionTemplate.execute(status -> {
+            List<Post> saved = new ArrayList<>(rows.size());
+            List<Object[]> createdAts = new ArrayList<>();
+            for (PostImportRequest row : rows) {
+                Post post = Post.builder()
+                        .title(row.getTitle())
+                        .content(row.getContent())
+                        .author(entityManager.getReference(User.class, row.getAuthorId()))
+                        .postCategory(entityManager.getReference(PostCategory.class, row.getCategoryId()))
+                        .status(Status.ACTIVE)
+                        .schoolLevel(row.getSchoolLevel())
+                        .build();
+                entityManager.persist(post);
+                saved.add(post);
+                if (row.getCreatedAt() != null) {
+                    createdAts.add(new Object[]{Timestamp.valueOf(row.getCreatedAt()), post.getId()});
+                }
+            }
+            entityManager.flush();
+            if (!createdAts.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_POST_CREATED_AT_SQL, createdAts);
+            }
+            entityManager.clear();
+            return saved;
+        });
+
+        for (Post post : posts) {
+            postSearchIndex.index(post.getId(), post.getSchoolLevel(), post.getTitle(), post.getContent());
+        }
+    }
+
+    /**
+     * 댓글 청크를 하나의 트랜잭션에서 저장하고, 같은 트랜잭션에서 게시글별 댓글 통계를 배치 UPDATE로 반영합니다.<p>
+     * 가져온 댓글은 모두 루트 댓글로 저장하며 parentId는 무시합니다. 행에 작성 시각이 있으면 그 시각으로 덮어쓰고 통계에도 그 시각을 씁니다.
+     */
+    private void saveComments(List<CommentImportRequest> rows) {
+        transactionTemplate.execute(status -> {
+            List<Comment> saved = new ArrayList<>(rows.size());
+            List<Object[]> createdAts = new ArrayList<>();
+            List<PostCommentStatsWriter.AddedComment> added = new ArrayList<>(rows.size());
+            for (CommentImportRequest row : rows) {
+                Comment comment = Comment.builder()
+                        .user(entityManager.getReference(User.class, row.getUserId()))
+                        .post(entityManager.getReference(Post.class, row.getPostId()))
+                        .content(row.getContent())
+                        .status(Status.ACTIVE)
+                        .schoolLevel(row.getSchoolLevel())
+                        .build();
+                entityManager.persist(comment);
+                saved.add(comment);
+            }
+            entityManager.flush();
+
+            for (int i = 0; i < saved.size(); i++) {
+                CommentImportRequest row = rows.get(i);
+                LocalDateTime createdAt = row.getCreatedAt() != null ? row.getCreatedAt() : saved.get(i).getCreatedAt();
+                if (row.getCreatedAt() != null) {
+                    createdAts.add(new Object[]{Timestamp.valueOf(row.getCreatedAt()), saved.get(i).getId()});
+                }
+                added.add(new PostCommentStatsWriter.AddedComment(row.getPostId(), createdAt));
+            }
+            if (!createdAts.isEmpty()) {
+                jdbcTemplate.batchUpdate(UPDATE_COMMENT_CREATED_AT_SQL, createdAts);
+            }
+            postCommentStatsWriter.addAll(added);
+
+            entityManager.clear();
+            return saved.size();
+        });
+    }
+}
@@ -2,17 +2,33 @@ package com.minseok.enigma.enigma.service;
 
 import com.minseok.enigma.enigma.dto.request.comment.CommentCreateRequest;
 import com.minseok.enigma.enigma.dto.response.comment.CommentResponse;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
 import com.minseok.enigma.enigma.entity.*;
 import com.minseok.enigma.enigma.exception.CustomException;
 import com.minseok.enigma.enigma.exception.ErrorCode;
 import com.minseok.enigma.enigma.repository.CommentRepository;
 import com.minseok.enigma.enigma.repository.PostRepository;
 import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.repository.projection.CommentPathView;
+import com.minseok.enigma.enigma.repository.projection.CommentThreadView;
+import com.minseok.enigma.enigma.repository.projection.CommentView;
+import com.minseok.enigma.enigma.repository.projection.UserView;
+import com.minseok.enigma.enigma.trending.TrendingPostEngine;
+import com.minseok.enigma.enigma.util.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -22,80 +38,385 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CommentService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int DEFAULT_PREVIEW_SIZE = 3;
+    static final int MAX_PREVIEW_SIZE = 10;
+    static final int MAX_PREVIEW_POSTS = 50;
+
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final TrendingPostEngine trendingPostEngine;
+    private final HotFeedCache hotFeedCache;
+    private final CommentWritePipeline commentWritePipeline;
+    private final CommentStreamHub commentStreamHub;
+
+    @Value("${enigma.comment.cursor-overlap-ms:10000}")
+    private long cursorOverlapMs;
 
     /**
-     * 댓글을 작성합니다.
+     * 댓글을 작성합니다.<p>
+     * 작성자와 게시글은 엔티티 전체 대신 검증에 필요한 값만 조회하고, 저장은 {@link CommentWritePipeline}에 맡겨
+     * 다른 요청의 댓글과 함께 한 트랜잭션에서 배치로 저장합니다. 저장을 기다리는 동안 커넥션을 잡지 않도록
+     * 이 메서드는 트랜잭션 밖에서 실행합니다.<p>
+     * parentId가 있으면 같은 게시글의 활성 댓글에 답글로 저장하며, 깊이는 {@link Comment#MAX_DEPTH}까지 허용합니다.
+     * 저장된 댓글은 {@link CommentStreamHub}를 통해 게시글을 보고 있는 구독자에게 전달됩니다.
      *
      * @param commentCreateRequest 댓글 작성 요청 DTO
      * @return 작성된 댓글의 응답 DTO
      */
-    @Transactional
     public CommentResponse createComment(CommentCreateRequest commentCreateRequest) {
-        User user = userRepository.findById(commentCreateRequest.getUserId())
+        UserView user = userRepository.findViewById(commentCreateRequest.getUserId())
                 .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
 
-        Post post = postRepository.findById(commentCreateRequest.getPostId())
+        SchoolLevel postSchoolLevel = postRepository.findSchoolLevelById(commentCreateRequest.getPostId())
                 .orElseThrow(() -> new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND));
 
         // 동일한 schoolLevel인지 확인
-        if (!user.getSchoolLevel().equals(commentCreateRequest.getSchoolLevel())) {
+        if (!user.schoolLevel().equals(commentCreateRequest.getSchoolLevel())) {
             throw new CustomException("동일한 학교 수준에서만 활동할 수 있습니다.", ErrorCode.INVALID_ACCESS);
         }
 
-        Comment comment = Comment.builder()
-                .user(user)
-                .post(post)
+        CommentPathView parent = null;
+        if (commentCreateRequest.getParentId() != null) {
+            parent = commentRepository.findPathViewById(commentCreateRequest.getParentId(), Status.ACTIVE)
+                    .orElseThrow(() -> new CustomException("댓글을 찾을 수 없습니다.", ErrorCode.COMMENT_NOT_FOUND));
+            if (!parent.postId().equals(commentCreateRequest.getPostId()) || parent.depth() >= Comment.MAX_DEPTH) {
+                throw new CustomException("답글을 달 수 없는 댓글입니다.", ErrorCode.INVALID_REPLY);
+            }
+        }
+
+        CommentWritePipeline.WrittenComment written = commentWritePipeline.write(user.id(), commentCreateRequest.getPostId(),
+                parent, commentCreateRequest.getContent(), commentCreateRequest.getSchoolLevel());
+
+        hotFeedCache.recordComment(postSchoolLevel, commentCreateRequest.getPostId(), written.createdAt());
+        trendingPostEngine.recordComment(commentCreateRequest.getPostId(), postSchoolLevel);
+
+        CommentResponse response = CommentResponse.builder()
+                .id(written.id())
                 .content(commentCreateRequest.getContent())
-                .status(Status.ACTIVE)
-                .schoolLevel(commentCreateRequest.getSchoolLevel())
+                .userName(user.userName())
+                .postId(commentCreateRequest.getPostId())
+                .parentId(parent == null ? null : parent.id())
+                .depth(parent == null ? 0 : parent.depth() + 1)
+                .replyCount(0)
+                .createdAt(written.createdAt())
+                .updatedAt(written.updatedAt())
+                .status(Status.ACTIVE.toString())
+                .schoolLevel(commentCreateRequest.getSchoolLevel().toString())
                 .build();
+        commentStreamHub.publish(response);
+        return response;
+    }
+
+    /**
+     * 댓글을 삭제 상태로 변경합니다. 작성자만 삭제할 수 있습니다.<p>
+     * 답글이면 부모 댓글의 답글 수도 줄입니다. 삭제된 댓글에 달린 답글은 그대로 남습니다.
+     *
+     * @param commentId 댓글 ID
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void deleteComment(Long commentId, Long userId) {
+        Comment comment = commentRepository.findById(commentId)
+                .filter(found -> found.getStatus() == Status.ACTIVE)
+                .orElseThrow(() -> new CustomException("댓글을 찾을 수 없습니다.", ErrorCode.COMMENT_NOT_FOUND));
 
-        commentRepository.save(comment);
+        if (!comment.getUser().getId().equals(userId)) {
+            throw new CustomException("댓글 작성자만 삭제할 수 있습니다.", ErrorCode.COMMENT_ACCESS_DENIED);
+        }
 
-        return convertToCommentResponse(comment);
+        comment.delete();
+        postRepository.decrementCommentCount(comment.getPost().getId());
+        if (comment.getParent() != null) {
+            commentRepository.decrementReplyCount(comment.getParent().getId());
+        }
     }
 
     /**
-     * 특정 게시글에 달린 댓글을 조회합니다.
+     * 특정 게시글에 달린 댓글을 커서 기반으로 페이지 조회합니다.<p>
+     * 기본은 작성 순이며, newestFirst가 true이면 최신순으로 조회합니다.<p>
+     * 생성 시각은 INSERT 시점에 찍히므로, 다른 인스턴스나 대량 가져오기의 댓글은 이미 지나간 시각으로 찍힌 채 늦게 커밋될 수 있습니다.
+     * 작성 순 커서는 마지막으로 내려준 시각보다 cursorOverlapMs만큼 앞에서부터 다시 읽고, 그 구간에서 이미 내려준 댓글의 ID를
+     * 커서에 담아 걸러 내므로 늦게 커밋된 댓글도 중복 없이 다음 페이지에 나타납니다.
      *
      * @param postId 게시글 ID
      * @param userId 사용자 ID
-     * @return 댓글 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @param newestFirst 최신순 조회 여부
+     * @return 댓글 페이지
      */
     @Transactional(readOnly = true)
-    public List<CommentResponse> getCommentsByPost(Long postId, Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+    public CursorResponse<CommentResponse> getCommentsByPost(Long postId, Long userId, String cursor, int size, boolean newestFirst) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
 
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND));
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND);
+        }
+
+        int pageSize = normalizePageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<CommentView> comments;
+        CursorUtil.WindowCursor window = null;
+        List<CommentView> seen = List.of();
+        boolean windowFull = false;
+        if (cursor == null || cursor.isBlank()) {
+            comments = newestFirst
+                    ? commentRepository.findLatestViewsByPostId(postId, Status.ACTIVE, limit)
+                    : commentRepository.findViewsByPostId(postId, Status.ACTIVE, limit);
+        } else if (newestFirst) {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            comments = commentRepository.findLatestViewsByPostIdBefore(postId, Status.ACTIVE, decoded.createdAt(), decoded.id(), limit);
+        } else {
+            window = CursorUtil.decodeWindow(cursor);
+            // 이미 내려준 댓글을 걸러도 한 페이지와 한 건이 남도록 그만큼 더 조회합니다.
+            int fetchSize = pageSize + 1 + window.seenIds().size();
+            List<CommentView> fetched = commentRepository.findViewsByPostIdSince(postId, Status.ACTIVE, window.since(),
+                    PageRequest.of(0, fetchSize));
+            windowFull = fetched.size() == fetchSize;
+            Set<Long> seenIds = window.seenIds();
+            Map<Boolean, List<CommentView>> partitioned = fetched.stream()
+                    .collect(Collectors.partitioningBy(comment -> seenIds.contains(comment.id())));
+            seen = partitioned.get(true);
+            comments = partitioned.get(false);
+        }
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentView> page = hasNext ? comments.subList(0, pageSize) : comments;
+        CommentView last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        String nextCursor = null;
+        if (hasNext) {
+            nextCursor = newestFirst
+                    ? CursorUtil.encode(last.createdAt(), last.id())
+                    : nextWindowCursor(window, seen, page, windowFull);
+        }
 
-        List<Comment> comments = commentRepository.findByPostAndStatus(post, Status.ACTIVE);
+        return CursorResponse.<CommentResponse>builder()
+                .items(page.stream()
+                        .map(this::convertToCommentResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 작성 순 조회의 다음 커서를 만듭니다.<p>
+     * 다음 구간은 지금까지 내려준 가장 늦은 생성 시각보다 cursorOverlapMs만큼 앞에서 시작하며, 뒤로 가지는 않습니다.
+     * 그 구간 안에서 내려준 댓글의 ID를 담아 다음 조회에서 거릅니다. 이번 조회가 개수 제한에 걸려 확인하지 못한 이전 ID는
+     * 생성 시각을 모르므로 그대로 유지합니다.
+     *
+     * @param previous 이번 조회에 사용한 커서 (첫 페이지면 null)
+     * @param seen 이번 조회에서 이미 내려준 것으로 걸러진 댓글
+     * @param page 이번에 내려주는 댓글
+     * @param windowFull 이번 조회가 개수 제한만큼 가득 찼는지 여부
+     * @return 다음 커서
+     */
+    private String nextWindowCursor(CursorUtil.WindowCursor previous, List<CommentView> seen, List<CommentView> page,
+                                    boolean windowFull) {
+        List<CommentView> returned = new ArrayList<>(seen);
+        returned.addAll(page);
+        LocalDateTime latest = returned.stream().map(CommentView::createdAt).max(LocalDateTime::compareTo).orElseThrow();
+        LocalDateTime since = latest.minusNanos(cursorOverlapMs * 1_000_000L);
+        if (previous != null && previous.since().isAfter(since)) {
+            since = previous.since();
+        }
+
+        Set<Long> seenIds = new LinkedHashSet<>();
+        if (previous != null && windowFull) {
+            seenIds.addAll(previous.seenIds());
+            seen.forEach(comment -> seenIds.remove(comment.id()));
+        }
+        for (CommentView comment : returned) {
+            if (!comment.createdAt().isBefore(since)) {
+                seenIds.add(comment.id());
+            }
+        }
+        return CursorUtil.encodeWindow(since, seenIds);
+    }
+
+    /**
+     * 게시글에 새로 달리는 댓글을 SSE로 구독합니다.<p>
+     * 클라이언트는 첫 페이지를 조회한 뒤 이 스트림으로 새 댓글을 받으며, resync 이벤트를 받으면 마지막 커서부터 다시 조회합니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 비동기 SSE 응답
+     */
+    public SseEmitter subscribeComments(Long postId, Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND);
+        }
 
-        return comments.stream()
-                .map(this::convertToCommentResponse)
-                .collect(Collectors.toList());
+        return commentStreamHub.subscribe(postId);
+    }
+
+    /**
+     * 게시글의 댓글을 스레드 표시 순서로 페이지 조회합니다.<p>
+     * 루트 댓글은 작성 순으로, 각 댓글 바로 뒤에는 그 답글들이 같은 규칙으로 이어지며 깊이(depth)로 들여쓰기를 표현합니다.
+     * 삭제된 댓글은 빠지고 그 답글은 남습니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 스레드 순서의 댓글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getThread(Long postId, Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        if (!postRepository.existsById(postId)) {
+            throw new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND);
+        }
+
+        String after = cursor == null || cursor.isBlank() ? "" : CursorUtil.decodeKey(cursor);
+        return findThreadPage(postId, "%", after, size);
+    }
+
+    /**
+     * 댓글에 달린 답글 전체(하위 트리)를 스레드 표시 순서로 페이지 조회합니다. 기준 댓글 자신은 포함하지 않습니다.
+     *
+     * @param commentId 기준 댓글 ID
+     * @param userId 사용자 ID
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 스레드 순서의 답글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<CommentResponse> getReplies(Long commentId, Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        CommentPathView root = commentRepository.findPathViewById(commentId, Status.ACTIVE)
+                .orElseThrow(() -> new CustomException("댓글을 찾을 수 없습니다.", ErrorCode.COMMENT_NOT_FOUND));
+
+        // 기준 댓글의 경로 자체는 건너뛰고 그 뒤의 하위 트리부터 읽습니다.
+        String after = cursor == null || cursor.isBlank() ? root.path() : CursorUtil.decodeKey(cursor);
+        return findThreadPage(root.postId(), root.path() + "%", after, size);
+    }
+
+    /**
+     * 경로 패턴에 맞는 댓글을 after 경로 이후부터 한 페이지 조회합니다.
+     */
+    private CursorResponse<CommentResponse> findThreadPage(Long postId, String pattern, String after, int size) {
+        int pageSize = normalizePageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        List<CommentThreadView> comments = commentRepository.findThreadViews(postId, Status.ACTIVE, pattern, after,
+                PageRequest.of(0, pageSize + 1));
+
+        boolean hasNext = comments.size() > pageSize;
+        List<CommentThreadView> page = hasNext ? comments.subList(0, pageSize) : comments;
+        CommentThreadView last = page.isEmpty() ? null : page.get(page.size() - 1);
+
+        return CursorResponse.<CommentResponse>builder()
+                .items(page.stream()
+                        .map(this::convertToCommentResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? CursorUtil.encodeKey(last.path()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 여러 게시글의 최신 댓글 미리보기를 한 번에 조회합니다.<p>
+     * 피드 한 페이지의 게시글 ID를 받아 게시글마다 최신 댓글을 최대 size개씩 반환합니다.
+     * 결과는 요청한 게시글 순서를 따르며, 댓글이 없는 게시글은 빈 목록으로 포함됩니다.
+     *
+     * @param postIds 게시글 ID 목록 (최대 {@value #MAX_PREVIEW_POSTS}개)
+     * @param userId 사용자 ID
+     * @param size 게시글당 댓글 수 (최대 {@value #MAX_PREVIEW_SIZE})
+     * @return 게시글 ID별 최신순 댓글 목록
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<CommentResponse>> getCommentPreviews(List<Long> postIds, Long userId, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        Set<Long> ids = new LinkedHashSet<>(postIds);
+        if (ids.size() > MAX_PREVIEW_POSTS) {
+            throw new CustomException("한 번에 미리보기를 요청할 수 있는 게시글 수를 초과했습니다.", ErrorCode.TOO_MANY_PREVIEW_POSTS);
+        }
+
+        Map<Long, List<CommentResponse>> previews = new LinkedHashMap<>();
+        ids.forEach(id -> previews.put(id, new ArrayList<>()));
+        if (ids.isEmpty()) {
+            return previews;
+        }
+
+        int limit = size <= 0 ? DEFAULT_PREVIEW_SIZE : Math.min(size, MAX_PREVIEW_SIZE);
+        for (CommentView view : commentRepository.findLatestViewsByPostIds(ids, Status.ACTIVE, limit)) {
+            previews.get(view.postId()).add(convertToCommentResponse(view));
+        }
+        return previews;
+    }
+
+    /**
+     * 요청된 페이지 크기를 허용 범위로 보정합니다.
+     *
+     * @param size 요청된 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * 댓글 프로젝션을 CommentResponse DTO로 변환합니다.
+     *
+     * @param view 댓글 프로젝션
+     * @return 댓글 응답 DTO
+     */
+    private CommentResponse convertToCommentResponse(CommentView view) {
+        return CommentResponse.builder()
+                .id(view.id())
+                .content(view.content())
+                .userName(view.userName())
+                .postId(view.postId())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .status(view.status().toString())
+                .schoolLevel(view.schoolLevel().toString())
+                .build();
     }
 
     /**
-     * 댓글 엔티티를 CommentResponse DTO로 변환합니다.
+     * 스레드 댓글 프로젝션을 CommentResponse DTO로 변환합니다.
      *
-     * @param comment 댓글 엔티티
+     * @param view 스레드 댓글 프로젝션
      * @return 댓글 응답 DTO
      */
-    private CommentResponse convertToCommentResponse(Comment comment) {
+    private CommentResponse convertToCommentResponse(CommentThreadView view) {
         return CommentResponse.builder()
-                .id(comment.getId())
-                .content(comment.getContent())
-                .userName(comment.getUser().getUserName())
-                .postId(comment.getPost().getId())
-                .createdAt(comment.getCreatedAt())
-                .updatedAt(comment.getUpdatedAt())
-                .status(comment.getStatus().toString())
-                .schoolLevel(comment.getSchoolLevel().toString())
+                .id(view.id())
+                .content(view.content())
+                .userName(view.userName())
+                .postId(view.postId())
+                .parentId(view.parentId())
+                .depth(view.depth())
+                .replyCount(view.replyCount())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .status(view.status().toString())
+                .schoolLevel(view.schoolLevel().toString())
                 .build();
     }
 }
@@ -0,0 +1,393 @@
+package com.minseok.enigma.enigma.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minseok.enigma.enigma.dto.response.comment.CommentResponse;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 게시글별 새 댓글을 SSE(Server-Sent Events) 구독자에게 전달하는 인메모리 허브입니다.<p>
+ * 구독 요청은 {@link SseEmitter}를 반환하고 곧바로 요청 스레드를 돌려주므로(서블릿 비동기 처리) 연결마다 스레드를 잡지 않습니다.
+ * 새 댓글은 한 번만 JSON으로 직렬화한 뒤 게시글의 구독자마다 고정 크기 대기열에 넣고,
+ * 소수의 전송 스레드가 대기열이 빈 구독자를 건너뛰며 차례로 비워 줍니다. 느린 구독자는 자기 대기열만 채울 뿐 다른 구독자를 막지 않습니다.<p>
+ * 대기열이 가득 차면 쌓인 댓글을 버리고 하나의 resync 이벤트로 합쳐(coalesce), 클라이언트가 마지막 커서부터 다시 조회하게 합니다.
+ * 하트비트는 대기열이 비어 있을 때만 넣습니다. 하트비트 주기마다 끊긴 연결, 전송이 진행되지 않는 연결,
+ * idleTimeoutMs 동안 새 댓글이 없던 연결을 정리합니다. 정리된 클라이언트는 EventSource의 자동 재연결로 다시 구독합니다.<p>
+ * 소켓 쓰기는 블로킹이므로 읽지 않는 클라이언트 하나가 전송 스레드를 붙잡을 수 있습니다. 한 번의 전송이 writeTimeoutMs를 넘기면
+ * 그 구독자를 허브에서 빼고 전송 스레드를 인터럽트해 돌려받습니다. 인터럽트로도 풀리지 않는 쓰기는
+ * 비동기 요청 타임아웃(maxConnectionMs)에 컨테이너가 응답을 닫으면서 풀립니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentStreamHub {
+
+    static final String COMMENT_EVENT = "comment";
+    static final String RESYNC_EVENT = "resync";
+
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${enigma.comment-stream.queue-capacity:64}")
+    private int queueCapacity;
+
+    @Value("${enigma.comment-stream.max-subscribers:10000}")
+    private int maxSubscribers;
+
+    @Value("${enigma.comment-stream.sender-threads:4}")
+    private int senderThreads;
+
+    @Value("${enigma.comment-stream.heartbeat-interval-ms:15000}")
+    private long heartbeatIntervalMs;
+
+    @Value("${enigma.comment-stream.idle-timeout-ms:600000}")
+    private long idleTimeoutMs;
+
+    @Value("${enigma.comment-stream.write-timeout-ms:5000}")
+    private long writeTimeoutMs;
+
+    @Value("${enigma.comment-stream.max-connection-ms:1800000}")
+    private long maxConnectionMs;
+
+    private final Map<Long, Set<Subscriber>> subscribersByPost = new ConcurrentHashMap<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ExecutorService sender;
+    private Counter dropped;
+
+    /**
+     * 구독자에게 보낼 이벤트입니다. 이름이 null이면 하트비트(SSE 주석)입니다.
+     *
+     * @param id 이벤트 ID (댓글 ID)
+     * @param name 이벤트 이름
+     * @param data 직렬화된 데이터
+     */
+    record StreamEvent(String id, String name, String data) {
+
+        static final StreamEvent HEARTBEAT = new StreamEvent(null, null, "heartbeat");
+
+        static StreamEvent resync(int droppedEvents) {
+            return new StreamEvent(null, RESYNC_EVENT, String.valueOf(droppedEvents));
+        }
+
+        boolean isHeartbeat() {
+            return name == null;
+        }
+
+        SseEmitter.SseEventBuilder toSseEvent() {
+            if (isHeartbeat()) {
+                return SseEmitter.event().comment(data);
+            }
+            SseEmitter.SseEventBuilder event = SseEmitter.event().name(name).data(data, MediaType.APPLICATION_JSON);
+            return id == null ? event : event.id(id);
+        }
+    }
+
+    /**
+     * 전송 스레드를 시작하고 메트릭을 등록합니다.
+     */
+    @PostConstruct
+    public void start() {
+        AtomicInteger threadNumber = new AtomicInteger();
+        sender = Executors.newFixedThreadPool(senderThreads, runnable -> {
+            Thread thread = new Thread(runnable, "comment-stream-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        dropped = Counter.builder("enigma.comment.stream.dropped")
+                .description("구독자 대기열이 가득 차 버린 댓글 이벤트 수")
+                .register(meterRegistry);
+        Gauge.builder("enigma.comment.stream.subscribers", subscriberCount, AtomicInteger::get)
+                .description("댓글 스트림 구독자 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글의 새 댓글 스트림을 구독합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 비동기 SSE 응답
+     */
+    public SseEmitter subscribe(Long postId) {
+        if (subscriberCount.incrementAndGet() > maxSubscribers) {
+            subscriberCount.decrementAndGet();
+            throw new CustomException("실시간 댓글 구독자가 많습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.COMMENT_STREAM_BUSY);
+        }
+
+        // 허브가 정리하지 못한 연결(쓰기에 묶인 연결 등)도 이 시간이 지나면 컨테이너가 닫습니다.
+        return register(postId, new SseEmitter(maxConnectionMs));
+    }
+
+    /**
+     * 구독 수 한도를 통과한 연결을 허브에 등록합니다.
+     *
+     * @param postId 게시글 ID
+     * @param emitter 비동기 SSE 응답
+     * @return 등록된 응답
+     */
+    SseEmitter register(Long postId, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(postId, emitter);
+        subscribersByPost.compute(postId, (key, subscribers) -> {
+            Set<Subscriber> target = subscribers == null ? ConcurrentHashMap.newKeySet() : subscribers;
+            target.add(subscriber);
+            return target;
+        });
+        emitter.onCompletion(subscriber::close);
+        emitter.onTimeout(subscriber::close);
+        emitter.onError(error -> subscriber.close());
+
+        // 첫 하트비트로 응답 헤더를 바로 내보내 프록시가 연결을 붙잡아 두지 않게 합니다.
+        subscriber.enqueue(StreamEvent.HEARTBEAT);
+        return emitter;
+    }
+
+    /**
+     * 새 댓글을 해당 게시글의 구독자에게 전달합니다. 전달은 비동기로 이루어지며 호출자를 기다리게 하지 않습니다.
+     *
+     * @param comment 작성된 댓글
+     */
+    public void publish(CommentResponse comment) {
+        Set<Subscriber> subscribers = subscribersByPost.get(comment.getPostId());
+        if (subscribers == null || subscribers.isEmpty()) {
+            return;
+        }
+
+        StreamEvent event;
+        try {
+            event = new StreamEvent(String.valueOf(comment.getId()), COMMENT_EVENT, objectMapper.writeValueAsString(comment));
+        } catch (JsonProcessingException e) {
+            log.warn("댓글 이벤트를 직렬화하지 못했습니다. commentId={}", comment.getId(), e);
+            return;
+        }
+        long now = System.currentTimeMillis();
+        for (Subscriber subscriber : subscribers) {
+            subscriber.lastCommentAt = now;
+            subscriber.enqueue(event);
+        }
+    }
+
+    /**
+     * 현재 구독자 수를 반환합니다.
+     *
+     * @return 구독자 수
+     */
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    /**
+     * 하트비트를 보내고, 오래 새 댓글이 없었거나 전송이 멈춘 연결을 정리합니다.<p>
+     * 전송이 하트비트 주기의 두 배 넘게 진행되지 않은 구독자는 읽지 않는 클라이언트로 보고 정리합니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.comment-stream.heartbeat-interval-ms:15000}",
+            initialDelayString = "${enigma.comment-stream.heartbeat-interval-ms:15000}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        for (Set<Subscriber> subscribers : subscribersByPost.values()) {
+            for (Subscriber subscriber : subscribers) {
+                if (now - subscriber.lastCommentAt > idleTimeoutMs || subscriber.isStalled(now, heartbeatIntervalMs * 2)) {
+                    subscriber.complete();
+                } else {
+                    subscriber.enqueue(StreamEvent.HEARTBEAT);
+                }
+            }
+        }
+    }
+
+    /**
+     * 한 번의 전송이 writeTimeoutMs를 넘긴 구독자를 정리합니다.<p>
+     * 쓰기에 묶인 전송 스레드를 인터럽트해 다른 구독자의 대기열을 비우는 데 다시 쓰이게 합니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.comment-stream.write-timeout-ms:5000}",
+            initialDelayString = "${enigma.comment-stream.write-timeout-ms:5000}")
+    public void evictSlowWriters() {
+        long now = System.currentTimeMillis();
+        for (Set<Subscriber> subscribers : subscribersByPost.values()) {
+            for (Subscriber subscriber : subscribers) {
+                if (subscriber.isWriteTimedOut(now, writeTimeoutMs)) {
+                    log.debug("댓글 스트림 전송이 지연되어 연결을 정리합니다. postId={}", subscriber.postId);
+                    subscriber.evict();
+                }
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 연결을 닫고 전송 스레드를 멈춥니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        List<Subscriber> all = new ArrayList<>();
+        subscribersByPost.values().forEach(all::addAll);
+        all.forEach(Subscriber::complete);
+        sender.shutdown();
+        sender.awaitTermination(5, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 구독 연결 하나입니다. 대기열은 이 객체의 잠금으로 보호하며, 한 번에 하나의 전송 작업만 대기열을 비웁니다.
+     * 이전 전송이 끝나지 않은 구독자에게는 새 전송 스레드를 내주지 않고 대기열에만 쌓습니다.
+     */
+    private final class Subscriber {
+
+        private final Long postId;
+        private final SseEmitter emitter;
+        private final ArrayDeque<StreamEvent> queue = new ArrayDeque<>();
+        private final AtomicBoolean closed = new AtomicBoolean();
+
+        private boolean draining;
+        private long lastProgressAt;
+        private long sendStartedAt;
+        private Thread sendingThread;
+        private volatile long lastCommentAt = System.currentTimeMillis();
+
+        private Subscriber(Long postId, SseEmitter emitter) {
+            this.postId = postId;
+            this.emitter = emitter;
+        }
+
+        /**
+         * 이벤트를 대기열에 넣고, 대기열을 비우는 작업이 없으면 전송 스레드에 맡깁니다.<p>
+         * 하트비트는 대기열이 비어 있을 때만 넣고, 대기열이 가득 차면 쌓인 댓글을 resync 이벤트 하나로 바꿉니다.
+         */
+        void enqueue(StreamEvent event) {
+            synchronized (this) {
+                if (closed.get() || (event.isHeartbeat() && !queue.isEmpty())) {
+                    return;
+                }
+                if (queue.size() >= queueCapacity) {
+                    int droppedEvents = (int) queue.stream().filter(queued -> COMMENT_EVENT.equals(queued.name())).count();
+                    queue.clear();
+                    queue.add(StreamEvent.resync(droppedEvents));
+                    dropped.increment(droppedEvents);
+                }
+                if (queue.isEmpty()) {
+                    lastProgressAt = System.currentTimeMillis();
+                }
+                queue.add(event);
+                if (draining) {
+                    return;
+                }
+                draining = true;
+            }
+            try {
+                sender.execute(this::drain);
+            } catch (RuntimeException e) {
+                // 종료 중이라 전송 스레드에 맡길 수 없으면 연결을 닫습니다.
+                close();
+            }
+        }
+
+        /**
+         * 대기열이 빌 때까지 이벤트를 보냅니다. 전송에 실패하면 연결을 닫습니다.
+         */
+        private void drain() {
+            while (true) {
+                StreamEvent event;
+                synchronized (this) {
+                    event = queue.poll();
+                    if (event == null || closed.get()) {
+                        draining = false;
+                        return;
+                    }
+                    sendingThread = Thread.currentThread();
+                    sendStartedAt = System.currentTimeMillis();
+                }
+                boolean sent;
+                try {
+                    emitter.send(event.toSseEvent());
+                    sent = true;
+                } catch (IOException | IllegalStateException e) {
+                    sent = false;
+                }
+                synchronized (this) {
+                    sendingThread = null;
+                    lastProgressAt = System.currentTimeMillis();
+                }
+                // 전송이 끝난 뒤 도착한 정리 인터럽트가 다음 구독자의 전송을 깨뜨리지 않도록 지웁니다.
+                Thread.interrupted();
+                if (!sent || closed.get()) {
+                    log.debug("댓글 스트림 전송에 실패했거나 정리된 연결을 닫습니다. postId={}", postId);
+                    complete();
+                    return;
+                }
+            }
+        }
+
+        synchronized boolean isWriteTimedOut(long now, long timeoutMs) {
+            return sendingThread != null && now - sendStartedAt > timeoutMs;
+        }
+
+        /**
+         * 허브에서 빼고, 쓰기에 묶인 전송 스레드를 인터럽트합니다.<p>
+         * 응답을 끝내는 일은 쓰기가 풀린 전송 스레드가 맡습니다. 응답은 쓰기와 같은 잠금을 쓰므로 여기서 끝내면 호출 스레드까지 묶입니다.
+         */
+        void evict() {
+            close();
+            synchronized (this) {
+                if (sendingThread != null) {
+                    sendingThread.interrupt();
+                }
+            }
+        }
+
+        synchronized boolean isStalled(long now, long stallTimeoutMs) {
+            return !queue.isEmpty() && now - lastProgressAt > stallTimeoutMs;
+        }
+
+        /**
+         * 응답을 끝내고 허브에서 제거합니다.
+         */
+        void complete() {
+            close();
+            try {
+                emitter.complete();
+            } catch (RuntimeException e) {
+                // 이미 끝난 응답입니다.
+            }
+        }
+
+        /**
+         * 허브에서 제거합니다. 여러 번 호출되어도 한 번만 반영됩니다.
+         */
+        void close() {
+            if (!closed.compareAndSet(false, true)) {
+                return;
+            }
+            synchronized (this) {
+                queue.clear();
+            }
+            subscribersByPost.computeIfPresent(postId, (key, subscribers) -> {
+                subscribers.remove(this);
+                return subscribers.isEmpty() ? null : subscribers;
+            });
+            subscriberCount.decrementAndGet();
+        }
+    }
+}
@@ -0,0 +1,345 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.entity.*;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.repository.projection.CommentPathView;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 댓글 작성을 모아서 저장하는 그룹 커밋(group commit) 파이프라인입니다.<p>
+ * 요청 스레드는 댓글을 고정 크기 대기열에 넣고 결과를 기다리며, 전용 작성 스레드가 대기열에서 댓글을
+ * 최대 batchSize개 또는 첫 댓글이 들어온 뒤 maxLatencyMs가 지날 때까지 모아 하나의 트랜잭션에서 JDBC 배치로 저장합니다.
+ * 같은 트랜잭션에서 게시글별 댓글 통계와 부모 댓글의 답글 수도 배치 UPDATE로 반영하므로, 댓글마다 커넥션을 잡고 커밋하던 비용이 묶음 단위로 줄어듭니다.<p>
+ * 대기열이 가득 차 offerTimeoutMs 안에 자리가 나지 않으면 요청을 거절해(backpressure) 커넥션 풀 대신 대기열에서 부하를 끊습니다.
+ * 묶음 저장이 실패하면 한 건씩 다시 저장해 문제가 있는 댓글만 실패로 돌려줍니다.<p>
+ * 댓글마다 작성 스레드와 요청 스레드 중 먼저 차지한 쪽만 처리합니다. 요청 스레드가 기다리다 시간이 초과되어 먼저 차지하면
+ * 그 댓글은 저장하지 않으므로, 실패로 응답한 댓글이 나중에 저장되거나 재시도로 중복되지 않습니다.<p>
+ * 댓글의 생성 시각은 대기열에 넣을 때가 아니라 작성 스레드의 트랜잭션 안에서 INSERT할 때 찍힙니다.
+ * 작성 스레드는 하나뿐이고 이전 묶음이 커밋된 뒤에야 다음 묶음의 시각을 찍으므로 이 인스턴스의 댓글은 생성 시각 순서대로 커밋됩니다.
+ * 다른 인스턴스나 대량 가져오기의 쓰기와의 순서는 보장하지 않으며, 작성 순 조회는 {@link CommentService}의 겹침 구간 커서로 이를 보완합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentWritePipeline {
+
+    private static final String ADD_REPLY_COUNT_SQL = "UPDATE comments SET reply_count = reply_count + ? WHERE id = ?";
+    private static final long IDLE_POLL_MS = 100;
+
+    private final TransactionTemplate transactionTemplate;
+    private final JdbcTemplate jdbcTemplate;
+    private final PostCommentStatsWriter postCommentStatsWriter;
+    private final MeterRegistry meterRegistry;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Value("${enigma.comment-write.queue-capacity:2000}")
+    private int queueCapacity;
+
+    @Value("${enigma.comment-write.batch-size:100}")
+    private int batchSize;
+
+    @Value("${enigma.comment-write.max-latency-ms:20}")
+    private long maxLatencyMs;
+
+    @Value("${enigma.comment-write.offer-timeout-ms:200}")
+    private long offerTimeoutMs;
+
+    @Value("${enigma.comment-write.await-timeout-ms:5000}")
+    private long awaitTimeoutMs;
+
+    private BlockingQueue<PendingComment> queue;
+    private Thread writer;
+    private volatile boolean running;
+
+    private Counter rejected;
+    private DistributionSummary batchSizes;
+
+    /**
+     * 저장된 댓글의 생성된 값입니다.
+     *
+     * @param id 댓글 ID
+     * @param createdAt 댓글 작성 시각
+     * @param updatedAt 댓글 수정 시각
+     */
+    public record WrittenComment(Long id, LocalDateTime createdAt, LocalDateTime updatedAt) {
+    }
+
+    /**
+     * 저장을 기다리는 댓글입니다.
+     *
+     * @param claimed 작성 스레드가 저장하기로 했거나 요청 스레드가 취소했으면 true
+     */
+    private record PendingComment(Long userId, Long postId, CommentPathView parent, String content,
+                                  SchoolLevel schoolLevel, CompletableFuture<WrittenComment> result,
+                                  AtomicBoolean claimed) {
+
+        /**
+         * 이 댓글을 처리할 권한을 차지합니다. 작성 스레드와 요청 스레드 중 한 쪽만 성공합니다.
+         *
+         * @return 차지했으면 true
+         */
+        boolean claim() {
+            return claimed.compareAndSet(false, true);
+        }
+    }
+
+    /**
+     * 대기열과 작성 스레드를 시작하고 메트릭을 등록합니다.
+     */
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(queueCapacity);
+        rejected = Counter.builder("enigma.comment.write.rejected")
+                .description("대기열이 가득 차 거절된 댓글 작성 요청 수")
+                .register(meterRegistry);
+        batchSizes = DistributionSummary.builder("enigma.comment.write.batch.size")
+                .description("한 트랜잭션에서 저장한 댓글 수")
+                .register(meterRegistry);
+        Gauge.builder("enigma.comment.write.queue.size", this, pipeline -> pipeline.queue.size())
+                .description("저장을 기다리는 댓글 수")
+                .register(meterRegistry);
+
+        running = true;
+        writer = new Thread(this::runWriter, "comment-writer");
+        writer.setDaemon(true);
+        writer.start();
+    }
+
+    /**
+     * 루트 댓글을 대기열에 넣고 저장될 때까지 기다립니다.
+     *
+     * @param userId 작성자 ID
+     * @param postId 게시글 ID
+     * @param content 댓글 내용
+     * @param schoolLevel 댓글의 학교 수준
+     * @return 저장된 댓글의 ID와 작성/수정 시각
+     */
+    public WrittenComment write(Long userId, Long postId, String content, SchoolLevel schoolLevel) {
+        return write(userId, postId, null, content, schoolLevel);
+    }
+
+    /**
+     * 댓글을 대기열에 넣고 저장될 때까지 기다립니다.
+     *
+     * @param userId 작성자 ID
+     * @param postId 게시글 ID
+     * @param parent 답글을 달 부모 댓글의 위치 (루트 댓글이면 null)
+     * @param content 댓글 내용
+     * @param schoolLevel 댓글의 학교 수준
+     * @return 저장된 댓글의 ID와 작성/수정 시각
+     */
+    public WrittenComment write(Long userId, Long postId, CommentPathView parent, String content, SchoolLevel schoolLevel) {
+        PendingComment pending = new PendingComment(userId, postId, parent, content, schoolLevel,
+                new CompletableFuture<>(), new AtomicBoolean());
+        if (!offer(pending)) {
+            rejected.increment();
+            throw new CustomException("댓글 작성 요청이 많습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.COMMENT_WRITE_BUSY);
+        }
+
+        try {
+            try {
+                return pending.result().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+            } catch (TimeoutException e) {
+                if (pending.claim()) {
+                    // 작성 스레드가 아직 가져가지 않았으므로 저장되지 않습니다.
+                    pending.result().cancel(false);
+                    rejected.increment();
+                    throw new CustomException("댓글 작성 요청이 많습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.COMMENT_WRITE_BUSY);
+                }
+                // 이미 저장 중인 묶음에 들어갔으므로 그 트랜잭션의 결과를 한 번 더 기다립니다.
+                return awaitClaimedResult(pending);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("댓글 저장을 기다리는 중 인터럽트되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException("댓글 저장에 실패했습니다.", e.getCause());
+        }
+    }
+
+    /**
+     * 작성 스레드가 이미 차지한 댓글의 저장 결과를 awaitTimeoutMs만큼 더 기다립니다.<p>
+     * 작성 스레드가 멈춰 그 안에 결과가 나오지 않으면 요청 스레드를 붙잡아 두지 않고 실패로 응답합니다.
+     * 이때 댓글은 나중에 저장될 수 있으므로 "확인하지 못함"으로 알립니다.
+     */
+    private WrittenComment awaitClaimedResult(PendingComment pending) throws InterruptedException, ExecutionException {
+        try {
+            return pending.result().get(awaitTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("작성 스레드가 응답하지 않아 댓글 저장 결과를 확인하지 못했습니다. postId={}", pending.postId());
+            throw new CustomException("댓글 저장 결과를 확인하지 못했습니다. 잠시 후 댓글 목록을 확인해 주세요.", ErrorCode.COMMENT_WRITE_TIMEOUT);
+        }
+    }
+
+    private boolean offer(PendingComment pending) {
+        if (!running) {
+            return false;
+        }
+        try {
+            return queue.offer(pending, offerTimeoutMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 작성 스레드 본문입니다. 종료 요청을 받으면 대기열에 남은 댓글까지 저장한 뒤 끝납니다.
+     */
+    private void runWriter() {
+        List<PendingComment> batch = new ArrayList<>(batchSize);
+        while (running || !queue.isEmpty()) {
+            try {
+                collect(batch);
+            } catch (InterruptedException e) {
+                // 작성 스레드는 인터럽트로 멈추지 않습니다. 이미 모은 댓글은 아래에서 저장합니다.
+            }
+            // 기다리다 포기한 요청의 댓글은 저장하지 않습니다.
+            batch.removeIf(pending -> !pending.claim());
+            if (!batch.isEmpty()) {
+                flush(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    /**
+     * 첫 댓글을 기다린 뒤, 묶음이 가득 차거나 첫 댓글 이후 maxLatencyMs가 지날 때까지 댓글을 더 모읍니다.
+     */
+    private void collect(List<PendingComment> batch) throws InterruptedException {
+        PendingComment first = queue.poll(IDLE_POLL_MS, TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(maxLatencyMs);
+        while (batch.size() < batchSize) {
+            queue.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            PendingComment next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    /**
+     * 모은 댓글을 하나의 트랜잭션에서 저장하고 기다리는 요청에 결과를 돌려줍니다.<p>
+     * 묶음 저장이 실패하면 한 건씩 다시 저장해 실패한 댓글에만 예외를 전달합니다.
+     */
+    private void flush(List<PendingComment> batch) {
+        try {
+            List<WrittenComment> written = transactionTemplate.execute(status -> save(batch));
+            batchSizes.record(batch.size());
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).result().complete(written.get(i));
+            }
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).result().completeExceptionally(e);
+                return;
+            }
+            log.warn("댓글 묶음 저장에 실패해 한 건씩 다시 저장합니다. size={}", batch.size(), e);
+            for (PendingComment pending : batch) {
+                flush(List.of(pending));
+            }
+        }
+    }
+
+    /**
+     * 댓글 묶음을 INSERT 배치로 저장하고, 게시글별 댓글 수와 마지막 댓글 작성 시각, 부모 댓글의 답글 수를 배치 UPDATE로 반영합니다.<p>
+     * 답글의 경로에는 부모 경로를 넣어 두고, 자기 ID 구간은 INSERT 시점에 덧붙습니다.
+     */
+    private List<WrittenComment> save(List<PendingComment> batch) {
+        List<Comment> saved = new ArrayList<>(batch.size());
+        Map<Long, Integer> replyCounts = new HashMap<>();
+        for (PendingComment pending : batch) {
+            CommentPathView parent = pending.parent();
+            Comment comment = Comment.builder()
+                    .user(entityManager.getReference(User.class, pending.userId()))
+                    .post(entityManager.getReference(Post.class, pending.postId()))
+                    .parent(parent == null ? null : entityManager.getReference(Comment.class, parent.id()))
+                    .path(parent == null ? null : parent.path())
+                    .depth(parent == null ? 0 : parent.depth() + 1)
+                    .content(pending.content())
+                    .status(Status.ACTIVE)
+                    .schoolLevel(pending.schoolLevel())
+                    .build();
+            entityManager.persist(comment);
+            saved.add(comment);
+            if (parent != null) {
+                replyCounts.merge(parent.id(), 1, Integer::sum);
+            }
+        }
+        entityManager.flush();
+
+        List<WrittenComment> written = new ArrayList<>(saved.size());
+        List<PostCommentStatsWriter.AddedComment> added = new ArrayList<>(saved.size());
+        for (int i = 0; i < saved.size(); i++) {
+            Comment comment = saved.get(i);
+            added.add(new PostCommentStatsWriter.AddedComment(batch.get(i).postId(), comment.getCreatedAt()));
+            written.add(new WrittenComment(comment.getId(), comment.getCreatedAt(), comment.getUpdatedAt()));
+        }
+        postCommentStatsWriter.addAll(added);
+        if (!replyCounts.isEmpty()) {
+            List<Object[]> replyArgs = new ArrayList<>(replyCounts.size());
+            replyCounts.forEach((parentId, count) -> replyArgs.add(new Object[]{count, parentId}));
+            jdbcTemplate.batchUpdate(ADD_REPLY_COUNT_SQL, replyArgs);
+        }
+
+        entityManager.clear();
+        return written;
+    }
+
+    /**
+     * 애플리케이션 종료 시 새 요청을 받지 않고, 대기열에 남은 댓글을 저장한 뒤 작성 스레드를 멈춥니다.
+     */
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        writer.join(TimeUnit.SECONDS.toMillis(30));
+
+        // 종료 직전에 들어와 저장되지 못한 댓글은 실패로 돌려줍니다.
+        List<PendingComment> remaining = new ArrayList<>();
+        queue.drainTo(remaining);
+        remaining.forEach(pending -> pending.result().completeExceptionally(
+                new CustomException("댓글 작성 요청이 많습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.COMMENT_WRITE_BUSY)));
+    }
+}
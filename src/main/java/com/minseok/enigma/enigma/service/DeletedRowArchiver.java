@@ -0,0 +1,152 @@
+package com.minseok.enigma.enigma.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * 삭제(DELETED)된 뒤 보관 기간이 지난 게시글과 댓글을 보관 테이블(posts_archive, comments_archive)로 옮기는 작업입니다.<p>
+ * 대상 ID를 일정 크기로 나누어 묶음마다 짧은 트랜잭션에서 복사 후 삭제하고,
+ * 묶음 사이에는 잠시 쉬어 운영 트래픽과 복제 지연에 주는 부담을 줄입니다.<p>
+ * comments가 posts를 외래 키로 참조하므로 게시글을 옮길 때는 그 게시글의 댓글을 상태와 관계없이 먼저 옮깁니다.
+ * 답글의 parent_id에는 외래 키가 없으므로 삭제된 부모 댓글은 남은 답글과 관계없이 옮길 수 있습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletedRowArchiver {
+
+    private static final String POST_COLUMNS =
+            "id, title, content, excerpt, user_id, view_count, comment_count, last_comment_at, " +
+            "created_at, updated_at, status, category_id, school_level";
+    private static final String COMMENT_COLUMNS =
+            "id, user_id, post_id, parent_id, path, depth, reply_count, content, created_at, updated_at, status, school_level";
+
+    private static final String SELECT_ARCHIVABLE_POST_IDS_SQL =
+            "SELECT id FROM posts WHERE status = 'DELETED' AND updated_at < ? ORDER BY updated_at LIMIT ?";
+    private static final String SELECT_ARCHIVABLE_COMMENT_IDS_SQL =
+            "SELECT id FROM comments WHERE status = 'DELETED' AND updated_at < ? ORDER BY updated_at LIMIT ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${enigma.archive.retention-days:30}")
+    private int retentionDays;
+
+    @Value("${enigma.archive.batch-size:500}")
+    private int batchSize;
+
+    @Value("${enigma.archive.pause-ms:200}")
+    private long pauseMs;
+
+    /**
+     * 보관 기간이 지난 삭제 댓글과 삭제 게시글을 보관 테이블로 옮깁니다.
+     */
+    @Scheduled(cron = "${enigma.archive.cron:0 0 5 * * *}")
+    public void archive() {
+        long startedAt = System.currentTimeMillis();
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+
+        int comments = archiveComments(cutoff);
+        int posts = archivePosts(cutoff);
+
+        log.info("삭제된 게시글/댓글을 보관 테이블로 옮겼습니다. posts={}, comments={}, elapsedMs={}",
+                posts, comments, System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 기준 시각 이전에 삭제된 댓글을 보관 테이블로 옮깁니다.
+     *
+     * @param cutoff 이 시각 이전에 삭제된 댓글만 옮깁니다.
+     * @return 옮긴 댓글 수
+     */
+    public int archiveComments(LocalDateTime cutoff) {
+        int archived = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(SELECT_ARCHIVABLE_COMMENT_IDS_SQL, Long.class, Timestamp.valueOf(cutoff), batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> moveRows("comments", COMMENT_COLUMNS, "id", batch, archivedAt));
+            archived += batch.size();
+        } while (ids.size() == batchSize && pause());
+        return archived;
+    }
+
+    /**
+     * 기준 시각 이전에 삭제된 게시글을 그 게시글의 댓글과 함께 보관 테이블로 옮깁니다.
+     *
+     * @param cutoff 이 시각 이전에 삭제된 게시글만 옮깁니다.
+     * @return 옮긴 게시글 수
+     */
+    public int archivePosts(LocalDateTime cutoff) {
+        int archived = 0;
+        List<Long> ids;
+        do {
+            ids = jdbcTemplate.queryForList(SELECT_ARCHIVABLE_POST_IDS_SQL, Long.class, Timestamp.valueOf(cutoff), batchSize);
+            if (ids.isEmpty()) {
+                break;
+            }
+            List<Long> batch = ids;
+            Timestamp archivedAt = Timestamp.valueOf(LocalDateTime.now());
+            transactionTemplate.executeWithoutResult(status -> {
+                moveRows("comments", COMMENT_COLUMNS, "post_id", batch, archivedAt);
+                jdbcTemplate.update("DELETE FROM trending_scores WHERE post_id IN (" + placeholders(batch.size()) + ")",
+                        batch.toArray());
+                moveRows("posts", POST_COLUMNS, "id", batch, archivedAt);
+            });
+            archived += batch.size();
+        } while (ids.size() == batchSize && pause());
+        return archived;
+    }
+
+    /**
+     * 지정한 컬럼 값이 ID 목록에 포함된 행을 보관 테이블에 복사한 뒤 운영 테이블에서 삭제합니다.
+     */
+    private void moveRows(String table, String columns, String keyColumn, List<Long> ids, Timestamp archivedAt) {
+        String where = " WHERE " + keyColumn + " IN (" + placeholders(ids.size()) + ")";
+
+        List<Object> copyArgs = new ArrayList<>(ids.size() + 1);
+        copyArgs.add(archivedAt);
+        copyArgs.addAll(ids);
+        jdbcTemplate.update("INSERT INTO " + table + "_archive (" + columns + ", archived_at) " +
+                "SELECT " + columns + ", ? FROM " + table + where, copyArgs.toArray());
+        jdbcTemplate.update("DELETE FROM " + table + where, ids.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+    /**
+     * 다음 묶음을 처리하기 전에 잠시 쉽니다.
+     *
+     * @return 계속 진행해도 되면 true, 인터럽트되었으면 false
+     */
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            log.warn("보관 작업이 중단되었습니다.");
+            return false;
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.minseok.enigma.enigma.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SequenceWriter;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+import com.minseok.enigma.enigma.repository.CommentRepository;
+import com.minseok.enigma.enigma.repository.PostRepository;
+import com.minseok.enigma.enigma.repository.projection.CommentExportView;
+import com.minseok.enigma.enigma.repository.projection.PostExportView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 게시글과 댓글을 NDJSON(한 줄에 JSON 객체 하나)으로 내보내는 서비스 클래스입니다.<p>
+ * DB 결과를 스트림으로 읽어 한 행씩 바로 출력 스트림에 쓰므로, 행 수와 관계없이 메모리 사용량이 일정합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ExportService {
+
+    private static final int FLUSH_INTERVAL = 500;
+
+    private final PostRepository postRepository;
+    private final CommentRepository commentRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 조건에 맞는 활성 게시글을 작성 순으로 NDJSON으로 내보냅니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param categoryId 카테고리 ID (null이면 전체)
+     * @param from 이 날짜부터 작성된 게시글 (null이면 제한 없음)
+     * @param to 이 날짜까지 작성된 게시글 (null이면 제한 없음)
+     * @param out 출력 스트림
+     * @return 내보낸 게시글 수
+     * @throws IOException 출력에 실패한 경우
+     */
+    @Transactional(readOnly = true)
+    public long exportPosts(SchoolLevel schoolLevel, Long categoryId, LocalDate from, LocalDate to,
+                            OutputStream out) throws IOException {
+        try (Stream<PostExportView> rows = postRepository.streamForExport(schoolLevel, Status.ACTIVE, categoryId,
+                startOf(from), endOf(to))) {
+            long count = writeNdjson(rows, out);
+            log.info("게시글을 내보냈습니다. schoolLevel={}, categoryId={}, from={}, to={}, rows={}",
+                    schoolLevel, categoryId, from, to, count);
+            return count;
+        }
+    }
+
+    /**
+     * 조건에 맞는 활성 댓글을 작성 순으로 NDJSON으로 내보냅니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param categoryId 댓글이 달린 게시글의 카테고리 ID (null이면 전체)
+     * @param from 이 날짜부터 작성된 댓글 (null이면 제한 없음)
+     * @param to 이 날짜까지 작성된 댓글 (null이면 제한 없음)
+     * @param out 출력 스트림
+     * @return 내보낸 댓글 수
+     * @throws IOException 출력에 실패한 경우
+     */
+    @Transactional(readOnly = true)
+    public long exportComments(SchoolLevel schoolLevel, Long categoryId, LocalDate from, LocalDate to,
+                               OutputStream out) throws IOException {
+        try (Stream<CommentExportView> rows = commentRepository.streamForExport(schoolLevel, Status.ACTIVE, categoryId,
+                startOf(from), endOf(to))) {
+            long count = writeNdjson(rows, out);
+            log.info("댓글을 내보냈습니다. schoolLevel={}, categoryId={}, from={}, to={}, rows={}",
+                    schoolLevel, categoryId, from, to, count);
+            return count;
+        }
+    }
+
+    /**
+     * 스트림의 각 항목을 한 줄의 JSON으로 출력합니다. 일정 행마다 출력 버퍼를 비워 클라이언트로 흘려보냅니다.
+     * 출력 스트림은 호출한 쪽에서 관리하므로 닫지 않습니다.
+     */
+    private <T> long writeNdjson(Stream<T> rows, OutputStream out) throws IOException {
+        long count = 0;
+        try (SequenceWriter writer = objectMapper.writer()
+                .without(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .withRootValueSeparator("\n")
+                .writeValues(out)) {
+            Iterator<T> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                writer.write(iterator.next());
+                if (++count % FLUSH_INTERVAL == 0) {
+                    writer.flush();
+                }
+            }
+        }
+        if (count > 0) {
+            out.write('\n');
+        }
+        out.flush();
+        return count;
+    }
+
+    private static LocalDateTime startOf(LocalDate date) {
+        return date == null ? null : date.atStartOfDay();
+    }
+
+    /**
+     * 종료 날짜를 포함하도록 다음 날 0시(배타적 상한)로 변환합니다.
+     */
+    private static LocalDateTime endOf(LocalDate date) {
+        return date == null ? null : date.plusDays(1).atStartOfDay();
+    }
+}
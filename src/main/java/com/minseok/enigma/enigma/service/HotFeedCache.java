@@ -0,0 +1,217 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+import com.minseok.enigma.enigma.repository.PostRepository;
+import com.minseok.enigma.enigma.repository.projection.PostView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 학교 수준별 피드 첫 페이지를 메모리에 유지하는 캐시입니다.<p>
+ * 학교 수준마다 최신순으로 정렬된 고정 크기의 불변 스냅샷을 {@link AtomicReference}로 들고 있으며,
+ * 쓰기는 새 스냅샷을 만들어 원자적으로 교체하므로 읽기는 잠금 없이 이루어집니다.
+ * 스냅샷에는 불변인 {@link PostView}를 담고, 응답 DTO로의 변환은 읽을 때 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HotFeedCache {
+
+    private static final Comparator<PostView> NEWEST_FIRST = Comparator
+            .comparing(PostView::createdAt, Comparator.nullsFirst(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparing(PostView::id)
+            .reversed();
+
+    private final PostRepository postRepository;
+
+    @Value("${enigma.hot-feed.capacity:100}")
+    private int capacity;
+
+    private final Map<SchoolLevel, AtomicReference<Window>> windows = createWindows();
+
+    // 갱신 조회 도중 삭제된 게시글 ID (조회 결과에 남아 있어도 새 창에 넣지 않기 위함)
+    private final Map<SchoolLevel, Set<Long>> removedDuringRefresh = createRemovedSets();
+
+    /**
+     * 캐시된 피드 창입니다.
+     *
+     * @param posts 최신순으로 정렬된 게시글 (최대 capacity개)
+     * @param exhaustive 창 밖에 더 오래된 게시글이 없는지 여부
+     */
+    record Window(List<PostView> posts, boolean exhaustive) {
+    }
+
+    private static Map<SchoolLevel, AtomicReference<Window>> createWindows() {
+        Map<SchoolLevel, AtomicReference<Window>> map = new EnumMap<>(SchoolLevel.class);
+        for (SchoolLevel schoolLevel : SchoolLevel.values()) {
+            map.put(schoolLevel, new AtomicReference<>());
+        }
+        return map;
+    }
+
+    private static Map<SchoolLevel, Set<Long>> createRemovedSets() {
+        Map<SchoolLevel, Set<Long>> map = new EnumMap<>(SchoolLevel.class);
+        for (SchoolLevel schoolLevel : SchoolLevel.values()) {
+            map.put(schoolLevel, ConcurrentHashMap.newKeySet());
+        }
+        return map;
+    }
+
+    /**
+     * 캐시에서 피드 첫 페이지를 꺼냅니다.<p>
+     * 캐시가 아직 채워지지 않았거나 요청한 개수를 캐시만으로 채울 수 없으면 빈 값을 반환합니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param limit 필요한 게시글 수
+     * @return 최신순 게시글 목록 (최대 limit개)
+     */
+    public Optional<List<PostView>> getFirstPage(SchoolLevel schoolLevel, int limit) {
+        Window window = windows.get(schoolLevel).get();
+        if (window == null) {
+            return Optional.empty();
+        }
+        List<PostView> posts = window.posts();
+        if (posts.size() >= limit) {
+            return Optional.of(posts.subList(0, limit));
+        }
+        return window.exhaustive() ? Optional.of(posts) : Optional.empty();
+    }
+
+    /**
+     * 새로 작성된 게시글을 캐시 맨 앞에 추가합니다. 게시글 작성 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+     *
+     * @param post 작성된 게시글
+     */
+    public void add(PostView post) {
+        windows.get(post.schoolLevel()).updateAndGet(window -> {
+            if (window == null) {
+                return null;
+            }
+            List<PostView> posts = new ArrayList<>(window.posts().size() + 1);
+            posts.add(post);
+            posts.addAll(window.posts());
+            posts.sort(NEWEST_FIRST);
+            boolean trimmed = posts.size() > capacity;
+            return new Window(List.copyOf(trimmed ? posts.subList(0, capacity) : posts), window.exhaustive() && !trimmed);
+        });
+    }
+
+    /**
+     * 삭제된 게시글을 캐시에서 제거합니다. 게시글 삭제 트랜잭션이 커밋된 뒤에 호출해야 합니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param postId 삭제된 게시글 ID
+     */
+    public void remove(SchoolLevel schoolLevel, Long postId) {
+        removedDuringRefresh.get(schoolLevel).add(postId);
+        windows.get(schoolLevel).updateAndGet(window -> {
+            if (window == null) {
+                return null;
+            }
+            List<PostView> posts = window.posts().stream()
+                    .filter(post -> !post.id().equals(postId))
+                    .toList();
+            return new Window(posts, window.exhaustive());
+        });
+    }
+
+    /**
+     * 캐시된 게시글의 댓글 수와 마지막 댓글 작성 시각을 갱신합니다. 캐시에 없는 게시글이면 아무것도 하지 않습니다.<p>
+     * 댓글 삭제는 다음 주기적 갱신에서 반영됩니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param postId 게시글 ID
+     * @param commentedAt 댓글 작성 시각
+     */
+    public void recordComment(SchoolLevel schoolLevel, Long postId, LocalDateTime commentedAt) {
+        windows.get(schoolLevel).updateAndGet(window -> {
+            if (window == null || window.posts().stream().noneMatch(post -> post.id().equals(postId))) {
+                return window;
+            }
+            List<PostView> posts = window.posts().stream()
+                    .map(post -> post.id().equals(postId) ? post.withCommentAdded(commentedAt) : post)
+                    .toList();
+            return new Window(posts, window.exhaustive());
+        });
+    }
+
+    /**
+     * 애플리케이션 시작 시 DB에서 모든 학교 수준의 캐시를 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refreshAll();
+    }
+
+    /**
+     * 주기적으로 DB의 최신 피드로 캐시를 갱신해 조회수 등 변경된 값을 반영합니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.hot-feed.refresh-interval-ms:30000}",
+            initialDelayString = "${enigma.hot-feed.refresh-interval-ms:30000}")
+    public void refreshAll() {
+        for (SchoolLevel schoolLevel : SchoolLevel.values()) {
+            try {
+                refresh(schoolLevel);
+            } catch (RuntimeException e) {
+                log.warn("피드 캐시 갱신에 실패했습니다. schoolLevel={}", schoolLevel, e);
+            }
+        }
+    }
+
+    /**
+     * 특정 학교 수준의 캐시를 DB 조회 결과로 다시 만듭니다.<p>
+     * 기존 창은 버리므로 DB에서 사라진 게시글은 이번 갱신에서 빠집니다. 조회하는 동안 추가된 게시글 중
+     * 조회된 가장 최신 게시글보다 새로운 것만 이어 붙이고, 조회하는 동안 삭제된 게시글은 조회 결과에서도 제외합니다.
+     *
+     * @param schoolLevel 학교 수준
+     */
+    public void refresh(SchoolLevel schoolLevel) {
+        AtomicReference<Window> ref = windows.get(schoolLevel);
+        Set<Long> removed = removedDuringRefresh.get(schoolLevel);
+        removed.clear();
+        Window before = ref.get();
+        Set<Long> beforeIds = before == null ? Set.of()
+                : before.posts().stream().map(PostView::id).collect(Collectors.toSet());
+
+        List<PostView> loaded = postRepository.findFeed(schoolLevel, Status.ACTIVE, PageRequest.of(0, capacity + 1));
+        boolean exhaustive = loaded.size() <= capacity;
+        PostView newestLoaded = loaded.isEmpty() ? null : loaded.get(0);
+
+        ref.updateAndGet(window -> {
+            Map<Long, PostView> rebuilt = new LinkedHashMap<>();
+            loaded.stream()
+                    .filter(post -> !removed.contains(post.id()))
+                    .forEach(post -> rebuilt.put(post.id(), post));
+            if (window != null) {
+                window.posts().stream()
+                        .filter(post -> !beforeIds.contains(post.id()))
+                        .filter(post -> newestLoaded == null || NEWEST_FIRST.compare(post, newestLoaded) < 0)
+                        .forEach(post -> rebuilt.putIfAbsent(post.id(), post));
+            }
+            List<PostView> posts = new ArrayList<>(rebuilt.values());
+            posts.sort(NEWEST_FIRST);
+            boolean trimmed = posts.size() > capacity;
+            return new Window(List.copyOf(trimmed ? posts.subList(0, capacity) : posts), exhaustive && !trimmed);
+        });
+    }
+}
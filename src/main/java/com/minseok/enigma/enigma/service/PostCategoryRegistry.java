@@ -0,0 +1,169 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.dto.response.category.PostCategoryResponse;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.repository.PostCategoryRepository;
+import com.minseok.enigma.enigma.repository.projection.PostCategoryView;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.Collectors;
+
+/**
+ * 전체 카테고리를 메모리에 유지하는 레지스트리입니다.<p>
+ * 카테고리는 거의 바뀌지 않으므로 ID, 코드, 학교 수준별로 색인한 불변 스냅샷을 {@link AtomicReference}로 들고 있고,
+ * 변경이 생기면 DB에서 새 스냅샷을 만들어 원자적으로 교체합니다(copy-on-write). 읽기는 잠금 없이 이루어집니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCategoryRegistry {
+
+    private final PostCategoryRepository postCategoryRepository;
+
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+
+    /**
+     * 카테고리 스냅샷입니다. 모든 컬렉션은 불변입니다.
+     *
+     * @param byId ID별 카테고리
+     * @param byCode 코드별 활성 카테고리
+     * @param bySchoolLevel 학교 수준별 활성 카테고리 (ID 순)
+     * @param active 전체 활성 카테고리 (ID 순)
+     */
+    record Snapshot(Map<Long, PostCategoryView> byId,
+                    Map<String, PostCategoryView> byCode,
+                    Map<SchoolLevel, List<PostCategoryView>> bySchoolLevel,
+                    List<PostCategoryView> active) {
+
+        static Snapshot of(List<PostCategoryView> categories) {
+            Map<Long, PostCategoryView> byId = new HashMap<>();
+            Map<String, PostCategoryView> byCode = new HashMap<>();
+            Map<SchoolLevel, List<PostCategoryView>> bySchoolLevel = new EnumMap<>(SchoolLevel.class);
+            for (SchoolLevel schoolLevel : SchoolLevel.values()) {
+                bySchoolLevel.put(schoolLevel, new ArrayList<>());
+            }
+            List<PostCategoryView> active = new ArrayList<>();
+
+            for (PostCategoryView category : categories) {
+                byId.put(category.id(), category);
+                if (category.active()) {
+                    byCode.put(category.code(), category);
+                    bySchoolLevel.get(category.schoolLevel()).add(category);
+                    active.add(category);
+                }
+            }
+            bySchoolLevel.replaceAll((schoolLevel, list) -> List.copyOf(list));
+            return new Snapshot(Map.copyOf(byId), Map.copyOf(byCode),
+                    Collections.unmodifiableMap(bySchoolLevel), List.copyOf(active));
+        }
+    }
+
+    /**
+     * ID로 카테고리를 찾습니다. 비활성 카테고리도 포함합니다.
+     *
+     * @param id 카테고리 ID
+     * @return 카테고리 프로젝션
+     */
+    public Optional<PostCategoryView> findById(Long id) {
+        return id == null ? Optional.empty() : Optional.ofNullable(current().byId().get(id));
+    }
+
+    /**
+     * 코드로 활성 카테고리를 찾습니다.
+     *
+     * @param code 카테고리 코드
+     * @return 카테고리 프로젝션
+     */
+    public Optional<PostCategoryView> findActiveByCode(String code) {
+        return code == null ? Optional.empty() : Optional.ofNullable(current().byCode().get(code));
+    }
+
+    /**
+     * 활성 카테고리 목록을 반환합니다.
+     *
+     * @param schoolLevel 학교 수준 (null이면 전체)
+     * @return ID 순으로 정렬된 활성 카테고리 목록
+     */
+    public List<PostCategoryView> findActive(SchoolLevel schoolLevel) {
+        Snapshot current = current();
+        return schoolLevel == null ? current.active() : current.bySchoolLevel().get(schoolLevel);
+    }
+
+    /**
+     * 활성 카테고리 목록을 응답 DTO로 반환합니다.
+     *
+     * @param schoolLevel 학교 수준 (null이면 전체)
+     * @return 카테고리 응답 DTO 목록
+     */
+    public List<PostCategoryResponse> getCategories(SchoolLevel schoolLevel) {
+        return findActive(schoolLevel).stream()
+                .map(this::convertToPostCategoryResponse)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 애플리케이션 시작 시 스냅샷을 채웁니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        refresh();
+    }
+
+    /**
+     * DB에서 전체 카테고리를 다시 읽어 스냅샷을 교체합니다.<p>
+     * 카테고리를 변경하는 코드는 커밋 후 이 메서드를 호출해야 하며,
+     * DB를 직접 수정한 경우에도 주기적인 갱신으로 반영됩니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.category.refresh-interval-ms:600000}",
+            initialDelayString = "${enigma.category.refresh-interval-ms:600000}")
+    public void refresh() {
+        try {
+            Snapshot loaded = load();
+            snapshot.set(loaded);
+            log.debug("카테고리 스냅샷을 갱신했습니다. categories={}", loaded.byId().size());
+        } catch (RuntimeException e) {
+            log.warn("카테고리 스냅샷 갱신에 실패했습니다.", e);
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot.get();
+        if (current != null) {
+            return current;
+        }
+        // 시작 직후 워밍업 전에 들어온 요청은 직접 스냅샷을 채웁니다.
+        return snapshot.updateAndGet(existing -> existing != null ? existing : load());
+    }
+
+    private Snapshot load() {
+        return Snapshot.of(postCategoryRepository.findAllViews());
+    }
+
+    /**
+     * 카테고리 프로젝션을 PostCategoryResponse DTO로 변환합니다.
+     *
+     * @param category 카테고리 프로젝션
+     * @return 카테고리 응답 DTO
+     */
+    private PostCategoryResponse convertToPostCategoryResponse(PostCategoryView category) {
+        PostCategoryResponse response = new PostCategoryResponse();
+        response.setId(category.id());
+        response.setName(category.name());
+        response.setDescription(category.description());
+        response.setActive(category.active());
+        return response;
+    }
+}
@@ -0,0 +1,66 @@
+package com.minseok.enigma.enigma.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 게시글의 비정규화된 댓글 수와 마지막 댓글 작성 시각을 comments 테이블 기준으로 다시 계산하는 작업입니다.<p>
+ * 게시글 ID 범위를 일정 크기로 나누어 범위마다 짧은 트랜잭션에서 처리하며,
+ * 실제 값과 어긋난(drift) 행만 갱신합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostCommentStatsReconciler {
+
+    private static final String SELECT_MAX_POST_ID_SQL = "SELECT COALESCE(MAX(id), 0) FROM posts";
+    private static final String ACTIVE_COMMENT_COUNT =
+            "(SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.status = 'ACTIVE')";
+    private static final String LAST_ACTIVE_COMMENT_AT =
+            "(SELECT MAX(c.created_at) FROM comments c WHERE c.post_id = p.id AND c.status = 'ACTIVE')";
+    private static final String NO_COMMENT = "TIMESTAMP '1970-01-01 00:00:00'";
+    private static final String RECONCILE_SQL =
+            "UPDATE posts p SET comment_count = " + ACTIVE_COMMENT_COUNT + ", last_comment_at = " + LAST_ACTIVE_COMMENT_AT + " " +
+            "WHERE p.id > ? AND p.id <= ? " +
+            "AND (p.comment_count <> " + ACTIVE_COMMENT_COUNT + " " +
+            "OR COALESCE(p.last_comment_at, " + NO_COMMENT + ") <> COALESCE(" + LAST_ACTIVE_COMMENT_AT + ", " + NO_COMMENT + "))";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${enigma.comment-stats.reconcile-chunk-size:1000}")
+    private int chunkSize;
+
+    /**
+     * 전체 게시글의 댓글 통계를 다시 계산해 어긋난 값을 바로잡습니다.
+     *
+     * @return 값이 바로잡힌 게시글 수
+     */
+    @Scheduled(cron = "${enigma.comment-stats.reconcile-cron:0 30 4 * * *}")
+    public int reconcile() {
+        long startedAt = System.currentTimeMillis();
+        Long maxId = jdbcTemplate.queryForObject(SELECT_MAX_POST_ID_SQL, Long.class);
+        long upperBound = maxId == null ? 0 : maxId;
+
+        int fixed = 0;
+        for (long from = 0; from < upperBound; from += chunkSize) {
+            long lower = from;
+            long upper = Math.min(from + chunkSize, upperBound);
+            Integer updated = transactionTemplate.execute(status -> jdbcTemplate.update(RECONCILE_SQL, lower, upper));
+            fixed += updated == null ? 0 : updated;
+        }
+
+        if (fixed > 0) {
+            log.warn("게시글 댓글 통계의 불일치를 바로잡았습니다. posts={}, elapsedMs={}",
+                    fixed, System.currentTimeMillis() - startedAt);
+        } else {
+            log.info("게시글 댓글 통계가 일치합니다. elapsedMs={}", System.currentTimeMillis() - startedAt);
+        }
+        return fixed;
+    }
+}
@@ -0,0 +1,76 @@
+package com.minseok.enigma.enigma.service;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 새로 저장된 댓글을 게시글의 비정규화된 댓글 통계(comment_count, last_comment_at)에 반영하는 컴포넌트입니다.<p>
+ * 댓글을 게시글별로 모아 게시글마다 한 번의 UPDATE를 배치로 보내며, 마지막 댓글 작성 시각은 더 늦은 값일 때만 바꿉니다.
+ * 댓글을 저장한 트랜잭션 안에서 호출해야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PostCommentStatsWriter {
+
+    private static final String ADD_COMMENT_STATS_SQL =
+            "UPDATE posts SET comment_count = comment_count + ?, " +
+            "last_comment_at = CASE WHEN last_comment_at IS NULL OR last_comment_at < ? THEN ? ELSE last_comment_at END " +
+            "WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 저장된 댓글 하나입니다.
+     *
+     * @param postId 게시글 ID
+     * @param createdAt 댓글 작성 시각 (알 수 없으면 null)
+     */
+    public record AddedComment(Long postId, LocalDateTime createdAt) {
+    }
+
+    /**
+     * 게시글 하나에 댓글 하나가 추가되었음을 반영합니다.
+     *
+     * @param postId 게시글 ID
+     * @param createdAt 댓글 작성 시각
+     */
+    public void add(Long postId, LocalDateTime createdAt) {
+        addAll(List.of(new AddedComment(postId, createdAt)));
+    }
+
+    /**
+     * 저장된 댓글들을 게시글별로 모아 댓글 수와 마지막 댓글 작성 시각을 반영합니다.
+     *
+     * @param comments 저장된 댓글 목록
+     */
+    public void addAll(Collection<AddedComment> comments) {
+        if (comments.isEmpty()) {
+            return;
+        }
+
+        Map<Long, Integer> counts = new HashMap<>();
+        Map<Long, LocalDateTime> lastCommentedAt = new HashMap<>();
+        for (AddedComment comment : comments) {
+            counts.merge(comment.postId(), 1, Integer::sum);
+            if (comment.createdAt() != null) {
+                lastCommentedAt.merge(comment.postId(), comment.createdAt(), (a, b) -> a.isAfter(b) ? a : b);
+            }
+        }
+        List<Object[]> batchArgs = new ArrayList<>(counts.size());
+        counts.forEach((postId, count) -> {
+            Timestamp commentedAt = lastCommentedAt.containsKey(postId)
+                    ? Timestamp.valueOf(lastCommentedAt.get(postId)) : null;
+            batchArgs.add(new Object[]{count, commentedAt, commentedAt, postId});
+        });
+        jdbcTemplate.batchUpdate(ADD_COMMENT_STATS_SQL, batchArgs);
+    }
+}
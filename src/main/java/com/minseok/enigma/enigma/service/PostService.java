@@ -1,6 +1,7 @@
 package com.minseok.enigma.enigma.service;
 
 import com.minseok.enigma.enigma.dto.request.post.PostCreateRequest;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
 import com.minseok.enigma.enigma.dto.response.post.PostResponse;
 import com.minseok.enigma.enigma.entity.*;
 import com.minseok.enigma.enigma.exception.CustomException;
@@ -8,11 +9,24 @@ import com.minseok.enigma.enigma.exception.ErrorCode;
 import com.minseok.enigma.enigma.repository.PostCategoryRepository;
 import com.minseok.enigma.enigma.repository.PostRepository;
 import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.repository.projection.PostCategoryView;
+import com.minseok.enigma.enigma.repository.projection.PostDetailView;
+import com.minseok.enigma.enigma.repository.projection.PostView;
+import com.minseok.enigma.enigma.search.PostSearchIndex;
+import com.minseok.enigma.enigma.trending.TrendingBoard;
+import com.minseok.enigma.enigma.trending.TrendingPostEngine;
+import com.minseok.enigma.enigma.util.CursorUtil;
+import com.minseok.enigma.enigma.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -22,9 +36,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class PostService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 50;
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
     private final PostCategoryRepository postCategoryRepository;
+    private final PostCategoryRegistry postCategoryRegistry;
+    private final PostViewCountService postViewCountService;
+    private final HotFeedCache hotFeedCache;
+    private final PostSearchIndex postSearchIndex;
+    private final TrendingPostEngine trendingPostEngine;
 
     /**
      * 게시글을 작성합니다.
@@ -37,7 +59,7 @@ public class PostService {
         User user = userRepository.findById(postCreateRequest.getAuthorId())
                 .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
 
-        PostCategory postCategory = postCategoryRepository.findById(postCreateRequest.getCategoryId())
+        PostCategoryView postCategory = postCategoryRegistry.findById(postCreateRequest.getCategoryId())
                 .orElseThrow(() -> new CustomException("카테고리를 찾을 수 없습니다.", ErrorCode.CATEGORY_NOT_FOUND));
 
         // 동일한 schoolLevel인지 확인
@@ -50,51 +72,274 @@ public class PostService {
                 .content(postCreateRequest.getContent())
                 .author(user)
                 .status(Status.ACTIVE)
-                .postCategory(postCategory)
+                .postCategory(postCategoryRepository.getReferenceById(postCategory.id()))
                 .schoolLevel(postCreateRequest.getSchoolLevel())
                 .build();
 
-        postRepository.save(post);
+        // 작성 시각 등 INSERT 시점에 채워지는 값을 응답과 캐시에 쓰기 위해 즉시 flush합니다.
+        postRepository.saveAndFlush(post);
 
-        return convertToPostResponse(post);
+        // 롤백된 게시글이 캐시와 색인에 남지 않도록 커밋 이후에 반영합니다.
+        PostView postView = new PostView(post.getId(), post.getTitle(), post.getExcerpt(), user.getUserName(),
+                postCategory.name(), post.getViewCount(), post.getCommentCount(), post.getLastCommentAt(), post.getCreatedAt(), post.getUpdatedAt(),
+                post.getStatus(), post.getSchoolLevel());
+        TransactionUtil.afterCommit(() -> hotFeedCache.add(postView));
+        TransactionUtil.afterCommit(() ->
+                postSearchIndex.index(postView.id(), postView.schoolLevel(), post.getTitle(), post.getContent()));
+
+        return convertToPostResponse(post, postCategory.name());
+    }
+
+    /**
+     * 게시글을 삭제 상태로 변경합니다. 작성자만 삭제할 수 있습니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     */
+    @Transactional
+    public void deletePost(Long postId, Long userId) {
+        Post post = postRepository.findById(postId)
+                .filter(found -> found.getStatus() == Status.ACTIVE)
+                .orElseThrow(() -> new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND));
+
+        if (post.getAuthor() == null || !post.getAuthor().getId().equals(userId)) {
+            throw new CustomException("게시글 작성자만 삭제할 수 있습니다.", ErrorCode.POST_ACCESS_DENIED);
+        }
+
+        post.delete();
+
+        SchoolLevel schoolLevel = post.getSchoolLevel();
+        Long deletedId = post.getId();
+        TransactionUtil.afterCommit(() -> hotFeedCache.remove(schoolLevel, deletedId));
+        TransactionUtil.afterCommit(() -> postSearchIndex.remove(deletedId, schoolLevel));
+        TransactionUtil.afterCommit(() -> trendingPostEngine.remove(deletedId, schoolLevel));
     }
 
     /**
-     * 동일한 학교 수준의 모든 게시글을 조회합니다.
+     * 동일한 학교 수준의 게시글을 최신순으로 커서 기반 페이지 조회합니다.
      *
      * @param userId 사용자 ID
-     * @return 동일한 학교 수준의 게시글 목록
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 게시글 페이지
      */
     @Transactional(readOnly = true)
-    public List<PostResponse> getPosts(Long userId) {
-        User user = userRepository.findById(userId)
+    public CursorResponse<PostResponse> getPosts(Long userId, String cursor, int size) {
+        SchoolLevel schoolLevel = userRepository.findSchoolLevelById(userId)
                 .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
 
-        List<Post> posts = postRepository.findBySchoolLevel(user.getSchoolLevel());
+        int pageSize = normalizePageSize(size);
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<PostView> posts;
+        if (cursor == null || cursor.isBlank()) {
+            // 첫 페이지는 캐시에서 꺼내고, 캐시로 채울 수 없을 때만 DB를 조회합니다.
+            posts = hotFeedCache.getFirstPage(schoolLevel, pageSize + 1)
+                    .orElseGet(() -> postRepository.findFeed(schoolLevel, Status.ACTIVE, limit));
+        } else {
+            CursorUtil.Cursor decoded = CursorUtil.decode(cursor);
+            posts = postRepository.findFeedAfter(schoolLevel, Status.ACTIVE,
+                    decoded.createdAt(), decoded.id(), limit);
+        }
+
+        boolean hasNext = posts.size() > pageSize;
+        List<PostView> page = hasNext ? posts.subList(0, pageSize) : posts;
+        PostView last = page.isEmpty() ? null : page.get(page.size() - 1);
 
-        return posts.stream()
-                .map(this::convertToPostResponse)
+        return CursorResponse.<PostResponse>builder()
+                .items(page.stream()
+                        .map(this::convertToPostResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(hasNext ? CursorUtil.encode(last.createdAt(), last.id()) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 게시글을 본문까지 상세 조회하고 조회수를 1 증가시킵니다.<p>
+     * 목록 응답과 달리 본문(content)을 함께 반환합니다.
+     * 조회수 증가는 write-behind 카운터에 누적되며, 응답에는 반영 대기 중인 증가분까지 포함됩니다.
+     *
+     * @param postId 게시글 ID
+     * @param userId 사용자 ID
+     * @return 게시글 응답 DTO
+     */
+    @Transactional(readOnly = true)
+    public PostResponse getPost(Long postId, Long userId) {
+        SchoolLevel schoolLevel = userRepository.findSchoolLevelById(userId)
+                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+
+        PostDetailView post = postRepository.findDetailById(postId)
+                .filter(view -> view.status() == Status.ACTIVE)
+                .orElseThrow(() -> new CustomException("게시글을 찾을 수 없습니다.", ErrorCode.POST_NOT_FOUND));
+
+        // 동일한 schoolLevel인지 확인
+        if (!schoolLevel.equals(post.schoolLevel())) {
+            throw new CustomException("동일한 학교 수준에서만 활동할 수 있습니다.", ErrorCode.INVALID_ACCESS);
+        }
+
+        postViewCountService.increment(postId);
+        trendingPostEngine.recordView(postId, post.schoolLevel());
+
+        return convertToPostResponse(post);
+    }
+
+    /**
+     * 동일한 학교 수준의 인기 게시글을 점수가 높은 순으로 조회합니다.<p>
+     * 순위는 메모리의 인기 점수 보드에서 정해지며, DB는 해당 게시글들을 ID로만 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param size 조회할 개수 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 인기 게시글 목록
+     */
+    @Transactional(readOnly = true)
+    public List<PostResponse> getTrendingPosts(Long userId, int size) {
+        SchoolLevel schoolLevel = userRepository.findSchoolLevelById(userId)
+                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+
+        List<Long> ids = trendingPostEngine.getTrending(schoolLevel, normalizePageSize(size)).stream()
+                .map(TrendingBoard.ScoredPost::postId)
                 .collect(Collectors.toList());
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostView> views = postRepository.findViewsByIdIn(ids).stream()
+                .collect(Collectors.toMap(PostView::id, Function.identity()));
+        List<PostResponse> items = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            PostView view = views.get(id);
+            if (view != null && view.status() == Status.ACTIVE) {
+                items.add(convertToPostResponse(view));
+            }
+        }
+        return items;
+    }
+
+    /**
+     * 동일한 학교 수준의 게시글을 제목/본문으로 검색합니다. 결과는 최신순으로 커서 기반 페이지 조회합니다.
+     *
+     * @param userId 사용자 ID
+     * @param query 검색어
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 검색된 게시글 페이지
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<PostResponse> searchPosts(Long userId, String query, String cursor, int size) {
+        if (query == null || query.isBlank()) {
+            throw new CustomException("검색어를 입력해 주세요.", ErrorCode.INVALID_SEARCH_QUERY);
+        }
+
+        SchoolLevel schoolLevel = userRepository.findSchoolLevelById(userId)
+                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+
+        int pageSize = normalizePageSize(size);
+        long beforeId = (cursor == null || cursor.isBlank()) ? Long.MAX_VALUE : CursorUtil.decodeId(cursor);
+        long[] ids = postSearchIndex.search(schoolLevel, query, beforeId, pageSize + 1);
+
+        boolean hasNext = ids.length > pageSize;
+        List<Long> pageIds = Arrays.stream(ids).limit(pageSize).boxed().collect(Collectors.toList());
+
+        Map<Long, PostView> views = pageIds.isEmpty() ? Map.of() : postRepository.findViewsByIdIn(pageIds).stream()
+                .collect(Collectors.toMap(PostView::id, Function.identity()));
+        List<PostResponse> items = new ArrayList<>(pageIds.size());
+        for (Long id : pageIds) {
+            PostView view = views.get(id);
+            if (view != null && view.status() == Status.ACTIVE) {
+                items.add(convertToPostResponse(view));
+            }
+        }
+
+        return CursorResponse.<PostResponse>builder()
+                .items(items)
+                .nextCursor(hasNext ? CursorUtil.encode(pageIds.get(pageIds.size() - 1)) : null)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 요청된 페이지 크기를 1 이상 {@value #MAX_PAGE_SIZE} 이하로 보정합니다.
+     *
+     * @param size 요청된 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
     }
 
     /**
      * 게시글 엔티티를 PostResponse DTO로 변환합니다.
      *
      * @param post 게시글 엔티티
+     * @param categoryName 카테고리 이름 (카테고리 프록시를 초기화하지 않도록 레지스트리에서 전달합니다.)
      * @return 게시글 응답 DTO
      */
-    private PostResponse convertToPostResponse(Post post) {
+    private PostResponse convertToPostResponse(Post post, String categoryName) {
         return PostResponse.builder()
                 .id(post.getId())
                 .title(post.getTitle())
+                .excerpt(post.getExcerpt())
                 .content(post.getContent())
                 .authorName(post.getAuthor().getUserName())
-                .categoryName(post.getPostCategory().getName())
+                .categoryName(categoryName)
                 .viewCount(post.getViewCount())
+                .commentCount(post.getCommentCount())
+                .lastCommentAt(post.getLastCommentAt())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .status(post.getStatus().toString())
                 .schoolLevel(post.getSchoolLevel().toString())
                 .build();
     }
+
+    /**
+     * 게시글 프로젝션을 PostResponse DTO로 변환합니다.
+     *
+     * @param view 게시글 프로젝션
+     * @return 게시글 응답 DTO
+     */
+    private PostResponse convertToPostResponse(PostView view) {
+        return PostResponse.builder()
+                .id(view.id())
+                .title(view.title())
+                .excerpt(view.excerpt())
+                .authorName(view.authorName())
+                .categoryName(view.categoryName())
+                .viewCount(postViewCountService.getViewCount(view.id(), view.viewCount()))
+                .commentCount(view.commentCount())
+                .lastCommentAt(view.lastCommentAt())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .status(view.status().toString())
+                .schoolLevel(view.schoolLevel().toString())
+                .build();
+    }
+
+    /**
+     * 게시글 상세 프로젝션을 본문을 포함한 PostResponse DTO로 변환합니다.
+     *
+     * @param view 게시글 상세 프로젝션
+     * @return 게시글 응답 DTO
+     */
+    private PostResponse convertToPostResponse(PostDetailView view) {
+        return PostResponse.builder()
+                .id(view.id())
+                .title(view.title())
+                .content(view.content())
+                .authorName(view.authorName())
+                .categoryName(view.categoryName())
+                .viewCount(postViewCountService.getViewCount(view.id(), view.viewCount()))
+                .commentCount(view.commentCount())
+                .lastCommentAt(view.lastCommentAt())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .status(view.status().toString())
+                .schoolLevel(view.schoolLevel().toString())
+                .build();
+    }
 }
@@ -0,0 +1,172 @@
+package com.minseok.enigma.enigma.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * 게시글 조회수를 메모리에 누적했다가 주기적으로 DB에 반영하는 write-behind 카운터 서비스입니다.<p>
+ * 조회마다 posts 행을 갱신(행 잠금)하는 대신 게시글별 {@link LongAdder}에 잠금 없이 누적하고,
+ * 누적된 증가분을 {@code UPDATE posts SET view_count = view_count + ?} 배치로 한 번에 반영합니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE posts SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    private final Map<Long, LongAdder> pendingDeltas = new ConcurrentHashMap<>();
+    private volatile long lastFlushedAt = System.currentTimeMillis();
+
+    /**
+     * 반영 대기 중인 증가분과 마지막 반영 이후 경과 시간을 메트릭으로 등록합니다.
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        Gauge.builder("enigma.post.view-count.pending.delta", this, PostViewCountService::getTotalPendingDelta)
+                .description("DB에 아직 반영되지 않은 조회수 증가분의 합")
+                .register(meterRegistry);
+        Gauge.builder("enigma.post.view-count.pending.posts", pendingDeltas, Map::size)
+                .description("반영 대기 중인 증가분을 가진 게시글 수")
+                .register(meterRegistry);
+        Gauge.builder("enigma.post.view-count.flush.lag", this, PostViewCountService::getFlushLagSeconds)
+                .description("마지막으로 증가분을 DB에 반영한 이후 경과 시간(초)")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 게시글의 조회수를 1 증가시킵니다. DB에는 다음 반영 주기에 기록됩니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public void increment(Long postId) {
+        addPending(postId, 1);
+    }
+
+    /**
+     * 게시글의 누적기에 증가분을 더합니다.<p>
+     * 더하는 사이 반영 주기가 누적기를 맵에서 정리했다면, 정리된 누적기에 남은 값을 살아 있는 누적기로 옮깁니다.
+     * 누적기의 값은 {@link LongAdder#sumThenReset()}로 한 번씩만 꺼내지므로 정리 쪽과 동시에 옮겨도 중복되거나 사라지지 않습니다.
+     */
+    private void addPending(Long postId, long delta) {
+        LongAdder adder = pendingDeltas.computeIfAbsent(postId, id -> new LongAdder());
+        adder.add(delta);
+        if (pendingDeltas.get(postId) != adder) {
+            long stranded = adder.sumThenReset();
+            if (stranded != 0) {
+                addPending(postId, stranded);
+            }
+        }
+    }
+
+    /**
+     * 게시글의 아직 반영되지 않은 조회수 증가분을 반환합니다.
+     *
+     * @param postId 게시글 ID
+     * @return 반영 대기 중인 증가분
+     */
+    public long getPendingDelta(Long postId) {
+        LongAdder adder = pendingDeltas.get(postId);
+        return adder == null ? 0 : adder.sum();
+    }
+
+    /**
+     * DB에 저장된 조회수에 반영 대기 중인 증가분을 더한 값을 반환합니다.
+     *
+     * @param postId 게시글 ID
+     * @param persistedViewCount DB에 저장된 조회수
+     * @return 현재 시점의 조회수
+     */
+    public int getViewCount(Long postId, int persistedViewCount) {
+        return (int) Math.min(Integer.MAX_VALUE, persistedViewCount + getPendingDelta(postId));
+    }
+
+    /**
+     * 전체 게시글의 반영 대기 중인 증가분 합을 반환합니다.
+     *
+     * @return 반영 대기 중인 증가분의 합
+     */
+    public long getTotalPendingDelta() {
+        long total = 0;
+        for (LongAdder adder : pendingDeltas.values()) {
+            total += adder.sum();
+        }
+        return total;
+    }
+
+    /**
+     * 마지막으로 증가분을 반영한 이후 경과 시간을 초 단위로 반환합니다.
+     *
+     * @return 경과 시간(초)
+     */
+    public double getFlushLagSeconds() {
+        return (System.currentTimeMillis() - lastFlushedAt) / 1000.0;
+    }
+
+    /**
+     * 누적된 조회수 증가분을 하나의 트랜잭션에서 배치 UPDATE로 반영합니다.<p>
+     * 반영에 실패하면 꺼낸 증가분을 다시 누적해 다음 주기에 재시도합니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.view-count.flush-interval-ms:5000}")
+    public void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        for (Map.Entry<Long, LongAdder> entry : pendingDeltas.entrySet()) {
+            Long postId = entry.getKey();
+            LongAdder adder = entry.getValue();
+            long delta = adder.sumThenReset();
+            if (delta == 0 && pendingDeltas.remove(postId, adder)) {
+                // 한 주기 동안 조회가 없었던 게시글은 맵에서 정리합니다. 정리 직전에 더해진 값은 다시 누적합니다.
+                long late = adder.sumThenReset();
+                if (late != 0) {
+                    addPending(postId, late);
+                }
+                continue;
+            }
+            if (delta != 0) {
+                batchArgs.add(new Object[]{delta, postId});
+            }
+        }
+
+        if (batchArgs.isEmpty()) {
+            lastFlushedAt = System.currentTimeMillis();
+            return;
+        }
+
+        try {
+            transactionTemplate.execute(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+            lastFlushedAt = System.currentTimeMillis();
+        } catch (RuntimeException e) {
+            log.warn("조회수 증가분 반영에 실패했습니다. 다음 주기에 재시도합니다. posts={}", batchArgs.size(), e);
+            for (Object[] args : batchArgs) {
+                addPending((Long) args[1], (Long) args[0]);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 남아 있는 증가분을 반영합니다.
+     */
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+}
@@ -1,19 +1,33 @@
 package com.minseok.enigma.enigma.service;
 
+import com.minseok.enigma.enigma.availability.UserAvailabilityService;
 import com.minseok.enigma.enigma.dto.request.user.UserUpdateRequest;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
+import com.minseok.enigma.enigma.dto.response.user.FriendSuggestionResponse;
 import com.minseok.enigma.enigma.dto.response.user.UserResponse;
 import com.minseok.enigma.enigma.entity.SchoolLevel;
 import com.minseok.enigma.enigma.entity.User;
 import com.minseok.enigma.enigma.exception.CustomException;
 import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.friend.FriendGraph;
+import com.minseok.enigma.enigma.friend.FriendGraphIndex;
+import com.minseok.enigma.enigma.friend.FriendshipWriter;
 import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.repository.projection.UserView;
+import com.minseok.enigma.enigma.util.CursorUtil;
+import com.minseok.enigma.enigma.util.TransactionUtil;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -23,8 +37,17 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    static final int DEFAULT_PAGE_SIZE = 20;
+    static final int MAX_PAGE_SIZE = 100;
+    static final int DEFAULT_SUGGESTION_SIZE = 10;
+    static final int MAX_SUGGESTION_SIZE = 50;
+    static final int MAX_BULK_FRIENDS = 100;
+
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
+    private final FriendGraphIndex friendGraphIndex;
+    private final FriendshipWriter friendshipWriter;
+    private final UserAvailabilityService userAvailabilityService;
 
     /**
      * 사용자 정보를 업데이트합니다.
@@ -43,16 +66,21 @@ public class UserService {
         }
 
         if (userUpdateRequest.getEmail() != null && !userUpdateRequest.getEmail().isEmpty()) {
-            if (userRepository.existsByEmail(userUpdateRequest.getEmail())) {
+            if (userAvailabilityService.isEmailTaken(userUpdateRequest.getEmail())) {
                 throw new CustomException("이미 존재하는 이메일입니다.", ErrorCode.EMAIL_ALREADY_EXISTS);
             }
             user.setEmail(userUpdateRequest.getEmail());
+            String email = userUpdateRequest.getEmail();
+            TransactionUtil.afterCommit(() -> userAvailabilityService.registerEmail(email));
         }
 
         user.setSchoolLevel(SchoolLevel.valueOf(userUpdateRequest.getSchoolLevel().toUpperCase()));
         user.setGrade(userUpdateRequest.getGrade());
 
         userRepository.save(user);
+        SchoolLevel schoolLevel = user.getSchoolLevel();
+        int grade = user.getGrade();
+        TransactionUtil.afterCommit(() -> friendGraphIndex.putUser(userId, schoolLevel, grade));
 
         return convertToUserResponse(user);
     }
@@ -65,14 +93,15 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public UserResponse getUser(Long userId) {
-        User user = userRepository.findById(userId)
+        UserView user = userRepository.findViewById(userId)
                 .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
 
         return convertToUserResponse(user);
     }
 
     /**
-     * 특정 학교 수준과 학년의 사용자 목록을 조회합니다.
+     * 특정 학교 수준과 학년의 사용자 목록을 조회합니다.<p>
+     * 전체를 한 번에 반환하므로 사용자가 많은 학년은 {@link #getUserDirectory}로 나누어 조회합니다.
      *
      * @param schoolLevel 학교 수준
      * @param grade       학년
@@ -80,62 +109,235 @@ public class UserService {
      */
     @Transactional(readOnly = true)
     public List<UserResponse> getUsersBySchoolLevelAndGrade(SchoolLevel schoolLevel, int grade) {
-        List<User> users = userRepository.findBySchoolLevelAndGrade(schoolLevel, grade);
+        List<UserView> users = userRepository.findViewsBySchoolLevelAndGrade(schoolLevel, grade);
         return users.stream()
                 .map(this::convertToUserResponse)
                 .collect(Collectors.toList());
     }
 
     /**
-     * 사용자에게 친구를 추가합니다.
+     * 특정 학교 수준과 학년의 사용자를 커서 페이지 조회합니다.<p>
+     * 엔티티 대신 프로젝션만 읽습니다. 접두어가 없으면 ID 순으로, 아이디 접두어가 주어지면 해당 접두어로 시작하는 사용자만
+     * (아이디, ID) 순으로 반환하므로, 두 경우의 커서는 서로 바꿔 쓸 수 없습니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param grade 학년
+     * @param userNamePrefix 아이디 접두어 (없으면 전체)
+     * @param cursor 이전 페이지의 nextCursor (첫 페이지는 null)
+     * @param size 페이지 크기 (최대 {@value #MAX_PAGE_SIZE})
+     * @return 사용자 목록과 다음 페이지 커서
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<UserResponse> getUserDirectory(SchoolLevel schoolLevel, int grade, String userNamePrefix,
+                                                         String cursor, int size) {
+        int pageSize = normalizePageSize(size);
+        boolean firstPage = cursor == null || cursor.isBlank();
+        boolean byPrefix = userNamePrefix != null && !userNamePrefix.isBlank();
+        // 다음 페이지 존재 여부를 알기 위해 한 건을 더 조회합니다.
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<UserView> users;
+        if (!byPrefix) {
+            long afterId = firstPage ? 0L : CursorUtil.decodeId(cursor);
+            users = userRepository.findDirectory(schoolLevel, grade, afterId, limit);
+        } else {
+            CursorUtil.KeyCursor after = firstPage ? new CursorUtil.KeyCursor("", 0L) : CursorUtil.decodeKeyWithId(cursor);
+            users = userRepository.findDirectoryByUserNamePrefix(schoolLevel, grade,
+                    escapeLike(userNamePrefix.trim()) + "%", after.key(), after.id(), limit);
+        }
+
+        boolean hasNext = users.size() > pageSize;
+        List<UserView> page = hasNext ? users.subList(0, pageSize) : users;
+        String nextCursor = null;
+        if (hasNext) {
+            UserView last = page.get(page.size() - 1);
+            nextCursor = byPrefix ? CursorUtil.encodeKey(last.userName(), last.id()) : CursorUtil.encode(last.id());
+        }
+
+        return CursorResponse.<UserResponse>builder()
+                .items(page.stream()
+                        .map(this::convertToUserResponse)
+                        .collect(Collectors.toList()))
+                .nextCursor(nextCursor)
+                .hasNext(hasNext)
+                .build();
+    }
+
+    /**
+     * 두 사용자를 서로 친구로 추가합니다. 이미 친구이면 아무것도 바꾸지 않습니다.<p>
+     * friends 컬렉션을 읽지 않고 user_friends에 두 방향의 행만 추가합니다.
      *
      * @param userId    사용자 ID
      * @param friendId 친구 ID
      */
     @Transactional
     public void addFriend(Long userId, Long friendId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
-        User friend = userRepository.findById(friendId)
-                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+        if (userId.equals(friendId)) {
+            throw new CustomException("자기 자신은 친구로 추가할 수 없습니다.", ErrorCode.INVALID_FRIEND);
+        }
+        if (!userRepository.existsById(userId) || !userRepository.existsById(friendId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
 
-        user.addFriend(friend);
-        userRepository.save(user);
+        if (!friendshipWriter.add(userId, friendId)) {
+            return;
+        }
+        TransactionUtil.afterCommit(() -> {
+            friendGraphIndex.addFriend(userId, friendId);
+            friendGraphIndex.addFriend(friendId, userId);
+        });
     }
 
     /**
-     * 사용자에게서 친구를 제거합니다.
+     * 여러 사용자를 한 번에 서로 친구로 추가합니다. 이미 친구인 사용자는 건너뜁니다.<p>
+     * 존재 여부를 한 번에 확인한 뒤 모든 관계 행을 하나의 배치 문장으로 추가합니다.
+     * 존재하지 않는 사용자가 하나라도 있으면 아무것도 추가하지 않습니다.
+     *
+     * @param userId    사용자 ID
+     * @param friendIds 친구 ID 목록 (최대 {@value #MAX_BULK_FRIENDS}개)
+     */
+    @Transactional
+    public void addFriends(Long userId, Collection<Long> friendIds) {
+        if (friendIds == null || friendIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = friendIds.stream().distinct().toList();
+        if (ids.size() > MAX_BULK_FRIENDS) {
+            throw new CustomException("한 번에 추가할 수 있는 친구 수를 초과했습니다.", ErrorCode.TOO_MANY_FRIENDS);
+        }
+        if (ids.contains(userId)) {
+            throw new CustomException("자기 자신은 친구로 추가할 수 없습니다.", ErrorCode.INVALID_FRIEND);
+        }
+        if (!userRepository.existsById(userId) || userRepository.findIdsByIdIn(ids).size() != ids.size()) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        // 실제로 추가된 관계만 그래프에 반영합니다. 건너뛴 관계는 이미 있거나 다른 요청이 커밋 후 반영합니다.
+        List<Long> added = friendshipWriter.addAll(userId, ids);
+        TransactionUtil.afterCommit(() -> {
+            for (Long friendId : added) {
+                friendGraphIndex.addFriend(userId, friendId);
+                friendGraphIndex.addFriend(friendId, userId);
+            }
+        });
+    }
+
+    /**
+     * 두 사용자의 친구 관계를 양방향 모두 제거합니다.<p>
+     * friends 컬렉션을 읽지 않고 user_friends의 해당 행만 삭제합니다.
      *
      * @param userId    사용자 ID
      * @param friendId 친구 ID
      */
     @Transactional
     public void removeFriend(Long userId, Long friendId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
-        User friend = userRepository.findById(friendId)
-                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId) || !userRepository.existsById(friendId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
 
-        user.removeFriend(friend);
-        userRepository.save(user);
+        friendshipWriter.remove(userId, friendId);
+        TransactionUtil.afterCommit(() -> {
+            friendGraphIndex.removeFriend(userId, friendId);
+            friendGraphIndex.removeFriend(friendId, userId);
+        });
     }
 
     /**
-     * 사용자의 친구 목록을 조회합니다.
+     * 사용자의 친구 ID 목록을 조회합니다. 메모리의 친구 그래프에서 바로 반환합니다.
+     *
+     * @param userId 사용자 ID
+     * @return 오름차순으로 정렬된 친구 ID 배열
+     */
+    public long[] getFriendIds(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        return friendGraphIndex.getFriends(userId);
+    }
+
+    /**
+     * 사용자의 친구 목록을 조회합니다.<p>
+     * 친구 ID는 메모리의 친구 그래프에서 가져오고, 프로필은 ID 목록으로 한 번에 프로젝션 조회합니다.
      *
      * @param userId 사용자 ID
      * @return 친구 목록 응답 DTO 리스트
      */
     @Transactional(readOnly = true)
     public List<UserResponse> getFriends(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND));
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
 
-        return user.getFriends().stream()
+        long[] friendIds = friendGraphIndex.getFriends(userId);
+        if (friendIds.length == 0) {
+            return List.of();
+        }
+        return userRepository.findViewsByIdIn(Arrays.stream(friendIds).boxed().toList()).stream()
                 .map(this::convertToUserResponse)
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 같은 학교 수준, 같은 학년의 친구의 친구 가운데 아직 친구가 아닌 사용자를 공통 친구 수 순으로 추천합니다.
+     *
+     * @param userId 사용자 ID
+     * @param size 최대 추천 수 (최대 {@value #MAX_SUGGESTION_SIZE})
+     * @return 공통 친구 수 내림차순으로 정렬된 추천 목록
+     */
+    @Transactional(readOnly = true)
+    public List<FriendSuggestionResponse> getFriendSuggestions(Long userId, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new CustomException("사용자를 찾을 수 없습니다.", ErrorCode.USER_NOT_FOUND);
+        }
+
+        int limit = size <= 0 ? DEFAULT_SUGGESTION_SIZE : Math.min(size, MAX_SUGGESTION_SIZE);
+        List<FriendGraph.Suggestion> suggestions = friendGraphIndex.suggest(userId, limit);
+        if (suggestions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, UserView> users = userRepository.findViewsByIdIn(
+                        suggestions.stream().map(FriendGraph.Suggestion::userId).toList()).stream()
+                .collect(Collectors.toMap(UserView::id, Function.identity()));
+        return suggestions.stream()
+                .filter(suggestion -> users.containsKey(suggestion.userId()))
+                .map(suggestion -> {
+                    UserView user = users.get(suggestion.userId());
+                    return FriendSuggestionResponse.builder()
+                            .id(user.id())
+                            .userName(user.userName())
+                            .schoolLevel(user.schoolLevel().toString())
+                            .grade(user.grade())
+                            .mutualFriendCount(suggestion.mutualFriendCount())
+                            .build();
+                })
+                .collect(Collectors.toList());
+    }
+
+
+    /**
+     * 요청된 페이지 크기를 1 이상 {@value #MAX_PAGE_SIZE} 이하로 보정합니다.
+     *
+     * @param size 요청된 페이지 크기
+     * @return 보정된 페이지 크기
+     */
+    private int normalizePageSize(int size) {
+        if (size <= 0) {
+            return DEFAULT_PAGE_SIZE;
+        }
+        return Math.min(size, MAX_PAGE_SIZE);
+    }
+
+    /**
+     * LIKE 패턴에서 특수 문자로 해석되는 %, _와 이스케이프 문자 !를 이스케이프합니다.
+     *
+     * @param value 원본 문자열
+     * @return 이스케이프한 문자열
+     */
+    private static String escapeLike(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
 
     /**
      * 사용자 엔티티를 UserResponse DTO로 변환합니다.
@@ -154,4 +356,22 @@ public class UserService {
                 .updatedAt(user.getUpdatedAt())
                 .build();
     }
+
+    /**
+     * 사용자 프로젝션을 UserResponse DTO로 변환합니다.
+     *
+     * @param view 사용자 프로젝션
+     * @return 사용자 응답 DTO
+     */
+    private UserResponse convertToUserResponse(UserView view) {
+        return UserResponse.builder()
+                .id(view.id())
+                .userName(view.userName())
+                .email(view.email())
+                .schoolLevel(view.schoolLevel().toString())
+                .grade(view.grade())
+                .createdAt(view.createdAt())
+                .updatedAt(view.updatedAt())
+                .build();
+    }
 }
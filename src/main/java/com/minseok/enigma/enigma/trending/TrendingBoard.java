@@ -0,0 +1,172 @@
+package com.minseok.enigma.enigma.trending;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+/**
+ * 한 학교 수준의 게시글 인기 점수와 상위 K개 게시글을 유지하는 보드입니다.<p>
+ * 점수는 반감기마다 절반으로 줄어드는 지수 감쇠를 따르며, 모든 게시글을 매번 다시 계산하지 않도록
+ * 고정된 기준 시각(epoch)으로 환산한 로그 점수로 저장합니다. 환산된 점수는 이벤트가 들어올 때만 증가하므로
+ * 시간이 흘러도 게시글 사이의 순서가 바뀌지 않고, 상위 K개 집합은 이벤트 단위의 갱신만으로 유지됩니다.
+ * 모든 연산은 보드 단위로 동기화됩니다.
+ */
+public class TrendingBoard {
+
+    private static final Comparator<Entry> HIGHEST_FIRST = Comparator
+            .comparingDouble(Entry::logScore)
+            .thenComparingLong(Entry::postId)
+            .reversed();
+
+    private final int capacity;
+    private final double decayPerMillis;
+
+    private final Map<Long, Double> logScores = new HashMap<>();
+    private final TreeSet<Entry> top = new TreeSet<>(HIGHEST_FIRST);
+
+    private record Entry(long postId, double logScore) {
+    }
+
+    /**
+     * 현재 시각 기준으로 감쇠된 게시글 점수입니다.
+     *
+     * @param postId 게시글 ID
+     * @param score 감쇠된 점수
+     */
+    public record ScoredPost(long postId, double score) {
+    }
+
+    /**
+     * @param capacity 유지할 상위 게시글 수
+     * @param halfLifeMillis 점수가 절반으로 줄어드는 시간(ms)
+     */
+    public TrendingBoard(int capacity, long halfLifeMillis) {
+        this.capacity = capacity;
+        this.decayPerMillis = Math.log(2) / halfLifeMillis;
+    }
+
+    /**
+     * 게시글에 점수를 더합니다.
+     *
+     * @param postId 게시글 ID
+     * @param weight 더할 점수 (0보다 커야 합니다)
+     * @param atMillis 이벤트가 발생한 시각(epoch ms)
+     */
+    public synchronized void add(long postId, double weight, long atMillis) {
+        if (weight <= 0) {
+            return;
+        }
+        double addend = Math.log(weight) + decayPerMillis * atMillis;
+        Double previous = logScores.get(postId);
+        double updated = previous == null ? addend : logAddExp(previous, addend);
+        logScores.put(postId, updated);
+
+        Entry entry = new Entry(postId, updated);
+        if (previous != null && top.remove(new Entry(postId, previous))) {
+            top.add(entry);
+        } else if (top.size() < capacity) {
+            top.add(entry);
+        } else if (HIGHEST_FIRST.compare(entry, top.last()) < 0) {
+            top.pollLast();
+            top.add(entry);
+        }
+    }
+
+    /**
+     * 게시글을 보드에서 제거합니다. 상위 집합에서 빠지면 남은 게시글 중 가장 높은 점수로 채웁니다.
+     *
+     * @param postId 게시글 ID
+     */
+    public synchronized void remove(long postId) {
+        Double previous = logScores.remove(postId);
+        if (previous == null || !top.remove(new Entry(postId, previous))) {
+            return;
+        }
+        Entry best = null;
+        for (Map.Entry<Long, Double> candidate : logScores.entrySet()) {
+            Entry entry = new Entry(candidate.getKey(), candidate.getValue());
+            if (!top.contains(entry) && (best == null || HIGHEST_FIRST.compare(entry, best) < 0)) {
+                best = entry;
+            }
+        }
+        if (best != null) {
+            top.add(best);
+        }
+    }
+
+    /**
+     * 점수가 높은 순으로 상위 게시글을 반환합니다.
+     *
+     * @param limit 최대 반환 개수
+     * @param nowMillis 점수를 감쇠할 기준 시각(epoch ms)
+     * @return 점수 내림차순 게시글 목록
+     */
+    public synchronized List<ScoredPost> getTop(int limit, long nowMillis) {
+        List<ScoredPost> result = new ArrayList<>(Math.min(limit, top.size()));
+        for (Entry entry : top) {
+            if (result.size() >= limit) {
+                break;
+            }
+            result.add(new ScoredPost(entry.postId(), decay(entry.logScore(), nowMillis)));
+        }
+        return result;
+    }
+
+    /**
+     * 상위 집합 밖에서 감쇠된 점수가 기준보다 낮아진 게시글을 정리합니다.
+     *
+     * @param minScore 유지할 최소 점수
+     * @param nowMillis 점수를 감쇠할 기준 시각(epoch ms)
+     * @return 정리된 게시글 수
+     */
+    public synchronized int prune(double minScore, long nowMillis) {
+        double threshold = Math.log(minScore) + decayPerMillis * nowMillis;
+        int pruned = 0;
+        Iterator<Map.Entry<Long, Double>> iterator = logScores.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Long, Double> entry = iterator.next();
+            if (entry.getValue() < threshold && !top.contains(new Entry(entry.getKey(), entry.getValue()))) {
+                iterator.remove();
+                pruned++;
+            }
+        }
+        return pruned;
+    }
+
+    /**
+     * 추적 중인 모든 게시글의 감쇠된 점수를 반환합니다. 체크포인트 저장에 사용합니다.
+     *
+     * @param nowMillis 점수를 감쇠할 기준 시각(epoch ms)
+     * @return 게시글 점수 목록
+     */
+    public synchronized List<ScoredPost> snapshot(long nowMillis) {
+        List<ScoredPost> result = new ArrayList<>(logScores.size());
+        logScores.forEach((postId, logScore) -> result.add(new ScoredPost(postId, decay(logScore, nowMillis))));
+        return result;
+    }
+
+    /**
+     * 추적 중인 게시글 수를 반환합니다.
+     *
+     * @return 게시글 수
+     */
+    public synchronized int size() {
+        return logScores.size();
+    }
+
+    private double decay(double logScore, long nowMillis) {
+        return Math.exp(logScore - decayPerMillis * nowMillis);
+    }
+
+    /**
+     * log(e^a + e^b)를 오버플로 없이 계산합니다.
+     */
+    private static double logAddExp(double a, double b) {
+        double max = Math.max(a, b);
+        return max + Math.log1p(Math.exp(Math.min(a, b) - max));
+    }
+}
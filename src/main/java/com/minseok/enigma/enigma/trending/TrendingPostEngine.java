@@ -0,0 +1,163 @@
+package com.minseok.enigma.enigma.trending;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 조회와 댓글 작성 이벤트로 게시글의 인기 점수를 계산하는 컴포넌트입니다.<p>
+ * 학교 수준마다 {@link TrendingBoard}를 두어 시간 감쇠 점수와 상위 게시글을 메모리에서 유지하므로,
+ * 인기 게시글 조회 시 조회수/댓글 수로 정렬하는 쿼리를 실행하지 않습니다.
+ * 점수는 주기적으로 trending_scores 테이블에 체크포인트로 저장되며, 재시작 시 이를 읽어 복원합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingPostEngine {
+
+    private static final String DELETE_CHECKPOINT_SQL = "DELETE FROM trending_scores";
+    private static final String INSERT_CHECKPOINT_SQL =
+            "INSERT INTO trending_scores (post_id, school_level, score, scored_at) VALUES (?, ?, ?, ?)";
+    private static final String SELECT_CHECKPOINT_SQL =
+            "SELECT t.post_id, t.school_level, t.score, t.scored_at FROM trending_scores t " +
+            "JOIN posts p ON p.id = t.post_id WHERE p.status = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${enigma.trending.capacity:50}")
+    private int capacity;
+
+    @Value("${enigma.trending.half-life-minutes:360}")
+    private long halfLifeMinutes;
+
+    @Value("${enigma.trending.view-weight:1.0}")
+    private double viewWeight;
+
+    @Value("${enigma.trending.comment-weight:5.0}")
+    private double commentWeight;
+
+    @Value("${enigma.trending.min-score:0.05}")
+    private double minScore;
+
+    private final Map<SchoolLevel, TrendingBoard> boards = new EnumMap<>(SchoolLevel.class);
+
+    /**
+     * 설정값으로 학교 수준별 보드를 만듭니다.
+     */
+    @PostConstruct
+    public void createBoards() {
+        for (SchoolLevel schoolLevel : SchoolLevel.values()) {
+            boards.put(schoolLevel, new TrendingBoard(capacity, halfLifeMinutes * 60_000));
+        }
+    }
+
+    /**
+     * 게시글 조회를 점수에 반영합니다.
+     *
+     * @param postId 게시글 ID
+     * @param schoolLevel 게시글의 학교 수준
+     */
+    public void recordView(Long postId, SchoolLevel schoolLevel) {
+        boards.get(schoolLevel).add(postId, viewWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * 댓글 작성을 점수에 반영합니다.
+     *
+     * @param postId 게시글 ID
+     * @param schoolLevel 게시글의 학교 수준
+     */
+    public void recordComment(Long postId, SchoolLevel schoolLevel) {
+        boards.get(schoolLevel).add(postId, commentWeight, System.currentTimeMillis());
+    }
+
+    /**
+     * 삭제된 게시글을 인기 게시글에서 제외합니다.
+     *
+     * @param postId 게시글 ID
+     * @param schoolLevel 게시글의 학교 수준
+     */
+    public void remove(Long postId, SchoolLevel schoolLevel) {
+        boards.get(schoolLevel).remove(postId);
+    }
+
+    /**
+     * 학교 수준의 인기 게시글을 점수가 높은 순으로 반환합니다.
+     *
+     * @param schoolLevel 학교 수준
+     * @param limit 최대 반환 개수
+     * @return 점수 내림차순 게시글 목록
+     */
+    public List<TrendingBoard.ScoredPost> getTrending(SchoolLevel schoolLevel, int limit) {
+        return boards.get(schoolLevel).getTop(limit, System.currentTimeMillis());
+    }
+
+    /**
+     * 애플리케이션 시작 시 마지막 체크포인트에서 점수를 복원합니다. 그 사이 삭제된 게시글은 제외합니다.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void restore() {
+        try {
+            jdbcTemplate.query(SELECT_CHECKPOINT_SQL, (RowCallbackHandler) rs -> boards
+                    .get(SchoolLevel.valueOf(rs.getString("school_level")))
+                    .add(rs.getLong("post_id"), rs.getDouble("score"), rs.getTimestamp("scored_at").getTime()));
+            log.info("인기 게시글 점수를 복원했습니다. posts={}",
+                    boards.values().stream().mapToInt(TrendingBoard::size).sum());
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 점수 복원에 실패했습니다. 빈 상태로 시작합니다.", e);
+        }
+    }
+
+    /**
+     * 점수가 충분히 감쇠된 게시글을 정리하고, 남은 점수를 하나의 트랜잭션에서 체크포인트 테이블로 교체 저장합니다.
+     */
+    @Scheduled(fixedDelayString = "${enigma.trending.checkpoint-interval-ms:60000}",
+            initialDelayString = "${enigma.trending.checkpoint-interval-ms:60000}")
+    public void checkpoint() {
+        long now = System.currentTimeMillis();
+        Timestamp scoredAt = new Timestamp(now);
+        List<Object[]> batchArgs = new ArrayList<>();
+        boards.forEach((schoolLevel, board) -> {
+            board.prune(minScore, now);
+            for (TrendingBoard.ScoredPost post : board.snapshot(now)) {
+                batchArgs.add(new Object[]{post.postId(), schoolLevel.name(), post.score(), scoredAt});
+            }
+        });
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                jdbcTemplate.update(DELETE_CHECKPOINT_SQL);
+                if (!batchArgs.isEmpty()) {
+                    jdbcTemplate.batchUpdate(INSERT_CHECKPOINT_SQL, batchArgs);
+                }
+            });
+        } catch (RuntimeException e) {
+            log.warn("인기 게시글 점수 체크포인트 저장에 실패했습니다. posts={}", batchArgs.size(), e);
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 체크포인트를 저장합니다.
+     */
+    @PreDestroy
+    public void checkpointOnShutdown() {
+        checkpoint();
+    }
+}
@@ -0,0 +1,190 @@
+package com.minseok.enigma.enigma.util;
+
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * 커서 기반 페이지네이션에서 사용하는 불투명(opaque) 커서를 인코딩/디코딩하는 유틸리티 클래스입니다.<p>
+ * 커서는 마지막으로 내려준 항목의 정렬 키(생성 시각과 ID, ID, 문자열 키, 또는 문자열 키와 ID)나 다시 읽을 구간(시작 시각과 이미 내려준 ID)을
+ * URL-safe Base64 문자열로 감싼 값입니다.
+ */
+public final class CursorUtil {
+
+    private static final String DELIMITER = "|";
+    private static final String ID_DELIMITER = ",";
+
+    private CursorUtil() {
+    }
+
+    /**
+     * (생성 시각, ID) 정렬 키를 커서 문자열로 인코딩합니다.
+     *
+     * @param createdAt 마지막 항목의 생성 시각
+     * @param id 마지막 항목의 ID
+     * @return 인코딩된 커서
+     */
+    public static String encode(LocalDateTime createdAt, Long id) {
+        String raw = createdAt + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 (생성 시각, ID) 정렬 키로 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 디코딩된 커서
+     */
+    public static Cursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new Cursor(LocalDateTime.parse(raw.substring(0, index)), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * ID 정렬 키를 커서 문자열로 인코딩합니다.
+     *
+     * @param id 마지막 항목의 ID
+     * @return 인코딩된 커서
+     */
+    public static String encode(Long id) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(String.valueOf(id).getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 ID 정렬 키로 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 마지막 항목의 ID
+     */
+    public static long decodeId(String cursor) {
+        try {
+            return Long.parseLong(new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8));
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 문자열 정렬 키(예: 댓글 경로)를 커서 문자열로 인코딩합니다.
+     *
+     * @param key 마지막 항목의 정렬 키
+     * @return 인코딩된 커서
+     */
+    public static String encodeKey(String key) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(key.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 문자열 정렬 키로 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 마지막 항목의 정렬 키
+     */
+    public static String decodeKey(String cursor) {
+        try {
+            return new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * (문자열 키, ID) 정렬 키를 커서 문자열로 인코딩합니다.
+     *
+     * @param key 마지막 항목의 문자열 정렬 키
+     * @param id 마지막 항목의 ID
+     * @return 인코딩된 커서
+     */
+    public static String encodeKey(String key, Long id) {
+        String raw = key + DELIMITER + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 (문자열 키, ID) 정렬 키로 디코딩합니다. 키에 구분자가 있어도 마지막 구분자 뒤를 ID로 읽습니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 디코딩된 커서
+     */
+    public static KeyCursor decodeKeyWithId(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            return new KeyCursor(raw.substring(0, index), Long.parseLong(raw.substring(index + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 다시 읽을 구간의 시작 시각과, 그 구간에서 이미 내려준 항목의 ID를 커서 문자열로 인코딩합니다.
+     *
+     * @param since 다시 읽을 구간의 시작 시각
+     * @param seenIds 구간 안에서 이미 내려준 항목의 ID
+     * @return 인코딩된 커서
+     */
+    public static String encodeWindow(LocalDateTime since, Collection<Long> seenIds) {
+        String raw = since + DELIMITER + seenIds.stream().map(String::valueOf).collect(Collectors.joining(ID_DELIMITER));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열을 다시 읽을 구간으로 디코딩합니다.
+     *
+     * @param cursor 인코딩된 커서
+     * @return 디코딩된 구간
+     */
+    public static WindowCursor decodeWindow(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int index = raw.lastIndexOf(DELIMITER);
+            String ids = raw.substring(index + 1);
+            Set<Long> seenIds = ids.isEmpty() ? new LinkedHashSet<>() : Arrays.stream(ids.split(ID_DELIMITER))
+                    .map(Long::valueOf)
+                    .collect(Collectors.toCollection(LinkedHashSet::new));
+            return new WindowCursor(LocalDateTime.parse(raw.substring(0, index)), seenIds);
+        } catch (RuntimeException e) {
+            throw new CustomException("잘못된 커서입니다.", ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    /**
+     * 디코딩된 커서의 정렬 키입니다.
+     *
+     * @param createdAt 마지막 항목의 생성 시각
+     * @param id 마지막 항목의 ID
+     */
+    public record Cursor(LocalDateTime createdAt, Long id) {
+    }
+
+    /**
+     * 디코딩된 (문자열 키, ID) 커서입니다.
+     *
+     * @param key 마지막 항목의 문자열 정렬 키
+     * @param id 마지막 항목의 ID
+     */
+    public record KeyCursor(String key, Long id) {
+    }
+
+    /**
+     * 디코딩된 구간 커서입니다.
+     *
+     * @param since 다시 읽을 구간의 시작 시각
+     * @param seenIds 구간 안에서 이미 내려준 항목의 ID
+     */
+    public record WindowCursor(LocalDateTime since, Set<Long> seenIds) {
+    }
+}
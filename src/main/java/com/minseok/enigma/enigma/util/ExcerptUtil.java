@@ -0,0 +1,32 @@
+package com.minseok.enigma.enigma.util;
+
+/**
+ * 게시글 본문에서 목록 응답용 요약(excerpt)을 만드는 유틸리티 클래스입니다.<p>
+ * 연속된 공백과 줄바꿈을 하나의 공백으로 합치고, 앞부분 {@value #MAX_LENGTH}자(코드 포인트 기준)만 남깁니다.
+ */
+public final class ExcerptUtil {
+
+    public static final int MAX_LENGTH = 100;
+    private static final String ELLIPSIS = "…";
+
+    private ExcerptUtil() {
+    }
+
+    /**
+     * 본문의 요약을 만듭니다.
+     *
+     * @param content 게시글 본문
+     * @return 요약 (본문이 없으면 null)
+     */
+    public static String of(String content) {
+        if (content == null) {
+            return null;
+        }
+        String normalized = content.strip().replaceAll("\\s+", " ");
+        if (normalized.codePointCount(0, normalized.length()) <= MAX_LENGTH) {
+            return normalized;
+        }
+        int end = normalized.offsetByCodePoints(0, MAX_LENGTH);
+        return normalized.substring(0, end).stripTrailing() + ELLIPSIS;
+    }
+}
@@ -0,0 +1,146 @@
+package com.minseok.enigma.enigma.util;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.sql.PreparedStatement;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * 증분으로 갱신하면서 주기적으로 DB로부터 통째로 다시 만들어 교체하는 메모리 구조(색인, 그래프, 필터 등)를 담는 클래스입니다.<p>
+ * 다시 만드는 동안 들어온 변경은 현재 구조에 반영하는 동시에 대기열에 기록해 두었다가, 새 구조로 교체하기 직전에 다시 적용합니다.
+ * 변경 적용은 읽기 잠금, 재구성 시작과 교체는 쓰기 잠금 아래에서 이루어지므로, DB 트랜잭션이 커밋된 뒤에 적용한 변경은
+ * 재구성이 읽는 DB에 이미 반영되어 있거나 대기열에 기록되어 새 구조에 다시 적용됩니다.<p>
+ * 변경은 여러 스레드에서 동시에 적용될 수 있으므로 담는 구조는 스스로 스레드 안전해야 합니다.
+ *
+ * @param <T> 담는 구조의 타입
+ */
+public final class RebuildableSnapshot<T> {
+
+    /**
+     * 재구성 시 DB를 스트리밍으로 읽을 때 한 번에 가져오는 기본 행 수입니다.
+     */
+    public static final int DEFAULT_FETCH_SIZE = 1000;
+
+    private final AtomicReference<T> current;
+
+    /**
+     * 재구성 중에 들어온 변경 사항입니다. 새 구조로 교체한 뒤 다시 적용합니다.
+     */
+    private final Queue<Consumer<T>> changesDuringRebuild = new ConcurrentLinkedQueue<>();
+    private volatile boolean rebuilding;
+
+    /**
+     * 변경 적용(읽기 잠금)과 재구성 시작/교체(쓰기 잠금)를 배타적으로 만듭니다.
+     */
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * 재구성에 사용할 새 구조를 만드는 함수입니다.
+     *
+     * @param <T> 구조의 타입
+     * @param <E> 만드는 도중 던질 수 있는 예외
+     */
+    @FunctionalInterface
+    public interface Loader<T, E extends Exception> {
+        T load() throws E;
+    }
+
+    /**
+     * @param initial 처음 만들어지기 전의 구조 (없으면 null, 그동안의 변경은 버려집니다)
+     */
+    public RebuildableSnapshot(T initial) {
+        this.current = new AtomicReference<>(initial);
+    }
+
+    /**
+     * 현재 구조를 반환합니다.
+     *
+     * @return 현재 구조 (아직 만들어지지 않았으면 null)
+     */
+    public T get() {
+        return current.get();
+    }
+
+    /**
+     * 현재 구조에 변경을 적용합니다. 재구성 중이면 새 구조에 다시 적용하기 위해 기록합니다.
+     *
+     * @param change 적용할 변경
+     */
+    public void apply(Consumer<T> change) {
+        lock.readLock().lock();
+        try {
+            if (rebuilding) {
+                changesDuringRebuild.add(change);
+            }
+            T snapshot = current.get();
+            if (snapshot != null) {
+                change.accept(snapshot);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 새 구조를 만들어, 그동안 기록된 변경을 적용한 뒤 교체합니다.<p>
+     * 만드는 도중 예외가 발생하면 기존 구조를 유지하고 예외를 그대로 던집니다.
+     *
+     * @param loader 새 구조를 만드는 함수
+     * @return 교체된 새 구조
+     * @throws E 새 구조를 만들지 못한 경우
+     */
+    public synchronized <E extends Exception> T rebuild(Loader<T, E> loader) throws E {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild.clear();
+            rebuilding = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+        T rebuilt = null;
+        try {
+            rebuilt = loader.load();
+        } finally {
+            lock.writeLock().lock();
+            try {
+                if (rebuilt != null) {
+                    Consumer<T> change;
+                    while ((change = changesDuringRebuild.poll()) != null) {
+                        change.accept(rebuilt);
+                    }
+                    current.set(rebuilt);
+                }
+                changesDuringRebuild.clear();
+                rebuilding = false;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        return rebuilt;
+    }
+
+    /**
+     * 재구성을 위해 쿼리 결과를 한 번에 메모리에 올리지 않고 fetch size 단위로 스트리밍하며 읽습니다.
+     *
+     * @param jdbcTemplate JdbcTemplate
+     * @param sql 실행할 쿼리
+     * @param fetchSize 한 번에 가져올 행 수
+     * @param handler 행마다 호출할 핸들러
+     * @param args 쿼리 파라미터
+     */
+    public static void stream(JdbcTemplate jdbcTemplate, String sql, int fetchSize, RowCallbackHandler handler, Object... args) {
+        jdbcTemplate.query(connection -> {
+            PreparedStatement statement = connection.prepareStatement(sql);
+            statement.setFetchSize(fetchSize);
+            for (int i = 0; i < args.length; i++) {
+                statement.setObject(i + 1, args[i]);
+            }
+            return statement;
+        }, handler);
+    }
+}
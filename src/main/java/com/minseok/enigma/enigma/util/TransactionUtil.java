@@ -0,0 +1,33 @@
+package com.minseok.enigma.enigma.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 이후에 실행되어야 하는 작업을 등록하는 유틸리티 클래스입니다.<p>
+ * 메모리 캐시/색인처럼 롤백할 수 없는 구조는 DB 변경이 확정된 뒤에만 갱신해야 하므로 이 클래스로 반영 시점을 미룹니다.
+ */
+public final class TransactionUtil {
+
+    private TransactionUtil() {
+    }
+
+    /**
+     * 현재 트랜잭션이 커밋된 뒤 작업을 실행합니다.<p>
+     * 롤백되면 작업은 실행되지 않습니다. 활성화된 트랜잭션 동기화가 없으면 즉시 실행합니다.
+     *
+     * @param action 커밋 이후 실행할 작업
+     */
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
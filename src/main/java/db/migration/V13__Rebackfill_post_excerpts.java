@@ -0,0 +1,67 @@
+package db.migration;
+
+import com.minseok.enigma.enigma.util.ExcerptUtil;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * V5에서 본문 앞 100자(SUBSTRING)로 채운 기존 게시글 요약을 {@link ExcerptUtil}로 다시 만듭니다.<p>
+ * SQL의 SUBSTRING은 공백과 줄바꿈을 합치지 않고 말줄임표도 붙이지 않아 새로 작성된 게시글의 요약과 형식이 달랐습니다.
+ * 같은 규칙을 SQL로 옮기는 대신 애플리케이션 코드를 그대로 사용해, 운영 테이블과 보관 테이블의 요약을 ID 순으로
+ * {@value #BATCH_SIZE}건씩 읽어 값이 달라지는 행만 갱신합니다.
+ */
+public class V13__Rebackfill_post_excerpts extends BaseJavaMigration {
+
+    public static final int BATCH_SIZE = 500;
+
+    private static final String[] TABLES = {"posts", "posts_archive"};
+
+    @Override
+    public void migrate(Context context) {
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(new SingleConnectionDataSource(context.getConnection(), true));
+        for (String table : TABLES) {
+            rebackfill(jdbcTemplate, table);
+        }
+    }
+
+    /**
+     * 테이블의 요약을 ID 순으로 한 묶음씩 다시 만듭니다.
+     *
+     * @param jdbcTemplate 마이그레이션 연결을 사용하는 JdbcTemplate
+     * @param table 게시글 또는 게시글 보관 테이블
+     * @return 갱신한 행 수
+     */
+    public static int rebackfill(JdbcTemplate jdbcTemplate, String table) {
+        String selectSql = "SELECT id, content, excerpt FROM " + table +
+                " WHERE id > ? AND content IS NOT NULL ORDER BY id LIMIT " + BATCH_SIZE;
+        String updateSql = "UPDATE " + table + " SET excerpt = ? WHERE id = ?";
+
+        int updated = 0;
+        long afterId = 0L;
+        while (true) {
+            List<Object[]> batchArgs = new ArrayList<>();
+            List<Long> ids = jdbcTemplate.query(selectSql, (rs, rowNum) -> {
+                long id = rs.getLong("id");
+                String excerpt = ExcerptUtil.of(rs.getString("content"));
+                if (!Objects.equals(excerpt, rs.getString("excerpt"))) {
+                    batchArgs.add(new Object[]{excerpt, id});
+                }
+                return id;
+            }, afterId);
+            if (ids.isEmpty()) {
+                return updated;
+            }
+            if (!batchArgs.isEmpty()) {
+                jdbcTemplate.batchUpdate(updateSql, batchArgs);
+                updated += batchArgs.size();
+            }
+            afterId = ids.get(ids.size() - 1);
+        }
+    }
+}
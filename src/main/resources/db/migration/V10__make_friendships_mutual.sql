@@ -0,0 +1,8 @@
+-- 친구 관계를 양방향으로 유지합니다. 친구 추가/삭제가 (user_id, friend_id)와 (friend_id, user_id) 두 행을 함께 다루므로
+-- 기존에 한쪽 방향만 저장된 관계에 반대 방향 행을 채워 넣습니다.
+INSERT INTO user_friends (user_id, friend_id)
+SELECT f.friend_id, f.user_id
+FROM user_friends f
+WHERE NOT EXISTS (
+    SELECT 1 FROM user_friends r WHERE r.user_id = f.friend_id AND r.friend_id = f.user_id
+);
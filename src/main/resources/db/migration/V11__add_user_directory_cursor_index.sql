@@ -0,0 +1,5 @@
+-- 학년별 사용자 목록 커서 페이지네이션: WHERE school_level = ? AND grade = ? AND id > ? ORDER BY id
+-- 커서 조건과 정렬까지 인덱스 범위 탐색으로 처리하도록 id를 인덱스 끝에 포함합니다.
+-- 새 인덱스가 기존 인덱스의 앞부분을 그대로 포함하므로 기존 인덱스는 삭제합니다.
+CREATE INDEX idx_users_school_level_grade_id ON users (school_level, grade, id);
+DROP INDEX idx_users_school_level_grade ON users;
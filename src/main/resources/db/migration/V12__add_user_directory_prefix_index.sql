@@ -0,0 +1,5 @@
+-- 학년별 사용자 목록의 아이디 접두어 검색: WHERE school_level = ? AND grade = ? AND user_name LIKE 'prefix%'
+--   AND (user_name, id) > (?, ?) ORDER BY user_name, id
+-- 접두어 조건과 (아이디, ID) 커서, 정렬까지 인덱스 범위 탐색으로 처리하도록 user_name과 id를 이어서 포함합니다.
+-- 접두어가 없는 목록은 ID 순으로 읽으므로 기존 (school_level, grade, id) 인덱스를 그대로 사용합니다.
+CREATE INDEX idx_users_school_level_grade_user_name_id ON users (school_level, grade, user_name, id);
@@ -0,0 +1,63 @@
+-- 엔티티 기준 초기 스키마
+CREATE TABLE users (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    user_name    VARCHAR(255) NOT NULL,
+    password     VARCHAR(255) NOT NULL,
+    email        VARCHAR(255) NOT NULL,
+    school_level VARCHAR(20)  NOT NULL,
+    grade        INT          NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_user_name UNIQUE (user_name),
+    CONSTRAINT uk_users_email UNIQUE (email)
+);
+
+CREATE TABLE user_friends (
+    user_id   BIGINT NOT NULL,
+    friend_id BIGINT NOT NULL,
+    PRIMARY KEY (user_id, friend_id),
+    CONSTRAINT fk_user_friends_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_user_friends_friend FOREIGN KEY (friend_id) REFERENCES users (id)
+);
+
+CREATE TABLE categories (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    code         VARCHAR(255) NOT NULL,
+    name         VARCHAR(255) NOT NULL,
+    description  VARCHAR(255),
+    is_active    BOOLEAN      NOT NULL,
+    school_level VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_categories_code UNIQUE (code)
+);
+
+CREATE TABLE posts (
+    id           BIGINT       NOT NULL AUTO_INCREMENT,
+    title        VARCHAR(255) NOT NULL,
+    content      TEXT,
+    user_id      BIGINT,
+    view_count   INT          NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    status       VARCHAR(20)  NOT NULL,
+    category_id  BIGINT,
+    school_level VARCHAR(20)  NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_posts_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_posts_category FOREIGN KEY (category_id) REFERENCES categories (id)
+);
+
+CREATE TABLE comments (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    user_id      BIGINT      NOT NULL,
+    post_id      BIGINT      NOT NULL,
+    content      TEXT        NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    status       VARCHAR(20) NOT NULL,
+    school_level VARCHAR(20) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT fk_comments_user FOREIGN KEY (user_id) REFERENCES users (id),
+    CONSTRAINT fk_comments_post FOREIGN KEY (post_id) REFERENCES posts (id)
+);
@@ -0,0 +1,15 @@
+-- 자주 실행되는 조회 조건에 맞춘 복합 인덱스
+-- 피드: WHERE school_level = ? AND status = ? ORDER BY created_at DESC, id DESC
+CREATE INDEX idx_posts_school_level_status_created_at ON posts (school_level, status, created_at, id);
+
+-- 작성자별 게시글: WHERE user_id = ? AND status = ?
+CREATE INDEX idx_posts_user_id_status ON posts (user_id, status);
+
+-- 카테고리별 게시글: WHERE category_id = ? AND status = ?
+CREATE INDEX idx_posts_category_id_status ON posts (category_id, status);
+
+-- 게시글의 댓글: WHERE post_id = ? AND status = ? ORDER BY created_at
+CREATE INDEX idx_comments_post_id_status_created_at ON comments (post_id, status, created_at);
+
+-- 학교 수준/학년별 사용자: WHERE school_level = ? AND grade = ?
+CREATE INDEX idx_users_school_level_grade ON users (school_level, grade);
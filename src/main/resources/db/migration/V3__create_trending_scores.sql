@@ -0,0 +1,10 @@
+-- 인기 게시글 점수 체크포인트
+-- 메모리에 유지하는 시간 감쇠 점수를 주기적으로 저장해 재시작 시 복원합니다.
+-- 파생 데이터이므로 게시글 정리 작업을 막지 않도록 외래 키를 두지 않습니다.
+CREATE TABLE trending_scores (
+    post_id      BIGINT      NOT NULL,
+    school_level VARCHAR(20) NOT NULL,
+    score        DOUBLE      NOT NULL,
+    scored_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (post_id)
+);
@@ -0,0 +1,8 @@
+-- 게시글별 활성 댓글 수와 마지막 댓글 작성 시각 (비정규화)
+ALTER TABLE posts ADD COLUMN comment_count INT NOT NULL DEFAULT 0;
+ALTER TABLE posts ADD COLUMN last_comment_at DATETIME(6);
+
+-- 기존 댓글로 초기값을 채웁니다.
+UPDATE posts p
+SET comment_count   = (SELECT COUNT(*) FROM comments c WHERE c.post_id = p.id AND c.status = 'ACTIVE'),
+    last_comment_at = (SELECT MAX(c.created_at) FROM comments c WHERE c.post_id = p.id AND c.status = 'ACTIVE');
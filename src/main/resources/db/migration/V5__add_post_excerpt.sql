@@ -0,0 +1,5 @@
+-- 목록 응답용 게시글 요약
+-- 새 게시글은 작성 시 애플리케이션이 채우고, 기존 게시글은 본문 앞부분으로 채웁니다.
+ALTER TABLE posts ADD COLUMN excerpt VARCHAR(255);
+
+UPDATE posts SET excerpt = SUBSTRING(content, 1, 100) WHERE content IS NOT NULL;
@@ -0,0 +1,15 @@
+-- 테이블 기반 ID 생성기
+-- IDENTITY 전략은 INSERT마다 생성된 키를 받아야 해서 JDBC 배치가 꺼지므로,
+-- 엔티티 ID를 이 테이블에서 allocationSize(50)개 단위로 미리 할당받습니다.
+CREATE TABLE id_generators (
+    sequence_name VARCHAR(255) NOT NULL,
+    next_val      BIGINT       NOT NULL,
+    PRIMARY KEY (sequence_name)
+);
+
+-- pooled 최적화기는 저장된 값을 할당 범위의 상한으로 사용하므로(next_val - 49 ~ next_val),
+-- 기존 최대 ID와 겹치지 않도록 allocationSize + 1만큼 여유를 두고 시작합니다.
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'users', COALESCE(MAX(id), 0) + 51 FROM users;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'categories', COALESCE(MAX(id), 0) + 51 FROM categories;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'posts', COALESCE(MAX(id), 0) + 51 FROM posts;
+INSERT INTO id_generators (sequence_name, next_val) SELECT 'comments', COALESCE(MAX(id), 0) + 51 FROM comments;
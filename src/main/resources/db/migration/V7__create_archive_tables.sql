@@ -0,0 +1,38 @@
+-- 삭제된 게시글/댓글 보관 테이블
+-- 삭제(DELETED) 후 보관 기간이 지난 행을 운영 테이블에서 옮겨 운영 테이블과 인덱스를 작게 유지합니다.
+-- 원본 행을 그대로 보존하기 위한 테이블이므로 외래 키와 보조 인덱스를 두지 않습니다.
+CREATE TABLE posts_archive (
+    id              BIGINT       NOT NULL,
+    title           VARCHAR(255) NOT NULL,
+    content         TEXT,
+    excerpt         VARCHAR(255),
+    user_id         BIGINT,
+    view_count      INT          NOT NULL,
+    comment_count   INT          NOT NULL,
+    last_comment_at DATETIME(6),
+    created_at      DATETIME(6),
+    updated_at      DATETIME(6),
+    status          VARCHAR(20)  NOT NULL,
+    category_id     BIGINT,
+    school_level    VARCHAR(20)  NOT NULL,
+    archived_at     DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+);
+
+CREATE TABLE comments_archive (
+    id           BIGINT      NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    post_id      BIGINT      NOT NULL,
+    content      TEXT        NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    status       VARCHAR(20) NOT NULL,
+    school_level VARCHAR(20) NOT NULL,
+    archived_at  DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+);
+
+-- MySQL은 부분 인덱스(WHERE status = 'DELETED')를 지원하지 않으므로,
+-- 보관 대상 탐색(WHERE status = 'DELETED' AND updated_at < ?)은 상태가 앞선 복합 인덱스로 좁힙니다.
+CREATE INDEX idx_posts_status_updated_at ON posts (status, updated_at);
+CREATE INDEX idx_comments_status_updated_at ON comments (status, updated_at);
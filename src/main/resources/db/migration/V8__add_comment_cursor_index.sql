@@ -0,0 +1,5 @@
+-- 게시글 댓글 커서 페이지네이션: WHERE post_id = ? AND status = ? AND (created_at, id) 범위 ORDER BY created_at, id
+-- 같은 시각에 작성된 댓글을 ID로 구분하는 커서 조건까지 인덱스 범위 탐색으로 처리하도록 id를 인덱스 끝에 포함합니다.
+-- 새 인덱스가 기존 인덱스의 앞부분을 그대로 포함하므로 기존 인덱스는 삭제합니다. (post_id 외래 키는 새 인덱스를 사용합니다.)
+CREATE INDEX idx_comments_post_id_status_created_at_id ON comments (post_id, status, created_at, id);
+DROP INDEX idx_comments_post_id_status_created_at ON comments;
@@ -0,0 +1,21 @@
+-- 댓글 답글(스레드)
+-- path는 루트부터 자기 자신까지의 댓글 ID를 19자리로 0을 채워 이어 붙인 경로(materialized path)입니다.
+-- 경로를 문자열로 정렬하면 부모 바로 뒤에 그 답글들이 작성 순으로 이어지므로, 스레드 전체나 특정 댓글의 하위 트리를
+-- WHERE post_id = ? AND status = ? AND path LIKE '<부모 경로>%' ORDER BY path 한 번의 인덱스 범위 탐색으로 읽습니다.
+-- 삭제된 부모 댓글이 보관 테이블로 옮겨져도 답글이 남을 수 있도록 parent_id에는 외래 키를 두지 않습니다.
+ALTER TABLE comments ADD COLUMN parent_id BIGINT;
+ALTER TABLE comments ADD COLUMN path VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE comments ADD COLUMN depth INT NOT NULL DEFAULT 0;
+ALTER TABLE comments ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+-- 기존 댓글은 모두 루트 댓글입니다.
+UPDATE comments SET path = LPAD(CONCAT('', id), 19, '0');
+
+CREATE INDEX idx_comments_post_id_status_path ON comments (post_id, status, path);
+
+ALTER TABLE comments_archive ADD COLUMN parent_id BIGINT;
+ALTER TABLE comments_archive ADD COLUMN path VARCHAR(255) NOT NULL DEFAULT '';
+ALTER TABLE comments_archive ADD COLUMN depth INT NOT NULL DEFAULT 0;
+ALTER TABLE comments_archive ADD COLUMN reply_count INT NOT NULL DEFAULT 0;
+
+UPDATE comments_archive SET path = LPAD(CONCAT('', id), 19, '0');
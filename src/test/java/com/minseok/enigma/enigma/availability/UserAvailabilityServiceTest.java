@@ -0,0 +1,96 @@
+package com.minseok.enigma.enigma.availability;
+
+import com.minseok.enigma.enigma.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 블룸 필터 기반 사용 가능 여부 확인을 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class UserAvailabilityServiceTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserAvailabilityService availabilityService;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+
+        meterRegistry = new SimpleMeterRegistry();
+        availabilityService = new UserAvailabilityService(jdbcTemplate, userRepository, meterRegistry);
+        ReflectionTestUtils.setField(availabilityService, "falsePositiveRate", 0.01);
+        ReflectionTestUtils.setField(availabilityService, "minExpectedInsertions", 1000L);
+        availabilityService.registerMeters();
+    }
+
+    private double lookups(String source) {
+        return meterRegistry.get("enigma.availability.lookups").tag("source", source).counter().count();
+    }
+
+    @Test
+    public void testBeforeRebuild_AlwaysAsksRepository() {
+        assertFalse(availabilityService.isUserNameTaken("newUser"));
+
+        assertEquals(0.0, lookups("filter"));
+        assertEquals(1.0, lookups("repository"));
+    }
+
+    @Test
+    public void testAfterRebuild_FreeNamesSkipRepository() {
+        availabilityService.rebuild();
+
+        assertFalse(availabilityService.isUserNameTaken("newUser"));
+        assertFalse(availabilityService.isEmailTaken("new@example.com"));
+        assertTrue(availabilityService.isUserNameTaken("user1"));
+        assertTrue(availabilityService.isEmailTaken("user1@example.com"));
+
+        assertEquals(2.0, lookups("filter"));
+        assertEquals(2.0, lookups("repository"));
+    }
+
+    @Test
+    public void testRegister_MakesNewValuesPossibleHits() {
+        availabilityService.rebuild();
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (2, 'user2', 'password', 'user2@example.com', 'HIGH', 1)");
+        availabilityService.register("user2", "user2@example.com");
+
+        assertTrue(availabilityService.isUserNameTaken("user2"));
+        assertTrue(availabilityService.isEmailTaken("user2@example.com"));
+        assertEquals(2.0, lookups("repository"));
+    }
+
+    @Test
+    public void testAccentAndCaseVariants_AreCheckedAgainstRepository() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (2, 'jose', 'password', 'jose@example.com', 'HIGH', 1)");
+        availabilityService.rebuild();
+
+        // 악센트를 구분하지 않는 정렬 규칙에서는 같은 값일 수 있으므로 필터만으로 사용 가능하다고 답하지 않아야 합니다.
+        availabilityService.isUserNameTaken("José");
+        availabilityService.isUserNameTaken("JOSÉ");
+
+        assertEquals(0.0, lookups("filter"));
+        assertEquals(2.0, lookups("repository"));
+        assertEquals("jose", UserAvailabilityService.normalize("Jose\u0301"));
+    }
+}
@@ -0,0 +1,42 @@
+package com.minseok.enigma.enigma.friend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+public class FriendGraphIndexTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private FriendGraphIndex friendGraphIndex;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    public void testRebuild_KeepsChangesAppliedDuringLoad() {
+        friendGraphIndex.addFriend(1L, 2L);
+        // 재구성이 DB를 읽는 도중 커밋된 변경은 읽은 결과에 없으므로 새 그래프에 다시 적용되어야 합니다.
+        doAnswer(invocation -> {
+            friendGraphIndex.addFriend(1L, 3L);
+            return null;
+        }).doNothing().when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        friendGraphIndex.rebuild();
+
+        assertArrayEquals(new long[]{3L}, friendGraphIndex.getFriends(1L));
+    }
+}
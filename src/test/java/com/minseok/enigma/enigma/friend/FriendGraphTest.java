@@ -0,0 +1,86 @@
+package com.minseok.enigma.enigma.friend;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FriendGraphTest {
+
+    @Test
+    public void testIntersectionSize_SortedArrays() {
+        assertEquals(2, FriendGraph.intersectionSize(new long[]{1, 3, 5, 7}, new long[]{2, 3, 7, 9}));
+        assertEquals(0, FriendGraph.intersectionSize(new long[]{1, 2}, new long[]{3, 4}));
+        assertEquals(0, FriendGraph.intersectionSize(new long[0], new long[]{1}));
+    }
+
+    @Test
+    public void testAddAndRemoveFriend_KeepsSortedWithoutDuplicates() {
+        FriendGraph graph = new FriendGraph();
+        graph.putUser(1, SchoolLevel.HIGH, 1);
+
+        graph.addFriend(1, 30);
+        graph.addFriend(1, 10);
+        graph.addFriend(1, 20);
+        graph.addFriend(1, 10);
+        assertArrayEquals(new long[]{10, 20, 30}, graph.getFriends(1));
+
+        graph.removeFriend(1, 20);
+        graph.removeFriend(1, 99);
+        assertArrayEquals(new long[]{10, 30}, graph.getFriends(1));
+        assertArrayEquals(new long[0], graph.getFriends(2));
+    }
+
+    @Test
+    public void testPutUser_KeepsFriends() {
+        FriendGraph graph = new FriendGraph();
+        graph.addFriend(1, 2);
+        graph.putUser(1, SchoolLevel.MIDDLE, 2);
+
+        assertArrayEquals(new long[]{2}, graph.getFriends(1));
+    }
+
+    @Test
+    public void testSuggest_RanksByMutualFriendsInSameCohort() {
+        FriendGraph graph = new FriendGraph();
+        for (long id = 1; id <= 6; id++) {
+            graph.putUser(id, SchoolLevel.HIGH, 1);
+        }
+        graph.putUser(7, SchoolLevel.HIGH, 2);
+
+        // 1의 친구는 2, 3
+        graph.addFriend(1, 2);
+        graph.addFriend(1, 3);
+        // 4는 2, 3 모두와 친구, 5는 2와만 친구, 7은 다른 학년
+        graph.addFriend(4, 2);
+        graph.addFriend(4, 3);
+        graph.addFriend(5, 2);
+        graph.addFriend(7, 2);
+        graph.addFriend(7, 3);
+        graph.addFriend(2, 4);
+        graph.addFriend(2, 5);
+        graph.addFriend(2, 7);
+        graph.addFriend(3, 4);
+        graph.addFriend(3, 7);
+        // 이미 친구인 3은 후보에서 빠집니다.
+        graph.addFriend(2, 3);
+        graph.addFriend(2, 1);
+
+        List<FriendGraph.Suggestion> suggestions = graph.suggest(1, 10);
+
+        assertEquals(List.of(new FriendGraph.Suggestion(4, 2), new FriendGraph.Suggestion(5, 1)), suggestions);
+        assertEquals(List.of(new FriendGraph.Suggestion(4, 2)), graph.suggest(1, 1));
+        assertEquals(2, graph.countMutualFriends(1, 4));
+    }
+
+    @Test
+    public void testSuggest_UnknownUserOrNoFriends() {
+        FriendGraph graph = new FriendGraph();
+        graph.putUser(1, SchoolLevel.HIGH, 1);
+
+        assertTrue(graph.suggest(1, 10).isEmpty());
+        assertTrue(graph.suggest(99, 10).isEmpty());
+    }
+}
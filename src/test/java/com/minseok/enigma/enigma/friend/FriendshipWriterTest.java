@@ -0,0 +1,81 @@
+package com.minseok.enigma.enigma.friend;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * user_friends 단건/배치 SQL을 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class FriendshipWriterTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private FriendshipWriter friendshipWriter;
+
+    @BeforeEach
+    public void setup() {
+        for (long id = 1; id <= 4; id++) {
+            jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                    "VALUES (?, ?, 'password', ?, 'HIGH', 1)", id, "user" + id, "user" + id + "@example.com");
+        }
+        friendshipWriter = new FriendshipWriter(jdbcTemplate);
+    }
+
+    @Test
+    public void testAdd_IsReciprocalAndIdempotent() {
+        assertTrue(friendshipWriter.add(1L, 2L));
+        assertFalse(friendshipWriter.add(1L, 2L));
+        assertFalse(friendshipWriter.add(2L, 1L));
+
+        assertEquals(List.of("1-2", "2-1"), edges());
+    }
+
+    @Test
+    public void testAddAll_SkipsExistingRows() {
+        friendshipWriter.add(1L, 3L);
+
+        List<Long> added = friendshipWriter.addAll(1L, List.of(2L, 3L, 4L));
+
+        assertEquals(List.of(2L, 4L), added);
+        assertEquals(List.of("1-2", "1-3", "1-4", "2-1", "3-1", "4-1"), edges());
+    }
+
+    @Test
+    public void testAddAll_RowInsertedConcurrentlyDoesNotAbortBatch() {
+        // 다른 요청이 한 방향의 행을 먼저 넣은 경우에도 나머지 행은 모두 추가됩니다.
+        jdbcTemplate.update("INSERT INTO user_friends (user_id, friend_id) VALUES (3, 1)");
+
+        List<Long> added = friendshipWriter.addAll(1L, List.of(2L, 3L, 4L));
+
+        assertEquals(List.of(2L, 3L, 4L), added);
+        assertEquals(List.of("1-2", "1-3", "1-4", "2-1", "3-1", "4-1"), edges());
+    }
+
+    @Test
+    public void testRemove_DeletesBothDirections() {
+        friendshipWriter.addAll(1L, List.of(2L, 3L));
+
+        assertEquals(2, friendshipWriter.remove(2L, 1L));
+        assertEquals(0, friendshipWriter.remove(2L, 1L));
+
+        assertEquals(List.of("1-3", "3-1"), edges());
+    }
+
+    private List<String> edges() {
+        return jdbcTemplate.queryForList(
+                "SELECT CONCAT(user_id, '-', friend_id) FROM user_friends ORDER BY user_id, friend_id", String.class);
+    }
+}
@@ -0,0 +1,64 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.entity.Status;
+import com.minseok.enigma.enigma.repository.projection.CommentView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글별 최신 댓글 미리보기 쿼리(ROW_NUMBER 윈도 함수)를 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class CommentPreviewQueryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, user_id, view_count, created_at, status, school_level) " +
+                    "VALUES (?, ?, 'content', 1, 0, ?, 'ACTIVE', 'HIGH')", i, "title" + i, Timestamp.valueOf(BASE));
+        }
+        // 게시글 1: 댓글 5개(하나는 삭제됨), 게시글 2: 댓글 1개, 게시글 3: 댓글 없음
+        for (int i = 1; i <= 5; i++) {
+            insertComment(i, 1, BASE.plusMinutes(i), i == 5 ? "DELETED" : "ACTIVE");
+        }
+        insertComment(6, 2, BASE.plusMinutes(1), "ACTIVE");
+    }
+
+    private void insertComment(long id, long postId, LocalDateTime createdAt, String status) {
+        jdbcTemplate.update("INSERT INTO comments (id, user_id, post_id, content, created_at, status, school_level) " +
+                "VALUES (?, 1, ?, ?, ?, ?, 'HIGH')", id, postId, "comment" + id, Timestamp.valueOf(createdAt), status);
+    }
+
+    @Test
+    public void testFindLatestViewsByPostIds_ReturnsTopNPerPost() {
+        List<CommentView> views = commentRepository.findLatestViewsByPostIds(List.of(1L, 2L, 3L), Status.ACTIVE, 3);
+
+        assertEquals(List.of(4L, 3L, 2L, 6L), views.stream().map(CommentView::id).toList());
+        assertEquals("user1", views.get(0).userName());
+        assertEquals(1L, views.get(0).postId());
+        assertEquals(BASE.plusMinutes(4), views.get(0).createdAt());
+    }
+}
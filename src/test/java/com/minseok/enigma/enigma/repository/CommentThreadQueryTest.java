@@ -0,0 +1,88 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.entity.Comment;
+import com.minseok.enigma.enigma.entity.Status;
+import com.minseok.enigma.enigma.repository.projection.CommentThreadView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 경로 기반 댓글 스레드 조회 쿼리를 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class CommentThreadQueryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, user_id, view_count, created_at, status, school_level) " +
+                "VALUES (1, 'title', 'content', 1, 0, ?, 'ACTIVE', 'HIGH')", Timestamp.valueOf(BASE));
+        // 1 ─ 3 ─ 4
+        //   ├ 5
+        //   └ 6 (삭제됨)
+        // 2
+        insertComment(1, null, "ACTIVE");
+        insertComment(2, null, "ACTIVE");
+        insertComment(3, 1L, "ACTIVE");
+        insertComment(4, 3L, "ACTIVE");
+        insertComment(5, 1L, "ACTIVE");
+        insertComment(6, 1L, "DELETED");
+    }
+
+    private void insertComment(long id, Long parentId, String status) {
+        String parentPath = parentId == null ? ""
+                : jdbcTemplate.queryForObject("SELECT path FROM comments WHERE id = ?", String.class, parentId);
+        int depth = parentPath.length() / Comment.PATH_SEGMENT_LENGTH;
+        jdbcTemplate.update("INSERT INTO comments (id, user_id, post_id, parent_id, path, depth, content, created_at, status, school_level) " +
+                        "VALUES (?, 1, 1, ?, ?, ?, ?, ?, ?, 'HIGH')",
+                id, parentId, parentPath + Comment.pathSegment(id), depth, "comment" + id,
+                Timestamp.valueOf(BASE.plusMinutes(id)), status);
+    }
+
+    @Test
+    public void testFindThreadViews_WholeThreadInDisplayOrder() {
+        List<CommentThreadView> views = commentRepository.findThreadViews(1L, Status.ACTIVE, "%", "", PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L, 3L, 4L, 5L, 2L), views.stream().map(CommentThreadView::id).toList());
+        assertEquals(List.of(0, 1, 2, 1, 0), views.stream().map(CommentThreadView::depth).toList());
+        assertNull(views.get(0).parentId());
+        assertEquals(3L, views.get(2).parentId());
+        assertEquals("user1", views.get(0).userName());
+    }
+
+    @Test
+    public void testFindThreadViews_SubtreeWithCursor() {
+        String rootPath = Comment.pathSegment(1L);
+
+        List<CommentThreadView> first = commentRepository.findThreadViews(1L, Status.ACTIVE, rootPath + "%", rootPath,
+                PageRequest.of(0, 2));
+        assertEquals(List.of(3L, 4L), first.stream().map(CommentThreadView::id).toList());
+
+        List<CommentThreadView> next = commentRepository.findThreadViews(1L, Status.ACTIVE, rootPath + "%",
+                first.get(1).path(), PageRequest.of(0, 2));
+        assertEquals(List.of(5L), next.stream().map(CommentThreadView::id).toList());
+    }
+}
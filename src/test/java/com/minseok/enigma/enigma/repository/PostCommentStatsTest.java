@@ -0,0 +1,102 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.service.PostCommentStatsReconciler;
+import com.minseok.enigma.enigma.service.PostCommentStatsWriter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 게시글의 비정규화된 댓글 통계(comment_count, last_comment_at)를 갱신하는 쿼리를 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class PostCommentStatsTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update("INSERT INTO posts (id, title, content, user_id, view_count, created_at, status, school_level) " +
+                    "VALUES (?, ?, 'content', 1, 0, ?, 'ACTIVE', 'HIGH')", i, "title" + i, Timestamp.valueOf(BASE));
+        }
+    }
+
+    private void insertComment(long id, long postId, LocalDateTime createdAt, String status) {
+        jdbcTemplate.update("INSERT INTO comments (id, user_id, post_id, content, created_at, status, school_level) " +
+                "VALUES (?, 1, ?, 'comment', ?, ?, 'HIGH')", id, postId, Timestamp.valueOf(createdAt), status);
+    }
+
+    private int commentCount(long postId) {
+        return jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = ?", Integer.class, postId);
+    }
+
+    private LocalDateTime lastCommentAt(long postId) {
+        Timestamp value = jdbcTemplate.queryForObject("SELECT last_comment_at FROM posts WHERE id = ?", Timestamp.class, postId);
+        return value == null ? null : value.toLocalDateTime();
+    }
+
+    @Test
+    public void testIncrementAndDecrementCommentCount() {
+        PostCommentStatsWriter statsWriter = new PostCommentStatsWriter(jdbcTemplate);
+        insertComment(1, 1, BASE.plusMinutes(1), "ACTIVE");
+        statsWriter.add(1L, BASE.plusMinutes(1));
+        insertComment(2, 1, BASE.plusMinutes(2), "ACTIVE");
+        statsWriter.add(1L, BASE.plusMinutes(2));
+
+        assertEquals(2, commentCount(1));
+        assertEquals(BASE.plusMinutes(2), lastCommentAt(1));
+
+        jdbcTemplate.update("UPDATE comments SET status = 'DELETED' WHERE id = 2");
+        postRepository.decrementCommentCount(1L);
+
+        assertEquals(1, commentCount(1));
+        assertEquals(BASE.plusMinutes(1), lastCommentAt(1));
+    }
+
+    @Test
+    public void testReconcile_FixesDriftedPostsOnly() {
+        insertComment(1, 1, BASE.plusMinutes(1), "ACTIVE");
+        insertComment(2, 1, BASE.plusMinutes(2), "DELETED");
+        insertComment(3, 3, BASE.plusMinutes(3), "ACTIVE");
+        jdbcTemplate.update("UPDATE posts SET comment_count = 1, last_comment_at = ? WHERE id = 1",
+                Timestamp.valueOf(BASE.plusMinutes(1)));
+        jdbcTemplate.update("UPDATE posts SET comment_count = 5 WHERE id = 2");
+
+        PostCommentStatsReconciler reconciler =
+                new PostCommentStatsReconciler(jdbcTemplate, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(reconciler, "chunkSize", 2);
+
+        assertEquals(2, reconciler.reconcile());
+        assertEquals(1, commentCount(1));
+        assertEquals(0, commentCount(2));
+        assertNull(lastCommentAt(2));
+        assertEquals(1, commentCount(3));
+        assertEquals(BASE.plusMinutes(3), lastCommentAt(3));
+    }
+}
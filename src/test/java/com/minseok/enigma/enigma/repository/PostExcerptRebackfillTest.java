@@ -0,0 +1,68 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.util.ExcerptUtil;
+import db.migration.V13__Rebackfill_post_excerpts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * V5에서 SUBSTRING으로 채운 게시글 요약을 다시 만드는 마이그레이션을 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class PostExcerptRebackfillTest {
+
+    private static final String LONG_CONTENT = "가".repeat(150);
+    private static final String MULTILINE_CONTENT = "  첫 줄\n\n   둘째 줄  ";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+        insertPost(1, LONG_CONTENT, LONG_CONTENT.substring(0, 100));
+        insertPost(2, MULTILINE_CONTENT, MULTILINE_CONTENT);
+        insertPost(3, "짧은 본문", "짧은 본문");
+    }
+
+    private void insertPost(long id, String content, String excerpt) {
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, excerpt, user_id, view_count, status, school_level) " +
+                "VALUES (?, 'title', ?, ?, 1, 0, 'ACTIVE', 'HIGH')", id, content, excerpt);
+    }
+
+    private String excerpt(long id) {
+        return jdbcTemplate.queryForObject("SELECT excerpt FROM posts WHERE id = ?", String.class, id);
+    }
+
+    @Test
+    public void testRebackfill_MatchesExcerptUtilAndSkipsUpToDateRows() {
+        int updated = V13__Rebackfill_post_excerpts.rebackfill(jdbcTemplate, "posts");
+
+        assertEquals(2, updated);
+        assertEquals(ExcerptUtil.of(LONG_CONTENT), excerpt(1));
+        assertEquals("첫 줄 둘째 줄", excerpt(2));
+        assertEquals("짧은 본문", excerpt(3));
+    }
+
+    @Test
+    public void testRebackfill_WalksPastBatchSize() {
+        for (long id = 4; id <= V13__Rebackfill_post_excerpts.BATCH_SIZE + 10; id++) {
+            insertPost(id, MULTILINE_CONTENT, MULTILINE_CONTENT);
+        }
+
+        V13__Rebackfill_post_excerpts.rebackfill(jdbcTemplate, "posts");
+
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM posts WHERE content = ? AND excerpt <> '첫 줄 둘째 줄'", Integer.class, MULTILINE_CONTENT));
+    }
+}
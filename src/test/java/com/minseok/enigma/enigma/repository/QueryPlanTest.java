@@ -0,0 +1,246 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 마이그레이션으로 만든 스키마에서 자주 실행되는 Repository 쿼리의 실행 계획을 검증합니다.<p>
+ * Repository 메서드를 실제로 호출하면서 Hibernate가 만들어 보내는 SQL을 {@link StatementInspector}로 가로채고,
+ * 그 SQL 그대로(엔티티의 {@code @SQLRestriction} 조건 포함) H2의 EXPLAIN 결과가 기대한 인덱스를 사용하며
+ * 전체 테이블 스캔으로 떨어지지 않는지 확인합니다. 따라서 JPQL이 바뀌면 검사하는 SQL도 함께 바뀝니다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "com.minseok.enigma.enigma.repository.QueryPlanTest$CapturingStatementInspector")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class QueryPlanTest {
+
+    private static final String[] SCHOOL_LEVELS = {"ELEMENTARY", "MIDDLE", "HIGH"};
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Hibernate가 실행하는 SQL을 기록합니다. 설정 값으로 클래스 이름을 넘기면 Hibernate가 직접 생성하므로 정적 목록에 모읍니다.
+     */
+    public static class CapturingStatementInspector implements StatementInspector {
+
+        private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    public void setup() {
+        // 캐시에서 응답한 조회는 SQL을 실행하지 않으므로, 이전 테스트가 채운 2차 캐시와 쿼리 캐시를 비웁니다.
+        entityManagerFactory.unwrap(SessionFactory.class).getCache().evictAllRegions();
+
+        List<Object[]> users = new ArrayList<>();
+        for (int i = 1; i <= 30; i++) {
+            users.add(new Object[]{i, "user" + i, "password", "user" + i + "@example.com", SCHOOL_LEVELS[i % 3], i % 6 + 1});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO users (id, user_name, password, email, school_level, grade) VALUES (?, ?, ?, ?, ?, ?)", users);
+
+        List<Object[]> categories = new ArrayList<>();
+        for (int i = 1; i <= 6; i++) {
+            categories.add(new Object[]{i, "code" + i, "category" + i, true, SCHOOL_LEVELS[i % 3]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO categories (id, code, name, is_active, school_level) VALUES (?, ?, ?, ?, ?)", categories);
+
+        List<Object[]> posts = new ArrayList<>();
+        for (int i = 1; i <= 300; i++) {
+            posts.add(new Object[]{i, "title" + i, "content" + i, i % 30 + 1, 0, Timestamp.valueOf(BASE.plusMinutes(i)),
+                    i % 10 == 0 ? "DELETED" : "ACTIVE", i % 6 + 1, SCHOOL_LEVELS[i % 3]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO posts (id, title, content, user_id, view_count, created_at, status, category_id, school_level) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", posts);
+
+        List<Object[]> comments = new ArrayList<>();
+        for (int i = 1; i <= 600; i++) {
+            comments.add(new Object[]{i, i % 30 + 1, i % 300 + 1, "comment" + i, Timestamp.valueOf(BASE.plusMinutes(i)),
+                    "ACTIVE", SCHOOL_LEVELS[i % 3]});
+        }
+        jdbcTemplate.batchUpdate("INSERT INTO comments (id, user_id, post_id, content, created_at, status, school_level) " +
+                "VALUES (?, ?, ?, ?, ?, ?, ?)", comments);
+
+        jdbcTemplate.execute("ANALYZE");
+    }
+
+    /**
+     * Repository 호출이 실행한 첫 번째 SELECT의 실행 계획을 조회합니다.<p>
+     * 바인딩 값 없이 SQL 그대로 EXPLAIN하므로, 값과 관계없이 준비 시점에 정해지는 실행 계획을 검사합니다.
+     *
+     * @param call 검사할 Repository 호출
+     * @return 소문자로 변환한 실행 계획
+     */
+    private String explain(Runnable call) {
+        CapturingStatementInspector.STATEMENTS.clear();
+        call.run();
+        String sql = CapturingStatementInspector.STATEMENTS.stream()
+                .filter(statement -> statement.stripLeading().toLowerCase(Locale.ROOT).startsWith("select"))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("실행된 SELECT가 없습니다: " + CapturingStatementInspector.STATEMENTS));
+        return jdbcTemplate.query(connection -> connection.prepareStatement("EXPLAIN " + sql), (ResultSet rs) -> {
+            assertTrue(rs.next());
+            return rs.getString(1);
+        }).toLowerCase(Locale.ROOT);
+    }
+
+    private void assertUsesIndex(String plan, String indexName) {
+        assertFalse(plan.contains("tablescan"), "전체 테이블 스캔이 발생했습니다: " + plan);
+        assertTrue(plan.contains(indexName), indexName + " 인덱스를 사용하지 않았습니다: " + plan);
+    }
+
+    @Test
+    public void testFeedFirstPage_UsesFeedIndex() {
+        String plan = explain(() -> postRepository.findFeed(SchoolLevel.HIGH, Status.ACTIVE, PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_posts_school_level_status_created_at");
+    }
+
+    @Test
+    public void testFeedAfterCursor_UsesFeedIndex() {
+        String plan = explain(() -> postRepository.findFeedAfter(SchoolLevel.HIGH, Status.ACTIVE,
+                BASE.plusMinutes(150), 150L, PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_posts_school_level_status_created_at");
+    }
+
+    @Test
+    public void testPostsByAuthor_UsesAuthorIndex() {
+        String plan = explain(() -> postRepository.findByAuthorId(1L, Status.ACTIVE));
+
+        assertUsesIndex(plan, "idx_posts_user_id_status");
+    }
+
+    @Test
+    public void testPostsByCategory_UsesCategoryIndex() {
+        String plan = explain(() -> postRepository.findByPostCategoryId(1L, Status.ACTIVE));
+
+        assertUsesIndex(plan, "idx_posts_category_id_status");
+    }
+
+    @Test
+    public void testPostViewsByIds_UsePrimaryKey() {
+        String plan = explain(() -> postRepository.findViewsByIdIn(List.of(1L, 2L, 3L)));
+
+        assertUsesIndex(plan, "primary_key");
+    }
+
+    @Test
+    public void testCommentsByPost_UsesCommentIndex() {
+        String plan = explain(() -> commentRepository.findViewsByPostId(1L, Status.ACTIVE, PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_comments_post_id_status_created_at_id");
+    }
+
+    @Test
+    public void testCommentsSinceCursor_UsesCommentIndex() {
+        String plan = explain(() -> commentRepository.findViewsByPostIdSince(1L, Status.ACTIVE,
+                BASE.plusMinutes(300), PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_comments_post_id_status_created_at_id");
+    }
+
+    @Test
+    public void testLatestCommentsBeforeCursor_UsesCommentIndex() {
+        String plan = explain(() -> commentRepository.findLatestViewsByPostIdBefore(1L, Status.ACTIVE,
+                BASE.plusMinutes(300), 300L, PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_comments_post_id_status_created_at_id");
+    }
+
+    @Test
+    public void testLatestCommentsByPosts_UsesCommentIndex() {
+        String plan = explain(() -> commentRepository.findLatestViewsByPostIds(List.of(1L, 2L, 3L), Status.ACTIVE, 3L));
+
+        assertUsesIndex(plan, "idx_comments_post_id_status_created_at_id");
+    }
+
+    @Test
+    public void testCommentThread_UsesPathIndex() {
+        String plan = explain(() -> commentRepository.findThreadViews(1L, Status.ACTIVE, "%", "", PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_comments_post_id_status_path");
+    }
+
+    @Test
+    public void testUsersBySchoolLevelAndGrade_UsesDirectoryIndex() {
+        String plan = explain(() -> userRepository.findViewsBySchoolLevelAndGrade(SchoolLevel.HIGH, 2));
+
+        assertUsesIndex(plan, "idx_users_school_level_grade_id");
+    }
+
+    @Test
+    public void testUserDirectoryAfterCursor_UsesDirectoryIndex() {
+        String plan = explain(() -> userRepository.findDirectory(SchoolLevel.HIGH, 2, 10L, PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_users_school_level_grade_id");
+    }
+
+    @Test
+    public void testUserDirectoryByUserNamePrefix_UsesUserNameIndex() {
+        String plan = explain(() -> userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "user%",
+                "user1", 1L, PageRequest.of(0, 21)));
+
+        assertUsesIndex(plan, "idx_users_school_level_grade_user_name_id");
+    }
+
+    @Test
+    public void testUserLookups_UseUniqueIndexes() {
+        assertUsesIndex(explain(() -> userRepository.findByUserName("user1")), "uk_users_user_name");
+        assertUsesIndex(explain(() -> userRepository.findByEmail("user1@example.com")), "uk_users_email");
+    }
+
+    @Test
+    public void testUserViewsByIds_UsePrimaryKey() {
+        String plan = explain(() -> userRepository.findViewsByIdIn(List.of(1L, 2L, 3L)));
+
+        assertUsesIndex(plan, "primary_key");
+    }
+
+    @Test
+    public void testFriendsByUser_UsesPrimaryKey() {
+        String plan = explain(() -> userRepository.findFriendViewsByUserId(1L));
+
+        assertFalse(plan.contains("user_friends.tablescan"), "전체 테이블 스캔이 발생했습니다: " + plan);
+    }
+}
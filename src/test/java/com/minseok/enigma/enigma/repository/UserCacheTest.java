@@ -0,0 +1,110 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.availability.UserAvailabilityService;
+import com.minseok.enigma.enigma.dto.request.user.UserUpdateRequest;
+import com.minseok.enigma.enigma.entity.User;
+import com.minseok.enigma.enigma.friend.FriendGraphIndex;
+import com.minseok.enigma.enigma.friend.FriendshipWriter;
+import com.minseok.enigma.enigma.service.UserService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * User 엔티티와 사용자 조회 쿼리의 2차 캐시 동작을 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Import(UserService.class)
+public class UserCacheTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserService userService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private FriendGraphIndex friendGraphIndex;
+
+    @MockBean
+    private FriendshipWriter friendshipWriter;
+
+    @MockBean
+    private UserAvailabilityService userAvailabilityService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        // 테스트 트랜잭션은 롤백되므로 이전 테스트가 캐시에 남긴 행을 비웁니다.
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+    }
+
+    @Test
+    public void testFindById_HitsSecondLevelCache() {
+        userRepository.findById(1L).orElseThrow();
+        entityManager.clear();
+        userRepository.findById(1L).orElseThrow();
+
+        assertEquals(1, statistics.getSecondLevelCacheHitCount());
+        assertTrue(entityManagerFactory.getCache().contains(User.class, 1L));
+    }
+
+    @Test
+    public void testFindByUserName_HitsQueryCache() {
+        userRepository.findByUserName("user1").orElseThrow();
+        entityManager.clear();
+        userRepository.findByUserName("user1").orElseThrow();
+
+        assertEquals(1, statistics.getQueryCacheHitCount());
+    }
+
+    @Test
+    public void testUpdateUser_DoesNotServeStaleEntries() {
+        userRepository.findById(1L).orElseThrow();
+        userRepository.findViewById(1L).orElseThrow();
+        entityManager.clear();
+
+        UserUpdateRequest request = new UserUpdateRequest();
+        request.setSchoolLevel("HIGH");
+        request.setGrade(3);
+        userService.updateUser(1L, request);
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(3, userRepository.findById(1L).orElseThrow().getGrade());
+        assertEquals(3, userRepository.findViewById(1L).orElseThrow().grade());
+    }
+}
@@ -0,0 +1,79 @@
+package com.minseok.enigma.enigma.repository;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.repository.projection.UserView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 학년별 사용자 목록 커서 조회 쿼리를 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class UserDirectoryQueryTest {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    public void setup() {
+        insertUser(1, "kim", "HIGH", 2);
+        insertUser(2, "kim_a", "HIGH", 2);
+        insertUser(3, "kimxa", "HIGH", 2);
+        insertUser(4, "lee", "HIGH", 2);
+        insertUser(5, "kimb", "HIGH", 2);
+        insertUser(6, "kimc", "HIGH", 1);
+        insertUser(7, "kimd", "MIDDLE", 2);
+    }
+
+    private void insertUser(long id, String userName, String schoolLevel, int grade) {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (?, ?, 'password', ?, ?, ?)", id, userName, userName + "@example.com", schoolLevel, grade);
+    }
+
+    @Test
+    public void testFindDirectory_PagesByIdWithinCohort() {
+        List<UserView> first = userRepository.findDirectory(SchoolLevel.HIGH, 2, 0L, PageRequest.of(0, 3));
+        List<UserView> second = userRepository.findDirectory(SchoolLevel.HIGH, 2, 3L, PageRequest.of(0, 3));
+
+        assertEquals(List.of(1L, 2L, 3L), first.stream().map(UserView::id).toList());
+        assertEquals(List.of(4L, 5L), second.stream().map(UserView::id).toList());
+    }
+
+    @Test
+    public void testFindDirectoryByUserNamePrefix_MatchesPrefixOnlyInUserNameOrder() {
+        List<UserView> users = userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "kim%", "", 0L, PageRequest.of(0, 10));
+
+        assertEquals(List.of(1L, 2L, 5L, 3L), users.stream().map(UserView::id).toList());
+    }
+
+    @Test
+    public void testFindDirectoryByUserNamePrefix_PagesAfterUserNameAndIdCursor() {
+        List<UserView> first = userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "kim%", "", 0L, PageRequest.of(0, 2));
+        List<UserView> second = userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "kim%", "kim_a", 2L, PageRequest.of(0, 2));
+
+        assertEquals(List.of(1L, 2L), first.stream().map(UserView::id).toList());
+        assertEquals(List.of(5L, 3L), second.stream().map(UserView::id).toList());
+    }
+
+    @Test
+    public void testFindDirectoryByUserNamePrefix_EscapedUnderscoreIsLiteral() {
+        List<UserView> users = userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "kim!_%", "", 0L, PageRequest.of(0, 10));
+
+        assertEquals(List.of(2L), users.stream().map(UserView::id).toList());
+    }
+}
@@ -0,0 +1,116 @@
+package com.minseok.enigma.enigma.search;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InvertedIndexTest {
+
+    @Test
+    public void testTokenize_HangulBigrams() {
+        Set<String> terms = BigramTokenizer.tokenize("오늘 급식, 밥!");
+
+        assertEquals(Set.of("오늘", "급식", "밥"), terms);
+        assertEquals(Set.of("수행", "행평", "평가"), BigramTokenizer.tokenize("수행평가"));
+        assertTrue(BigramTokenizer.tokenize("  ").isEmpty());
+    }
+
+    @Test
+    public void testPostingsList_CompressesAndKeepsOrder() {
+        PostingsList postings = new PostingsList();
+        postings.add(3);
+        postings.add(1000);
+        postings.add(1);
+        postings.add(1000);
+        postings.add(500);
+
+        assertArrayEquals(new long[]{1, 3, 500, 1000}, postings.toArray());
+        assertEquals(4, postings.size());
+    }
+
+    @Test
+    public void testPostingsList_OutOfOrderIdsAreMergedOnReadAndCompacted() throws IOException {
+        PostingsList postings = new PostingsList();
+        int count = PostingsList.MAX_PENDING * 3;
+        // 블록 단위로 할당된 ID가 커밋 순서와 다르게 들어오는 경우입니다.
+        postings.add(count * 2L);
+        for (int i = count - 1; i >= 1; i--) {
+            postings.add(i * 2L);
+            postings.add(i * 2L);
+        }
+
+        long[] expected = new long[count];
+        for (int i = 0; i < count; i++) {
+            expected[i] = (i + 1) * 2L;
+        }
+        assertArrayEquals(expected, postings.toArray());
+        assertEquals(count, postings.size());
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        postings.writeTo(new DataOutputStream(bytes));
+        PostingsList restored = PostingsList.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+        assertArrayEquals(expected, restored.toArray());
+    }
+
+    @Test
+    public void testSearch_MatchesAllTermsNewestFirst() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, "오늘 급식 메뉴", "카레라이스");
+        index.add(2, "수행평가 질문", "급식 먹고 나서 제출하나요?");
+        index.add(3, "내일 급식", "급식 메뉴 아시는 분");
+
+        assertArrayEquals(new long[]{3, 1}, index.search("급식 메뉴", Long.MAX_VALUE, 10));
+        assertArrayEquals(new long[]{3, 2, 1}, index.search("급식", Long.MAX_VALUE, 10));
+        assertArrayEquals(new long[]{2, 1}, index.search("급식", 3, 10));
+        assertArrayEquals(new long[]{3}, index.search("급식", Long.MAX_VALUE, 1));
+        assertEquals(0, index.search("체육대회", Long.MAX_VALUE, 10).length);
+    }
+
+    @Test
+    public void testSearch_SingleCharacterQuery() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, "급식 메뉴");
+        index.add(2, "수행평가");
+        index.add(3, "식단표", "급식");
+
+        assertArrayEquals(new long[]{3, 1}, index.search("식", Long.MAX_VALUE, 10));
+        assertArrayEquals(new long[]{3}, index.search("식 단", Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    public void testRemove_ExcludesDeletedPosts() {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, "오늘 급식");
+        index.add(2, "내일 급식");
+
+        index.remove(2);
+
+        assertArrayEquals(new long[]{1}, index.search("급식", Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    public void testSnapshot_RoundTrip() throws IOException {
+        InvertedIndex index = new InvertedIndex();
+        index.add(1, "오늘 급식");
+        index.add(2, "내일 급식");
+        index.add(7, "수행평가");
+        index.remove(2);
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        index.writeTo(new DataOutputStream(bytes));
+        InvertedIndex restored = InvertedIndex.readFrom(new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(7, restored.getMaxId());
+        assertEquals(index.getTermCount(), restored.getTermCount());
+        assertArrayEquals(new long[]{1}, restored.search("급식", Long.MAX_VALUE, 10));
+        assertArrayEquals(new long[]{7}, restored.search("평가", Long.MAX_VALUE, 10));
+        assertArrayEquals(new long[]{1}, restored.search("식", Long.MAX_VALUE, 10));
+    }
+}
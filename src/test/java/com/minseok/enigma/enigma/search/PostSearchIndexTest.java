@@ -0,0 +1,83 @@
+package com.minseok.enigma.enigma.search;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class PostSearchIndexTest {
+
+    @TempDir
+    private Path tempDir;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private PostSearchIndex postSearchIndex;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(postSearchIndex, "snapshotPath", tempDir.resolve("post-search.snapshot").toString());
+    }
+
+    @Test
+    public void testRebuild_KeepsChangesAppliedDuringLoad() {
+        postSearchIndex.index(1L, SchoolLevel.HIGH, "오늘 급식", "");
+        // 재색인이 DB를 읽는 도중 커밋된 작성/삭제는 읽은 결과에 없으므로 새 색인에 다시 적용되어야 합니다.
+        doAnswer(invocation -> {
+            postSearchIndex.index(2L, SchoolLevel.HIGH, "오늘 급식", "");
+            postSearchIndex.remove(1L, SchoolLevel.HIGH);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+
+        postSearchIndex.rebuild();
+
+        assertArrayEquals(new long[]{2L}, postSearchIndex.search(SchoolLevel.HIGH, "급식", Long.MAX_VALUE, 10));
+    }
+
+    @Test
+    public void testLoadSnapshot_CatchesUpFromHighWaterMarkWithOverlap() throws IOException {
+        when(jdbcTemplate.queryForObject(anyString(), eq(Timestamp.class)))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.of(2024, 8, 1, 12, 0)));
+        postSearchIndex.index(1L, SchoolLevel.HIGH, "오늘 급식", "");
+        postSearchIndex.index(2L, SchoolLevel.HIGH, "내일 급식", "");
+        postSearchIndex.saveSnapshot();
+
+        PostSearchIndex restored = new PostSearchIndex(jdbcTemplate);
+        ReflectionTestUtils.setField(restored, "snapshotPath", tempDir.resolve("post-search.snapshot").toString());
+        ReflectionTestUtils.setField(restored, "catchUpOverlapMs", 60_000L);
+        // 스냅샷 이후 삭제된 게시글은 기준 시각보다 겹침 구간만큼 앞에서부터 다시 읽어 반영합니다.
+        doAnswer(invocation -> {
+            restored.remove(2L, SchoolLevel.HIGH);
+            return null;
+        }).when(jdbcTemplate).query(contains("status = 'DELETED'"), any(RowCallbackHandler.class), any(Object[].class));
+
+        assertTrue(restored.loadSnapshot());
+
+        verify(jdbcTemplate).query(contains("status = 'DELETED'"), any(RowCallbackHandler.class),
+                eq(Timestamp.valueOf(LocalDateTime.of(2024, 8, 1, 11, 59))));
+        verify(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        assertArrayEquals(new long[]{1L}, restored.search(SchoolLevel.HIGH, "급식", Long.MAX_VALUE, 10));
+    }
+}
@@ -1,7 +1,9 @@
 package com.minseok.enigma.enigma.service;
 
+import com.minseok.enigma.enigma.availability.UserAvailabilityService;
 import com.minseok.enigma.enigma.dto.request.auth.LoginRequest;
 import com.minseok.enigma.enigma.dto.request.auth.SignupRequest;
+import com.minseok.enigma.enigma.dto.response.auth.AvailabilityResponse;
 import com.minseok.enigma.enigma.dto.response.auth.LoginResponse;
 import com.minseok.enigma.enigma.entity.SchoolLevel;
 import com.minseok.enigma.enigma.entity.User;
@@ -9,13 +11,17 @@ import com.minseok.enigma.enigma.repository.UserRepository;
 import com.minseok.enigma.enigma.security.JwtTokenProvider;
 import com.minseok.enigma.enigma.exception.CustomException;
 import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.friend.FriendGraphIndex;
+import org.hibernate.exception.ConstraintViolationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.sql.SQLException;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -33,6 +39,12 @@ public class AuthServiceTest {
     @Mock
     private JwtTokenProvider jwtTokenProvider;
 
+    @Mock
+    private FriendGraphIndex friendGraphIndex;
+
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+
     @InjectMocks
     private AuthService authService;
 
@@ -51,12 +63,12 @@ public class AuthServiceTest {
                 .grade(1)
                 .build();
 
-        when(userRepository.existsByUserName(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-
         authService.signup(request);
 
-        verify(userRepository, times(1)).save(any(User.class));
+        verify(userRepository, times(1)).saveAndFlush(any(User.class));
+        verify(userRepository, never()).existsByUserName(anyString());
+        verify(userRepository, never()).existsByEmail(anyString());
+        verify(userAvailabilityService, times(1)).register("testUser", "test@example.com");
     }
 
     @Test
@@ -69,7 +81,7 @@ public class AuthServiceTest {
                 .grade(1)
                 .build();
 
-        when(userRepository.existsByUserName(anyString())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("PUBLIC.UK_USERS_USER_NAME_INDEX_4"));
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             authService.signup(request);
@@ -88,8 +100,7 @@ public class AuthServiceTest {
                 .grade(1)
                 .build();
 
-        when(userRepository.existsByUserName(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("users.uk_users_email"));
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             authService.signup(request);
@@ -98,6 +109,24 @@ public class AuthServiceTest {
         assertEquals(ErrorCode.EMAIL_ALREADY_EXISTS.getMessage(), exception.getMessage());
     }
 
+    @Test
+    public void testSignup_UnknownConstraintIsRethrown() {
+        SignupRequest request = SignupRequest.builder()
+                .userName("testUser")
+                .password("Test@1234")
+                .email("test@example.com")
+                .schoolLevel("HIGH")
+                .grade(1)
+                .build();
+
+        when(userRepository.saveAndFlush(any(User.class))).thenThrow(duplicate("fk_something_else"));
+
+        assertThrows(DataIntegrityViolationException.class, () -> {
+            authService.signup(request);
+        });
+        verify(userAvailabilityService, never()).register(anyString(), anyString());
+    }
+
     @Test
     public void testSignup_InvalidPassword() {
         SignupRequest request = SignupRequest.builder()
@@ -136,9 +165,7 @@ public class AuthServiceTest {
                 .grade(1)
                 .build();
 
-        when(userRepository.existsByUserName(anyString())).thenReturn(false);
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
-        when(userRepository.save(any(User.class))).thenReturn(user);
+        when(userRepository.saveAndFlush(any(User.class))).thenReturn(user);
         when(passwordEncoder.encode(anyString())).thenReturn(encodedPassword);
 
         authService.signup(signupRequest);
@@ -180,4 +207,29 @@ public class AuthServiceTest {
 
         assertEquals(ErrorCode.INVALID_LOGIN_CREDENTIALS.getMessage(), exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testCheckAvailability_OnlyRequestedFields() {
+        when(userAvailabilityService.isUserNameTaken("testUser")).thenReturn(true);
+
+        AvailabilityResponse response = authService.checkAvailability("testUser", null);
+
+        assertFalse(response.getUserNameAvailable());
+        assertNull(response.getEmailAvailable());
+        verify(userAvailabilityService, never()).isEmailTaken(anyString());
+    }
+
+    @Test
+    public void testCheckAvailability_NothingRequested() {
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            authService.checkAvailability(" ", null);
+        });
+
+        assertEquals(ErrorCode.INVALID_AVAILABILITY_QUERY.getMessage(), exception.getMessage());
+    }
+
+    private static DataIntegrityViolationException duplicate(String constraintName) {
+        return new DataIntegrityViolationException("could not execute statement",
+                new ConstraintViolationException("could not execute statement", new SQLException("duplicate"), constraintName));
+    }
+}
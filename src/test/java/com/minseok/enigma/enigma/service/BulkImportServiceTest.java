@@ -0,0 +1,179 @@
+package com.minseok.enigma.enigma.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minseok.enigma.enigma.dto.response.common.ImportResponse;
+import com.minseok.enigma.enigma.entity.*;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.search.PostSearchIndex;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.contains;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class BulkImportServiceTest {
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private HotFeedCache hotFeedCache;
+
+    private BulkImportService bulkImportService;
+
+    private final AtomicLong ids = new AtomicLong();
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any(TransactionCallback.class)))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        doAnswer(invocation -> {
+            Object entity = invocation.getArgument(0);
+            if (entity instanceof Post post) {
+                post.setId(ids.incrementAndGet());
+            } else if (entity instanceof Comment comment) {
+                comment.setId(ids.incrementAndGet());
+                comment.setCreatedAt(LocalDateTime.of(2024, 8, 1, 12, 0).plusMinutes(comment.getId()));
+            }
+            return null;
+        }).when(entityManager).persist(any());
+
+        bulkImportService = new BulkImportService(new ObjectMapper().findAndRegisterModules(), transactionTemplate, jdbcTemplate,
+                postSearchIndex, new PostCommentStatsWriter(jdbcTemplate), hotFeedCache);
+        ReflectionTestUtils.setField(bulkImportService, "entityManager", entityManager);
+        ReflectionTestUtils.setField(bulkImportService, "chunkSize", 2);
+    }
+
+    private ByteArrayInputStream ndjson(String... lines) {
+        return new ByteArrayInputStream(String.join("\n", lines).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private String postRow(String title) {
+        return "{\"title\":\"" + title + "\",\"content\":\"본문\",\"authorId\":1,\"categoryId\":2,\"schoolLevel\":\"HIGH\"}";
+    }
+
+    @Test
+    public void testImportPosts_CommitsInChunksAndSkipsInvalidRows() {
+        ImportResponse response = bulkImportService.importPosts(ndjson(
+                postRow("첫 글"), postRow("둘째 글"), "{\"title\":\"작성자 없음\",\"categoryId\":2,\"schoolLevel\":\"HIGH\"}",
+                postRow("셋째 글")));
+
+        assertEquals(3, response.getImported());
+        assertEquals(1, response.getFailed());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(entityManager, times(3)).persist(any(Post.class));
+        verify(entityManager, times(2)).flush();
+        verify(entityManager, times(2)).clear();
+        verify(postSearchIndex).index(1L, SchoolLevel.HIGH, "첫 글", "본문");
+        verify(postSearchIndex).index(3L, SchoolLevel.HIGH, "셋째 글", "본문");
+        assertEquals(List.of(3L), response.getFailedRows());
+        verify(hotFeedCache).refreshAll();
+    }
+
+    @Test
+    public void testImportPosts_FailedChunkFallsBackToRowByRow() {
+        // "b" 행이 포함된 flush만 외래 키 위반으로 실패합니다.
+        List<Post> unflushed = new ArrayList<>();
+        doAnswer(invocation -> {
+            Post post = invocation.getArgument(0);
+            post.setId(ids.incrementAndGet());
+            unflushed.add(post);
+            return null;
+        }).when(entityManager).persist(any(Post.class));
+        doAnswer(invocation -> {
+            boolean invalid = unflushed.stream().anyMatch(post -> "b".equals(post.getTitle()));
+            unflushed.clear();
+            if (invalid) {
+                throw new DataIntegrityViolationException("fk_posts_user");
+            }
+            return null;
+        }).when(entityManager).flush();
+
+        ImportResponse response = bulkImportService.importPosts(ndjson(
+                postRow("a"), postRow("b"), postRow("c")));
+
+        assertEquals(2, response.getImported());
+        assertEquals(1, response.getFailed());
+        assertEquals(List.of(2L), response.getFailedRows());
+        verify(postSearchIndex, times(2)).index(any(), any(), anyString(), anyString());
+        verify(postSearchIndex, never()).index(any(), any(), eq("b"), anyString());
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportPosts_KeepsProvidedCreatedAt() {
+        ImportResponse response = bulkImportService.importPosts(ndjson(
+                "{\"title\":\"옛 글\",\"content\":\"본문\",\"authorId\":1,\"categoryId\":2,\"schoolLevel\":\"HIGH\"," +
+                        "\"createdAt\":\"2019-03-02T08:30:00\"}",
+                postRow("새 글")));
+
+        assertEquals(2, response.getImported());
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(contains("UPDATE posts SET created_at"), captor.capture());
+        List<Object[]> batchArgs = captor.getValue();
+        assertEquals(1, batchArgs.size());
+        assertEquals(Timestamp.valueOf(LocalDateTime.of(2019, 3, 2, 8, 30)), batchArgs.get(0)[0]);
+        assertEquals(1L, batchArgs.get(0)[1]);
+    }
+
+    @Test
+    public void testImportPosts_MalformedRowStopsImport() {
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            bulkImportService.importPosts(ndjson(postRow("a"), postRow("b"), "{\"title\": 오류"));
+        });
+
+        assertTrue(exception.getMessage().contains("3번째 행"));
+        assertEquals(ErrorCode.INVALID_IMPORT_FORMAT.getStatus(), exception.getStatus());
+        verify(entityManager, times(2)).persist(any(Post.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testImportComments_UpdatesCommentStatsPerPost() {
+        ImportResponse response = bulkImportService.importComments(ndjson(
+                "{\"postId\":10,\"userId\":1,\"content\":\"첫 댓글\",\"schoolLevel\":\"HIGH\"}",
+                "{\"postId\":10,\"userId\":2,\"content\":\"둘째 댓글\",\"schoolLevel\":\"HIGH\"}"));
+
+        assertEquals(2, response.getImported());
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), captor.capture());
+        List<Object[]> batchArgs = captor.getValue();
+        assertEquals(1, batchArgs.size());
+        assertEquals(2, batchArgs.get(0)[0]);
+        assertEquals(10L, batchArgs.get(0)[3]);
+        verify(entityManager, times(2)).getReference(eq(Post.class), eq(10L));
+    }
+}
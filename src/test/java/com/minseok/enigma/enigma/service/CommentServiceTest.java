@@ -2,25 +2,38 @@ package com.minseok.enigma.enigma.service;
 
 import com.minseok.enigma.enigma.dto.request.comment.CommentCreateRequest;
 import com.minseok.enigma.enigma.dto.response.comment.CommentResponse;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
 import com.minseok.enigma.enigma.entity.*;
 import com.minseok.enigma.enigma.exception.CustomException;
 import com.minseok.enigma.enigma.exception.ErrorCode;
 import com.minseok.enigma.enigma.repository.CommentRepository;
 import com.minseok.enigma.enigma.repository.PostRepository;
 import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.repository.projection.CommentPathView;
+import com.minseok.enigma.enigma.repository.projection.CommentThreadView;
+import com.minseok.enigma.enigma.repository.projection.CommentView;
+import com.minseok.enigma.enigma.repository.projection.UserView;
+import com.minseok.enigma.enigma.trending.TrendingPostEngine;
+import com.minseok.enigma.enigma.util.CursorUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.stream.LongStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class CommentServiceTest {
@@ -34,6 +47,18 @@ public class CommentServiceTest {
     @Mock
     private PostRepository postRepository;
 
+    @Mock
+    private TrendingPostEngine trendingPostEngine;
+
+    @Mock
+    private HotFeedCache hotFeedCache;
+
+    @Mock
+    private CommentWritePipeline commentWritePipeline;
+
+    @Mock
+    private CommentStreamHub commentStreamHub;
+
     @InjectMocks
     private CommentService commentService;
 
@@ -50,31 +75,28 @@ public class CommentServiceTest {
         request.setContent("Test Comment");
         request.setSchoolLevel(SchoolLevel.HIGH);
 
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
-        user.setSchoolLevel(SchoolLevel.HIGH);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, createdAt, createdAt);
 
-        Post post = new Post();
-        post.setId(1L);
-        post.setTitle("Test Post");
-        post.setSchoolLevel(SchoolLevel.HIGH);
-
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postRepository.findById(anyLong())).thenReturn(Optional.of(post));
-        when(commentRepository.save(any(Comment.class))).thenAnswer(invocation -> {
-            Comment savedComment = invocation.getArgument(0);
-            savedComment.setId(1L);
-            return savedComment;
-        });
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(commentWritePipeline.write(1L, 1L, null, "Test Comment", SchoolLevel.HIGH))
+                .thenReturn(new CommentWritePipeline.WrittenComment(10L, createdAt, createdAt));
 
         CommentResponse response = commentService.createComment(request);
 
         assertNotNull(response);
+        assertEquals(10L, response.getId());
         assertEquals("Test Comment", response.getContent());
         assertEquals("testUser", response.getUserName());
         assertEquals(1L, response.getPostId());
+        assertEquals(createdAt, response.getCreatedAt());
         assertEquals(SchoolLevel.HIGH.toString(), response.getSchoolLevel());
+        verify(userRepository, never()).findById(anyLong());
+        verify(postRepository, never()).findById(anyLong());
+        verify(hotFeedCache).recordComment(SchoolLevel.HIGH, 1L, createdAt);
+        verify(trendingPostEngine).recordComment(1L, SchoolLevel.HIGH);
+        verify(commentStreamHub).publish(response);
     }
 
     @Test
@@ -85,13 +107,14 @@ public class CommentServiceTest {
         request.setContent("Test Comment");
         request.setSchoolLevel(SchoolLevel.HIGH);
 
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.empty());
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             commentService.createComment(request);
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), exception.getMessage());
+        verifyNoInteractions(commentWritePipeline);
     }
 
     @Test
@@ -102,19 +125,17 @@ public class CommentServiceTest {
         request.setContent("Test Comment");
         request.setSchoolLevel(SchoolLevel.HIGH);
 
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
-        user.setSchoolLevel(SchoolLevel.HIGH);
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, null, null);
 
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.empty());
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             commentService.createComment(request);
         });
 
         assertEquals(ErrorCode.POST_NOT_FOUND.getMessage(), exception.getMessage());
+        verifyNoInteractions(commentWritePipeline);
     }
 
     @Test
@@ -125,74 +146,327 @@ public class CommentServiceTest {
         request.setContent("Test Comment");
         request.setSchoolLevel(SchoolLevel.MIDDLE);
 
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
-        user.setSchoolLevel(SchoolLevel.HIGH);
-
-        Post post = new Post();
-        post.setId(1L);
-        post.setTitle("Test Post");
-        post.setSchoolLevel(SchoolLevel.HIGH);
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, null, null);
 
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postRepository.findById(anyLong())).thenReturn(Optional.of(post));
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             commentService.createComment(request);
         });
 
         assertEquals(ErrorCode.INVALID_ACCESS.getMessage(), exception.getMessage());
+        verifyNoInteractions(commentWritePipeline);
     }
 
     @Test
-    public void testGetCommentsByPost_Success() {
+    public void testCreateComment_Reply() {
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setPostId(1L);
+        request.setUserId(1L);
+        request.setParentId(5L);
+        request.setContent("Reply");
+        request.setSchoolLevel(SchoolLevel.HIGH);
+
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, createdAt, createdAt);
+        CommentPathView parent = new CommentPathView(5L, 1L, Comment.pathSegment(5L), 0);
+
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(commentRepository.findPathViewById(5L, Status.ACTIVE)).thenReturn(Optional.of(parent));
+        when(commentWritePipeline.write(1L, 1L, parent, "Reply", SchoolLevel.HIGH))
+                .thenReturn(new CommentWritePipeline.WrittenComment(10L, createdAt, createdAt));
+
+        CommentResponse response = commentService.createComment(request);
+
+        assertEquals(10L, response.getId());
+        assertEquals(5L, response.getParentId());
+        assertEquals(1, response.getDepth());
+        assertEquals(0, response.getReplyCount());
+    }
+
+    @Test
+    public void testCreateComment_ReplyToOtherPost() {
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setPostId(1L);
+        request.setUserId(1L);
+        request.setParentId(5L);
+        request.setContent("Reply");
+        request.setSchoolLevel(SchoolLevel.HIGH);
+
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, null, null);
+
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(commentRepository.findPathViewById(5L, Status.ACTIVE))
+                .thenReturn(Optional.of(new CommentPathView(5L, 2L, Comment.pathSegment(5L), 0)));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.createComment(request);
+        });
+
+        assertEquals(ErrorCode.INVALID_REPLY.getMessage(), exception.getMessage());
+        verifyNoInteractions(commentWritePipeline);
+    }
+
+    @Test
+    public void testCreateComment_ReplyTooDeep() {
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setPostId(1L);
+        request.setUserId(1L);
+        request.setParentId(5L);
+        request.setContent("Reply");
+        request.setSchoolLevel(SchoolLevel.HIGH);
+
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, null, null);
+
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(commentRepository.findPathViewById(5L, Status.ACTIVE))
+                .thenReturn(Optional.of(new CommentPathView(5L, 1L, "", Comment.MAX_DEPTH)));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.createComment(request);
+        });
+
+        assertEquals(ErrorCode.INVALID_REPLY.getMessage(), exception.getMessage());
+        verifyNoInteractions(commentWritePipeline);
+    }
+
+    @Test
+    public void testCreateComment_PipelineBusy() {
+        CommentCreateRequest request = new CommentCreateRequest();
+        request.setPostId(1L);
+        request.setUserId(1L);
+        request.setContent("Test Comment");
+        request.setSchoolLevel(SchoolLevel.HIGH);
+
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 1, null, null);
+
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
+        when(postRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(commentWritePipeline.write(anyLong(), anyLong(), any(), any(), any()))
+                .thenThrow(new CustomException("댓글 작성 요청이 많습니다. 잠시 후 다시 시도해 주세요.", ErrorCode.COMMENT_WRITE_BUSY));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.createComment(request);
+        });
+
+        assertEquals(ErrorCode.COMMENT_WRITE_BUSY.getMessage(), exception.getMessage());
+        verifyNoInteractions(hotFeedCache, trendingPostEngine, commentStreamHub);
+    }
+
+    @Test
+    public void testDeleteComment_Success() {
         User user = new User();
         user.setId(1L);
-        user.setUserName("testUser");
-        user.setSchoolLevel(SchoolLevel.HIGH);
 
         Post post = new Post();
-        post.setId(1L);
-        post.setTitle("Test Post");
-        post.setSchoolLevel(SchoolLevel.HIGH);
-
-        Comment comment1 = Comment.builder()
-                .id(1L)
-                .content("Comment 1")
-                .user(user)
-                .post(post)
-                .schoolLevel(SchoolLevel.HIGH)
-                .status(Status.ACTIVE)
-                .build();
-
-        Comment comment2 = Comment.builder()
-                .id(2L)
-                .content("Comment 2")
-                .user(user)
-                .post(post)
-                .schoolLevel(SchoolLevel.HIGH)
-                .status(Status.ACTIVE)
-                .build();
-
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postRepository.findById(anyLong())).thenReturn(Optional.of(post));
-        when(commentRepository.findByPostAndStatus(any(Post.class), any(Status.class))).thenReturn(Arrays.asList(comment1, comment2));
-
-        List<CommentResponse> responses = commentService.getCommentsByPost(1L, 1L);
-
-        assertNotNull(responses);
+        post.setId(2L);
+
+        Comment comment = new Comment();
+        comment.setId(3L);
+        comment.setUser(user);
+        comment.setPost(post);
+        comment.setStatus(Status.ACTIVE);
+
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+
+        commentService.deleteComment(3L, 1L);
+
+        assertEquals(Status.DELETED, comment.getStatus());
+        verify(postRepository, times(1)).decrementCommentCount(2L);
+    }
+
+    @Test
+    public void testDeleteComment_Reply_DecrementsParentReplyCount() {
+        User user = new User();
+        user.setId(1L);
+
+        Post post = new Post();
+        post.setId(2L);
+
+        Comment parent = new Comment();
+        parent.setId(4L);
+
+        Comment comment = new Comment();
+        comment.setId(3L);
+        comment.setUser(user);
+        comment.setPost(post);
+        comment.setParent(parent);
+        comment.setStatus(Status.ACTIVE);
+
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+
+        commentService.deleteComment(3L, 1L);
+
+        verify(postRepository, times(1)).decrementCommentCount(2L);
+        verify(commentRepository, times(1)).decrementReplyCount(4L);
+    }
+
+    @Test
+    public void testDeleteComment_NotAuthor() {
+        User user = new User();
+        user.setId(1L);
+
+        Comment comment = new Comment();
+        comment.setId(3L);
+        comment.setUser(user);
+        comment.setStatus(Status.ACTIVE);
+
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.deleteComment(3L, 2L);
+        });
+
+        assertEquals(ErrorCode.COMMENT_ACCESS_DENIED.getMessage(), exception.getMessage());
+        assertEquals(Status.ACTIVE, comment.getStatus());
+        verify(postRepository, never()).decrementCommentCount(anyLong());
+    }
+
+    @Test
+    public void testDeleteComment_AlreadyDeleted() {
+        Comment comment = new Comment();
+        comment.setId(3L);
+        comment.setStatus(Status.DELETED);
+
+        when(commentRepository.findById(3L)).thenReturn(Optional.of(comment));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.deleteComment(3L, 1L);
+        });
+
+        assertEquals(ErrorCode.COMMENT_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testGetCommentsByPost_Success() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        CommentView comment1 = new CommentView(1L, "Comment 1", "testUser", 1L,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment2 = new CommentView(2L, "Comment 2", "testUser", 1L,
+                createdAt.plusMinutes(1), createdAt.plusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findViewsByPostId(eq(1L), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(comment1, comment2));
+
+        CursorResponse<CommentResponse> response = commentService.getCommentsByPost(1L, 1L, null, 20, false);
+
+        assertNotNull(response);
+        List<CommentResponse> responses = response.getItems();
         assertEquals(2, responses.size());
         assertEquals("Comment 1", responses.get(0).getContent());
         assertEquals("Comment 2", responses.get(1).getContent());
+        assertEquals("testUser", responses.get(0).getUserName());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    public void testGetCommentsByPost_NextPageWithCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        CommentView comment1 = new CommentView(1L, "Comment 1", "testUser", 1L,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment2 = new CommentView(2L, "Comment 2", "testUser", 1L,
+                createdAt.plusMinutes(1), createdAt.plusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment3 = new CommentView(3L, "Comment 3", "testUser", 1L,
+                createdAt.plusMinutes(2), createdAt.plusMinutes(2), Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findViewsByPostId(eq(1L), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(comment1, comment2, comment3));
+
+        CursorResponse<CommentResponse> firstPage = commentService.getCommentsByPost(1L, 1L, null, 2, false);
+
+        assertEquals(2, firstPage.getItems().size());
+        assertTrue(firstPage.isHasNext());
+        assertEquals(CursorUtil.encodeWindow(comment2.createdAt(), List.of(2L)), firstPage.getNextCursor());
+
+        when(commentRepository.findViewsByPostIdSince(eq(1L), eq(Status.ACTIVE), eq(comment2.createdAt()), any(Pageable.class)))
+                .thenReturn(List.of(comment2, comment3));
+
+        CursorResponse<CommentResponse> secondPage = commentService.getCommentsByPost(1L, 1L, firstPage.getNextCursor(), 2, false);
+
+        assertEquals(1, secondPage.getItems().size());
+        assertEquals("Comment 3", secondPage.getItems().get(0).getContent());
+        assertFalse(secondPage.isHasNext());
+    }
+
+    @Test
+    public void testGetCommentsByPost_NewestFirst() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        CommentView comment2 = new CommentView(2L, "Comment 2", "testUser", 1L,
+                createdAt.plusMinutes(1), createdAt.plusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findLatestViewsByPostIdBefore(eq(1L), eq(Status.ACTIVE), eq(createdAt.plusMinutes(2)), eq(3L), any(Pageable.class)))
+                .thenReturn(List.of(comment2));
+
+        CursorResponse<CommentResponse> response = commentService.getCommentsByPost(1L, 1L,
+                CursorUtil.encode(createdAt.plusMinutes(2), 3L), 20, true);
+
+        assertEquals(1, response.getItems().size());
+        assertEquals("Comment 2", response.getItems().get(0).getContent());
+        verify(commentRepository, never()).findViewsByPostIdSince(anyLong(), any(), any(), any(Pageable.class));
+    }
+
+    @Test
+    public void testGetCommentsByPost_LateCommittedCommentIsNotSkipped() {
+        ReflectionTestUtils.setField(commentService, "cursorOverlapMs", 60_000L);
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        CommentView comment1 = new CommentView(1L, "Comment 1", "testUser", 1L,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment2 = new CommentView(2L, "Comment 2", "testUser", 1L,
+                createdAt.plusMinutes(1), createdAt.plusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment3 = new CommentView(3L, "Comment 3", "testUser", 1L,
+                createdAt.plusMinutes(2), createdAt.plusMinutes(2), Status.ACTIVE, SchoolLevel.HIGH);
+        // 다른 인스턴스에서 첫 페이지 조회 전에 시각이 찍혔지만 그 뒤에 커밋된 댓글입니다.
+        CommentView lateComment = new CommentView(4L, "Late comment", "testUser", 1L,
+                createdAt.plusSeconds(30), createdAt.plusSeconds(30), Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findViewsByPostId(eq(1L), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(comment1, comment2, comment3));
+
+        CursorResponse<CommentResponse> firstPage = commentService.getCommentsByPost(1L, 1L, null, 2, false);
+
+        assertEquals(CursorUtil.encodeWindow(createdAt, List.of(1L, 2L)), firstPage.getNextCursor());
+
+        when(commentRepository.findViewsByPostIdSince(eq(1L), eq(Status.ACTIVE), eq(createdAt), any(Pageable.class)))
+                .thenReturn(List.of(comment1, lateComment, comment2, comment3));
+
+        CursorResponse<CommentResponse> secondPage = commentService.getCommentsByPost(1L, 1L, firstPage.getNextCursor(), 2, false);
+
+        assertEquals(List.of("Late comment", "Comment 3"),
+                secondPage.getItems().stream().map(CommentResponse::getContent).toList());
+        assertFalse(secondPage.isHasNext());
+    }
+
+    @Test
+    public void testGetCommentsByPost_InvalidCursor() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.getCommentsByPost(1L, 1L, "not-a-cursor", 20, false);
+        });
+
+        assertEquals(ErrorCode.INVALID_CURSOR.getMessage(), exception.getMessage());
     }
 
     @Test
     public void testGetCommentsByPost_UserNotFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.existsById(anyLong())).thenReturn(false);
 
         CustomException exception = assertThrows(CustomException.class, () -> {
-            commentService.getCommentsByPost(1L, 1L);
+            commentService.getCommentsByPost(1L, 1L, null, 20, false);
         });
 
         assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), exception.getMessage());
@@ -200,18 +474,117 @@ public class CommentServiceTest {
 
     @Test
     public void testGetCommentsByPost_PostNotFound() {
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
-        user.setSchoolLevel(SchoolLevel.HIGH);
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(false);
 
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postRepository.findById(anyLong())).thenReturn(Optional.empty());
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.getCommentsByPost(1L, 1L, null, 20, false);
+        });
+
+        assertEquals(ErrorCode.POST_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testGetCommentPreviews_GroupsByRequestedPostOrder() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        CommentView comment1 = new CommentView(1L, "Comment 1", "testUser", 1L,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment2 = new CommentView(2L, "Comment 2", "testUser", 2L,
+                createdAt.plusMinutes(1), createdAt.plusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+        CommentView comment3 = new CommentView(3L, "Comment 3", "testUser", 2L,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findLatestViewsByPostIds(any(), eq(Status.ACTIVE), eq(3L)))
+                .thenReturn(List.of(comment1, comment2, comment3));
+
+        Map<Long, List<CommentResponse>> previews = commentService.getCommentPreviews(List.of(3L, 2L, 1L, 2L), 1L, 0);
+
+        assertEquals(List.of(3L, 2L, 1L), List.copyOf(previews.keySet()));
+        assertTrue(previews.get(3L).isEmpty());
+        assertEquals(List.of("Comment 2", "Comment 3"), previews.get(2L).stream().map(CommentResponse::getContent).toList());
+        assertEquals(1, previews.get(1L).size());
+        verify(commentRepository, times(1)).findLatestViewsByPostIds(any(), eq(Status.ACTIVE), eq(3L));
+    }
+
+    @Test
+    public void testGetCommentPreviews_TooManyPosts() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        List<Long> postIds = LongStream.rangeClosed(1, CommentService.MAX_PREVIEW_POSTS + 1).boxed().toList();
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.getCommentPreviews(postIds, 1L, 3);
+        });
+
+        assertEquals(ErrorCode.TOO_MANY_PREVIEW_POSTS.getMessage(), exception.getMessage());
+        verify(commentRepository, never()).findLatestViewsByPostIds(any(), any(), anyLong());
+    }
+
+    @Test
+    public void testGetThread_FirstPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        CommentThreadView root = new CommentThreadView(1L, null, Comment.pathSegment(1L), 0, 1, "Root", "testUser", 1L,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        CommentThreadView reply = new CommentThreadView(3L, 1L, Comment.pathSegment(1L) + Comment.pathSegment(3L), 1, 0,
+                "Reply", "testUser", 1L, createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findThreadViews(eq(1L), eq(Status.ACTIVE), eq("%"), eq(""), any(Pageable.class)))
+                .thenReturn(List.of(root, reply));
+
+        CursorResponse<CommentResponse> page = commentService.getThread(1L, 1L, null, 1);
+
+        assertEquals(1, page.getItems().size());
+        assertEquals(0, page.getItems().get(0).getDepth());
+        assertEquals(1, page.getItems().get(0).getReplyCount());
+        assertTrue(page.isHasNext());
+        assertEquals(root.path(), CursorUtil.decodeKey(page.getNextCursor()));
+    }
+
+    @Test
+    public void testGetReplies_ReadsSubtreeAfterRoot() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        String rootPath = Comment.pathSegment(1L);
+        CommentThreadView reply = new CommentThreadView(3L, 1L, rootPath + Comment.pathSegment(3L), 1, 0,
+                "Reply", "testUser", 1L, createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findPathViewById(1L, Status.ACTIVE))
+                .thenReturn(Optional.of(new CommentPathView(1L, 1L, rootPath, 0)));
+        when(commentRepository.findThreadViews(eq(1L), eq(Status.ACTIVE), eq(rootPath + "%"), eq(rootPath), any(Pageable.class)))
+                .thenReturn(List.of(reply));
+
+        CursorResponse<CommentResponse> page = commentService.getReplies(1L, 1L, null, 20);
+
+        assertEquals(List.of(3L), page.getItems().stream().map(CommentResponse::getId).toList());
+        assertEquals(1L, page.getItems().get(0).getParentId());
+        assertFalse(page.isHasNext());
+        assertNull(page.getNextCursor());
+    }
+
+    @Test
+    public void testGetReplies_CommentNotFound() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(commentRepository.findPathViewById(1L, Status.ACTIVE)).thenReturn(Optional.empty());
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            commentService.getReplies(1L, 1L, null, 20);
+        });
+
+        assertEquals(ErrorCode.COMMENT_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testSubscribeComments_PostNotFound() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(postRepository.existsById(anyLong())).thenReturn(false);
 
         CustomException exception = assertThrows(CustomException.class, () -> {
-            commentService.getCommentsByPost(1L, 1L);
+            commentService.subscribeComments(1L, 1L);
         });
 
         assertEquals(ErrorCode.POST_NOT_FOUND.getMessage(), exception.getMessage());
+        verifyNoInteractions(commentStreamHub);
     }
 }
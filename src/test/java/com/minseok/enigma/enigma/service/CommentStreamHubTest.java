@@ -0,0 +1,120 @@
+package com.minseok.enigma.enigma.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.minseok.enigma.enigma.dto.response.comment.CommentResponse;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class CommentStreamHubTest {
+
+    private ObjectMapper objectMapper;
+    private SimpleMeterRegistry meterRegistry;
+    private CommentStreamHub hub;
+
+    @BeforeEach
+    public void setup() {
+        objectMapper = spy(new ObjectMapper().findAndRegisterModules());
+        meterRegistry = new SimpleMeterRegistry();
+        hub = new CommentStreamHub(objectMapper, meterRegistry);
+        ReflectionTestUtils.setField(hub, "queueCapacity", 4);
+        ReflectionTestUtils.setField(hub, "maxSubscribers", 2);
+        ReflectionTestUtils.setField(hub, "senderThreads", 1);
+        ReflectionTestUtils.setField(hub, "heartbeatIntervalMs", 15000L);
+        ReflectionTestUtils.setField(hub, "idleTimeoutMs", 600000L);
+        ReflectionTestUtils.setField(hub, "writeTimeoutMs", 100L);
+        ReflectionTestUtils.setField(hub, "maxConnectionMs", 0L);
+        hub.start();
+    }
+
+    @AfterEach
+    public void cleanup() throws InterruptedException {
+        hub.stop();
+    }
+
+    @Test
+    public void testSubscribe_RejectsOverLimit() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+
+        CustomException exception = assertThrows(CustomException.class, () -> hub.subscribe(3L));
+
+        assertEquals(ErrorCode.COMMENT_STREAM_BUSY.getMessage(), exception.getMessage());
+        assertEquals(2, hub.getSubscriberCount());
+        assertEquals(2.0, meterRegistry.get("enigma.comment.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    public void testPublish_SerializesOncePerComment() throws Exception {
+        hub.subscribe(1L);
+        hub.subscribe(1L);
+        CommentResponse comment = CommentResponse.builder().id(10L).postId(1L).content("hello").build();
+
+        hub.publish(comment);
+        hub.publish(CommentResponse.builder().id(11L).postId(2L).content("no subscribers").build());
+
+        verify(objectMapper, times(1)).writeValueAsString(any());
+    }
+
+    @Test
+    public void testHeartbeat_EvictsIdleSubscribers() {
+        hub.subscribe(1L);
+        hub.subscribe(2L);
+        ReflectionTestUtils.setField(hub, "idleTimeoutMs", -1L);
+
+        hub.heartbeat();
+
+        assertEquals(0, hub.getSubscriberCount());
+        // 정리된 뒤에는 같은 한도 안에서 다시 구독할 수 있습니다.
+        hub.subscribe(1L);
+        assertEquals(1, hub.getSubscriberCount());
+    }
+
+    @Test
+    public void testEvictSlowWriters_BlockedClientDoesNotStallOthers() throws Exception {
+        // 전송 스레드가 하나뿐이므로, 읽지 않는 클라이언트가 그 스레드를 잡고 있으면 다른 구독자는 아무것도 받지 못합니다.
+        CountDownLatch blockedSendStarted = new CountDownLatch(1);
+        SseEmitter blocking = new SseEmitter(0L) {
+            @Override
+            public void send(SseEventBuilder builder) throws IOException {
+                blockedSendStarted.countDown();
+                try {
+                    new CountDownLatch(1).await();
+                } catch (InterruptedException e) {
+                    throw new IOException("write interrupted", e);
+                }
+            }
+        };
+        CountDownLatch received = new CountDownLatch(2);
+        SseEmitter healthy = new SseEmitter(0L) {
+            @Override
+            public void send(SseEventBuilder builder) {
+                received.countDown();
+            }
+        };
+
+        hub.register(1L, blocking);
+        assertTrue(blockedSendStarted.await(1, TimeUnit.SECONDS));
+        hub.register(1L, healthy);
+        hub.publish(CommentResponse.builder().id(10L).postId(1L).content("hello").build());
+
+        Thread.sleep(200);
+        hub.evictSlowWriters();
+
+        // 하트비트와 새 댓글을 모두 받습니다.
+        assertTrue(received.await(1, TimeUnit.SECONDS));
+        assertEquals(1, hub.getSubscriberCount());
+    }
+}
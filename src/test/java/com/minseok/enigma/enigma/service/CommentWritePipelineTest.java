@@ -0,0 +1,195 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.entity.Comment;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.repository.projection.CommentPathView;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 댓글 그룹 커밋 파이프라인을 마이그레이션된 스키마에서 검증합니다.<p>
+ * 작성 스레드가 별도 트랜잭션에서 저장하므로 테스트 트랜잭션 없이 실행하고, 만든 행은 테스트가 끝나면 지웁니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+public class CommentWritePipelineTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private CommentWritePipeline pipeline;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, user_id, view_count, created_at, status, school_level) " +
+                "VALUES (1, 'title', 'content', 1, 0, ?, 'ACTIVE', 'HIGH')", Timestamp.valueOf(BASE));
+
+        meterRegistry = new SimpleMeterRegistry();
+        pipeline = new CommentWritePipeline(new TransactionTemplate(transactionManager), jdbcTemplate,
+                new PostCommentStatsWriter(jdbcTemplate), meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "entityManager", entityManager);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 100);
+        ReflectionTestUtils.setField(pipeline, "batchSize", 10);
+        ReflectionTestUtils.setField(pipeline, "maxLatencyMs", 50L);
+        ReflectionTestUtils.setField(pipeline, "offerTimeoutMs", 100L);
+        ReflectionTestUtils.setField(pipeline, "awaitTimeoutMs", 5000L);
+        pipeline.start();
+    }
+
+    @AfterEach
+    public void cleanup() throws InterruptedException {
+        pipeline.stop();
+        jdbcTemplate.update("DELETE FROM comments");
+        jdbcTemplate.update("DELETE FROM posts");
+        jdbcTemplate.update("DELETE FROM users");
+    }
+
+    @Test
+    public void testConcurrentWrites_AreGroupedAndCounted() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(20);
+        List<Future<CommentWritePipeline.WrittenComment>> futures = new ArrayList<>();
+        for (int i = 0; i < 20; i++) {
+            String content = "comment" + i;
+            futures.add(executor.submit(() -> pipeline.write(1L, 1L, content, SchoolLevel.HIGH)));
+        }
+        List<CommentWritePipeline.WrittenComment> written = new ArrayList<>();
+        for (Future<CommentWritePipeline.WrittenComment> future : futures) {
+            written.add(future.get());
+        }
+        executor.shutdown();
+
+        Set<Long> ids = written.stream().map(CommentWritePipeline.WrittenComment::id).collect(Collectors.toSet());
+        assertEquals(20, ids.size());
+        assertTrue(written.stream().allMatch(comment -> comment.createdAt() != null));
+        assertEquals(20, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments WHERE post_id = 1", Integer.class));
+        assertEquals(20, jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = 1", Integer.class));
+        assertEquals(20.0, meterRegistry.get("enigma.comment.write.batch.size").summary().totalAmount());
+    }
+
+    @Test
+    public void testFailedComment_DoesNotFailOthersInBatch() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        Future<CommentWritePipeline.WrittenComment> valid =
+                executor.submit(() -> pipeline.write(1L, 1L, "valid", SchoolLevel.HIGH));
+        Future<CommentWritePipeline.WrittenComment> invalid =
+                executor.submit(() -> pipeline.write(1L, 999L, "missing post", SchoolLevel.HIGH));
+
+        assertNotNull(valid.get().id());
+        Exception exception = assertThrows(Exception.class, invalid::get);
+        assertInstanceOf(RuntimeException.class, exception.getCause());
+        executor.shutdown();
+
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments", Integer.class));
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = 1", Integer.class));
+    }
+
+    @Test
+    public void testReply_ExtendsParentPathAndCountsReplies() {
+        CommentWritePipeline.WrittenComment root = pipeline.write(1L, 1L, "root", SchoolLevel.HIGH);
+        String rootPath = jdbcTemplate.queryForObject("SELECT path FROM comments WHERE id = ?", String.class, root.id());
+        assertEquals(Comment.pathSegment(root.id()), rootPath);
+
+        CommentWritePipeline.WrittenComment reply = pipeline.write(1L, 1L,
+                new CommentPathView(root.id(), 1L, rootPath, 0), "reply", SchoolLevel.HIGH);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap("SELECT parent_id, path, depth FROM comments WHERE id = ?", reply.id());
+        assertEquals(root.id(), ((Number) row.get("parent_id")).longValue());
+        assertEquals(rootPath + Comment.pathSegment(reply.id()), row.get("path"));
+        assertEquals(1, ((Number) row.get("depth")).intValue());
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT reply_count FROM comments WHERE id = ?", Integer.class, root.id()));
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = 1", Integer.class));
+    }
+
+    @Test
+    public void testAwaitTimeout_CancelsCommentBeforeItIsWritten() throws Exception {
+        // 첫 댓글 뒤에 묶음을 오래 기다리게 해 요청 스레드가 먼저 시간 초과되도록 합니다.
+        ReflectionTestUtils.setField(pipeline, "maxLatencyMs", 500L);
+        ReflectionTestUtils.setField(pipeline, "awaitTimeoutMs", 50L);
+
+        CustomException exception = assertThrows(CustomException.class,
+                () -> pipeline.write(1L, 1L, "timed out", SchoolLevel.HIGH));
+        assertEquals(ErrorCode.COMMENT_WRITE_BUSY.getMessage(), exception.getMessage());
+
+        // 작성 스레드가 묶음을 마감한 뒤에도 댓글이 저장되지 않아야 합니다.
+        Thread.sleep(1000);
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM comments", Integer.class));
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT comment_count FROM posts WHERE id = 1", Integer.class));
+    }
+
+    @Test
+    public void testAwaitTimeout_StalledWriterDoesNotHangCaller() throws Exception {
+        // 작성 스레드가 댓글을 차지한 뒤 트랜잭션을 시작하지 못하고 멈춘 상황을 만듭니다.
+        CountDownLatch release = new CountDownLatch(1);
+        TransactionTemplate stalled = new TransactionTemplate(transactionManager) {
+            @Override
+            public <T> T execute(TransactionCallback<T> action) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return super.execute(action);
+            }
+        };
+        pipeline.stop();
+        pipeline = new CommentWritePipeline(stalled, jdbcTemplate, new PostCommentStatsWriter(jdbcTemplate), meterRegistry);
+        ReflectionTestUtils.setField(pipeline, "entityManager", entityManager);
+        ReflectionTestUtils.setField(pipeline, "queueCapacity", 100);
+        ReflectionTestUtils.setField(pipeline, "batchSize", 10);
+        ReflectionTestUtils.setField(pipeline, "maxLatencyMs", 10L);
+        ReflectionTestUtils.setField(pipeline, "offerTimeoutMs", 100L);
+        ReflectionTestUtils.setField(pipeline, "awaitTimeoutMs", 200L);
+        pipeline.start();
+
+        try {
+            CustomException exception = assertThrows(CustomException.class,
+                    () -> pipeline.write(1L, 1L, "stalled", SchoolLevel.HIGH));
+            assertEquals(ErrorCode.COMMENT_WRITE_TIMEOUT.getMessage(), exception.getMessage());
+        } finally {
+            release.countDown();
+        }
+    }
+}
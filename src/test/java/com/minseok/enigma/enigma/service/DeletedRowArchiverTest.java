@@ -0,0 +1,123 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.repository.CommentRepository;
+import com.minseok.enigma.enigma.repository.PostRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * 삭제된 행의 조회 제외와 보관 테이블 이동을 마이그레이션된 스키마에서 검증합니다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+public class DeletedRowArchiverTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+    private static final LocalDateTime CUTOFF = BASE.plusDays(30);
+
+    @Autowired
+    private PostRepository postRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private DeletedRowArchiver archiver;
+
+    @BeforeEach
+    public void setup() {
+        jdbcTemplate.update("INSERT INTO users (id, user_name, password, email, school_level, grade) " +
+                "VALUES (1, 'user1', 'password', 'user1@example.com', 'HIGH', 1)");
+
+        archiver = new DeletedRowArchiver(jdbcTemplate, new TransactionTemplate(transactionManager));
+        ReflectionTestUtils.setField(archiver, "batchSize", 2);
+        ReflectionTestUtils.setField(archiver, "pauseMs", 0L);
+    }
+
+    private void insertPost(long id, String status, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO posts (id, title, content, user_id, view_count, created_at, updated_at, status, school_level) " +
+                "VALUES (?, ?, 'content', 1, 0, ?, ?, ?, 'HIGH')",
+                id, "title" + id, Timestamp.valueOf(BASE), Timestamp.valueOf(updatedAt), status);
+    }
+
+    private void insertComment(long id, long postId, String status, LocalDateTime updatedAt) {
+        jdbcTemplate.update("INSERT INTO comments (id, user_id, post_id, content, created_at, updated_at, status, school_level) " +
+                "VALUES (?, 1, ?, 'comment', ?, ?, ?, 'HIGH')",
+                id, postId, Timestamp.valueOf(BASE), Timestamp.valueOf(updatedAt), status);
+    }
+
+    private int count(String sql, Object... args) {
+        return jdbcTemplate.queryForObject(sql, Integer.class, args);
+    }
+
+    @Test
+    public void testDeletedRowsAreExcludedFromEntityQueries() {
+        insertPost(1, "ACTIVE", BASE);
+        insertPost(2, "DELETED", BASE);
+        insertComment(1, 1, "ACTIVE", BASE);
+        insertComment(2, 1, "DELETED", BASE);
+
+        assertTrue(postRepository.findById(1L).isPresent());
+        assertTrue(postRepository.findById(2L).isEmpty());
+        assertEquals(1, postRepository.findBySchoolLevel(SchoolLevel.HIGH).size());
+        assertTrue(commentRepository.findById(2L).isEmpty());
+        assertEquals(1, commentRepository.findAll().size());
+    }
+
+    @Test
+    public void testArchiveComments_MovesOnlyExpiredDeletedComments() {
+        insertPost(1, "ACTIVE", BASE);
+        insertComment(1, 1, "DELETED", BASE.plusDays(1));
+        insertComment(2, 1, "DELETED", BASE.plusDays(2));
+        insertComment(3, 1, "DELETED", BASE.plusDays(3));
+        insertComment(4, 1, "DELETED", CUTOFF.plusDays(1));
+        insertComment(5, 1, "ACTIVE", BASE);
+
+        assertEquals(3, archiver.archiveComments(CUTOFF));
+
+        assertEquals(2, count("SELECT COUNT(*) FROM comments"));
+        assertEquals(3, count("SELECT COUNT(*) FROM comments_archive WHERE status = 'DELETED' AND archived_at IS NOT NULL"));
+        assertEquals(1, count("SELECT COUNT(*) FROM comments WHERE id = 4"));
+    }
+
+    @Test
+    public void testArchivePosts_MovesCommentsAndTrendingScoresFirst() {
+        insertPost(1, "DELETED", BASE.plusDays(1));
+        insertPost(2, "DELETED", BASE.plusDays(2));
+        insertPost(3, "DELETED", CUTOFF.plusDays(1));
+        insertPost(4, "ACTIVE", BASE);
+        insertComment(1, 1, "ACTIVE", BASE);
+        insertComment(2, 2, "DELETED", CUTOFF.plusDays(1));
+        insertComment(3, 4, "ACTIVE", BASE);
+        jdbcTemplate.update("INSERT INTO trending_scores (post_id, school_level, score, scored_at) VALUES (1, 'HIGH', 1.0, ?)",
+                Timestamp.valueOf(BASE));
+
+        assertEquals(2, archiver.archivePosts(CUTOFF));
+
+        assertEquals(2, count("SELECT COUNT(*) FROM posts_archive WHERE id IN (1, 2)"));
+        assertEquals(2, count("SELECT COUNT(*) FROM posts WHERE id IN (3, 4)"));
+        assertEquals(2, count("SELECT COUNT(*) FROM comments_archive WHERE post_id IN (1, 2)"));
+        assertEquals(1, count("SELECT COUNT(*) FROM comments"));
+        assertEquals(0, count("SELECT COUNT(*) FROM trending_scores"));
+    }
+}
@@ -0,0 +1,89 @@
+package com.minseok.enigma.enigma.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+import com.minseok.enigma.enigma.repository.CommentRepository;
+import com.minseok.enigma.enigma.repository.PostRepository;
+import com.minseok.enigma.enigma.repository.projection.CommentExportView;
+import com.minseok.enigma.enigma.repository.projection.PostExportView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class ExportServiceTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private ExportService exportService;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        exportService = new ExportService(postRepository, commentRepository, objectMapper);
+    }
+
+    private PostExportView post(long id) {
+        return new PostExportView(id, "Title " + id, "Content\n" + id, 1L, "testUser", 2L, "General", 0, 0,
+                BASE.plusMinutes(id), BASE.plusMinutes(id), Status.ACTIVE, SchoolLevel.HIGH);
+    }
+
+    @Test
+    public void testExportPosts_WritesOneJsonObjectPerLine() throws Exception {
+        AtomicBoolean closed = new AtomicBoolean();
+        when(postRepository.streamForExport(SchoolLevel.HIGH, Status.ACTIVE, 2L,
+                LocalDate.of(2024, 8, 1).atStartOfDay(), LocalDate.of(2024, 8, 2).atStartOfDay()))
+                .thenReturn(LongStream.rangeClosed(1, 1200).mapToObj(this::post).onClose(() -> closed.set(true)));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.exportPosts(SchoolLevel.HIGH, 2L,
+                LocalDate.of(2024, 8, 1), LocalDate.of(2024, 8, 1), out);
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertEquals(1200, count);
+        assertEquals(1200, lines.length);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(1, first.get("id").asLong());
+        assertEquals("Content\n1", first.get("content").asText());
+        assertEquals("2024-08-01T12:01:00", first.get("createdAt").asText());
+        assertEquals(1200, objectMapper.readTree(lines[1199]).get("id").asLong());
+        assertTrue(closed.get());
+    }
+
+    @Test
+    public void testExportComments_EmptyResultWritesNothing() throws Exception {
+        when(commentRepository.streamForExport(SchoolLevel.MIDDLE, Status.ACTIVE, null, null, null))
+                .thenReturn(Stream.<CommentExportView>empty());
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        long count = exportService.exportComments(SchoolLevel.MIDDLE, null, null, null, out);
+
+        assertEquals(0, count);
+        assertEquals(0, out.size());
+    }
+}
@@ -0,0 +1,123 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.entity.Status;
+import com.minseok.enigma.enigma.repository.PostRepository;
+import com.minseok.enigma.enigma.repository.projection.PostView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+public class HotFeedCacheTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 8, 1, 12, 0);
+
+    @Mock
+    private PostRepository postRepository;
+
+    @InjectMocks
+    private HotFeedCache hotFeedCache;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        ReflectionTestUtils.setField(hotFeedCache, "capacity", 3);
+    }
+
+    private PostView post(long id, SchoolLevel schoolLevel) {
+        return new PostView(id, "Title " + id, "Content", "testUser", "General", 0, 0, null,
+                BASE.plusMinutes(id), BASE.plusMinutes(id), Status.ACTIVE, schoolLevel);
+    }
+
+    @Test
+    public void testGetFirstPage_ColdCacheFallsBack() {
+        assertEquals(Optional.empty(), hotFeedCache.getFirstPage(SchoolLevel.HIGH, 2));
+    }
+
+    @Test
+    public void testRefreshAndAdd_KeepsNewestFirstWithinCapacity() {
+        when(postRepository.findFeed(eq(SchoolLevel.HIGH), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(post(2, SchoolLevel.HIGH), post(1, SchoolLevel.HIGH)));
+
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+        hotFeedCache.add(post(3, SchoolLevel.HIGH));
+        hotFeedCache.add(post(4, SchoolLevel.HIGH));
+
+        List<PostView> page = hotFeedCache.getFirstPage(SchoolLevel.HIGH, 3).orElseThrow();
+        assertEquals(List.of(4L, 3L, 2L), page.stream().map(PostView::id).toList());
+
+        // 용량을 넘겨 잘려 나간 뒤에는 캐시보다 큰 요청을 DB로 넘깁니다.
+        assertEquals(Optional.empty(), hotFeedCache.getFirstPage(SchoolLevel.HIGH, 4));
+        assertEquals(Optional.empty(), hotFeedCache.getFirstPage(SchoolLevel.MIDDLE, 1));
+    }
+
+    @Test
+    public void testRemove_ExhaustiveWindowStillServes() {
+        when(postRepository.findFeed(eq(SchoolLevel.HIGH), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(post(2, SchoolLevel.HIGH), post(1, SchoolLevel.HIGH)));
+
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+        hotFeedCache.remove(SchoolLevel.HIGH, 2L);
+
+        List<PostView> page = hotFeedCache.getFirstPage(SchoolLevel.HIGH, 3).orElseThrow();
+        assertEquals(List.of(1L), page.stream().map(PostView::id).toList());
+    }
+
+    @Test
+    public void testRecordComment_UpdatesCachedPost() {
+        when(postRepository.findFeed(eq(SchoolLevel.HIGH), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(post(2, SchoolLevel.HIGH), post(1, SchoolLevel.HIGH)));
+
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+        hotFeedCache.recordComment(SchoolLevel.HIGH, 1L, BASE.plusHours(1));
+
+        List<PostView> page = hotFeedCache.getFirstPage(SchoolLevel.HIGH, 2).orElseThrow();
+        assertEquals(0, page.get(0).commentCount());
+        assertEquals(1, page.get(1).commentCount());
+        assertEquals(BASE.plusHours(1), page.get(1).lastCommentAt());
+    }
+
+    @Test
+    public void testRefresh_EvictsPostsMissingFromDatabase() {
+        when(postRepository.findFeed(eq(SchoolLevel.HIGH), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(post(2, SchoolLevel.HIGH), post(1, SchoolLevel.HIGH)))
+                .thenReturn(List.of(post(1, SchoolLevel.HIGH)));
+
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+
+        List<PostView> page = hotFeedCache.getFirstPage(SchoolLevel.HIGH, 3).orElseThrow();
+        assertEquals(List.of(1L), page.stream().map(PostView::id).toList());
+    }
+
+    @Test
+    public void testRefresh_KeepsPostAddedAndDropsPostRemovedDuringRead() {
+        when(postRepository.findFeed(eq(SchoolLevel.HIGH), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(List.of(post(2, SchoolLevel.HIGH), post(1, SchoolLevel.HIGH)))
+                .thenAnswer(invocation -> {
+                    // 조회 도중 커밋된 작성/삭제는 조회 결과에 반영되지 않은 상태입니다.
+                    hotFeedCache.add(post(3, SchoolLevel.HIGH));
+                    hotFeedCache.remove(SchoolLevel.HIGH, 2L);
+                    return List.of(post(2, SchoolLevel.HIGH), post(1, SchoolLevel.HIGH));
+                });
+
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+        hotFeedCache.refresh(SchoolLevel.HIGH);
+
+        List<PostView> page = hotFeedCache.getFirstPage(SchoolLevel.HIGH, 3).orElseThrow();
+        assertEquals(List.of(3L, 1L), page.stream().map(PostView::id).toList());
+    }
+}
@@ -0,0 +1,79 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.dto.response.category.PostCategoryResponse;
+import com.minseok.enigma.enigma.entity.SchoolLevel;
+import com.minseok.enigma.enigma.repository.PostCategoryRepository;
+import com.minseok.enigma.enigma.repository.projection.PostCategoryView;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+public class PostCategoryRegistryTest {
+
+    @Mock
+    private PostCategoryRepository postCategoryRepository;
+
+    @InjectMocks
+    private PostCategoryRegistry postCategoryRegistry;
+
+    @BeforeEach
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(postCategoryRepository.findAllViews()).thenReturn(List.of(
+                new PostCategoryView(1L, "free", "자유", "자유 게시판", true, SchoolLevel.HIGH),
+                new PostCategoryView(2L, "study", "공부", null, true, SchoolLevel.MIDDLE),
+                new PostCategoryView(3L, "old", "지난 게시판", null, false, SchoolLevel.HIGH)));
+    }
+
+    @Test
+    public void testLookups_LoadSnapshotOnce() {
+        assertEquals("자유", postCategoryRegistry.findById(1L).orElseThrow().name());
+        assertTrue(postCategoryRegistry.findById(3L).isPresent());
+        assertTrue(postCategoryRegistry.findById(99L).isEmpty());
+        assertEquals(2L, postCategoryRegistry.findActiveByCode("study").orElseThrow().id());
+        assertTrue(postCategoryRegistry.findActiveByCode("old").isEmpty());
+        assertEquals(List.of(1L), postCategoryRegistry.findActive(SchoolLevel.HIGH).stream().map(PostCategoryView::id).toList());
+        assertTrue(postCategoryRegistry.findActive(SchoolLevel.ELEMENTARY).isEmpty());
+
+        verify(postCategoryRepository, times(1)).findAllViews();
+    }
+
+    @Test
+    public void testRefresh_SwapsSnapshot() {
+        assertEquals(2, postCategoryRegistry.findActive(null).size());
+
+        when(postCategoryRepository.findAllViews()).thenReturn(List.of(
+                new PostCategoryView(1L, "free", "자유", "자유 게시판", false, SchoolLevel.HIGH)));
+        postCategoryRegistry.refresh();
+
+        assertTrue(postCategoryRegistry.findActive(null).isEmpty());
+        assertTrue(postCategoryRegistry.findById(2L).isEmpty());
+    }
+
+    @Test
+    public void testRefresh_KeepsPreviousSnapshotOnFailure() {
+        postCategoryRegistry.refresh();
+        when(postCategoryRepository.findAllViews()).thenThrow(new IllegalStateException("db down"));
+
+        postCategoryRegistry.refresh();
+
+        assertTrue(postCategoryRegistry.findById(1L).isPresent());
+    }
+
+    @Test
+    public void testGetCategories() {
+        List<PostCategoryResponse> responses = postCategoryRegistry.getCategories(null);
+
+        assertEquals(2, responses.size());
+        assertEquals("자유", responses.get(0).getName());
+        assertEquals("자유 게시판", responses.get(0).getDescription());
+        assertTrue(responses.get(0).isActive());
+    }
+}
@@ -1,6 +1,7 @@
 package com.minseok.enigma.enigma.service;
 
 import com.minseok.enigma.enigma.dto.request.post.PostCreateRequest;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
 import com.minseok.enigma.enigma.dto.response.post.PostResponse;
 import com.minseok.enigma.enigma.entity.*;
 import com.minseok.enigma.enigma.exception.CustomException;
@@ -8,12 +9,21 @@ import com.minseok.enigma.enigma.exception.ErrorCode;
 import com.minseok.enigma.enigma.repository.PostCategoryRepository;
 import com.minseok.enigma.enigma.repository.PostRepository;
 import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.repository.projection.PostCategoryView;
+import com.minseok.enigma.enigma.repository.projection.PostDetailView;
+import com.minseok.enigma.enigma.repository.projection.PostView;
+import com.minseok.enigma.enigma.search.PostSearchIndex;
+import com.minseok.enigma.enigma.trending.TrendingBoard;
+import com.minseok.enigma.enigma.trending.TrendingPostEngine;
+import com.minseok.enigma.enigma.util.CursorUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.Pageable;
 
+import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
@@ -21,6 +31,7 @@ import java.util.Optional;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 public class PostServiceTest {
@@ -34,6 +45,21 @@ public class PostServiceTest {
     @Mock
     private PostCategoryRepository postCategoryRepository;
 
+    @Mock
+    private PostCategoryRegistry postCategoryRegistry;
+
+    @Mock
+    private PostViewCountService postViewCountService;
+
+    @Mock
+    private HotFeedCache hotFeedCache;
+
+    @Mock
+    private PostSearchIndex postSearchIndex;
+
+    @Mock
+    private TrendingPostEngine trendingPostEngine;
+
     @InjectMocks
     private PostService postService;
 
@@ -56,14 +82,11 @@ public class PostServiceTest {
         user.setUserName("testUser");
         user.setSchoolLevel(SchoolLevel.HIGH);
 
-        PostCategory postCategory = new PostCategory();
-        postCategory.setId(1L);
-        postCategory.setName("General");
-        postCategory.setSchoolLevel(SchoolLevel.HIGH);
+        PostCategoryView postCategory = new PostCategoryView(1L, "general", "General", null, true, SchoolLevel.HIGH);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postCategoryRepository.findById(anyLong())).thenReturn(Optional.of(postCategory));
-        when(postRepository.save(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
+        when(postCategoryRegistry.findById(anyLong())).thenReturn(Optional.of(postCategory));
+        when(postRepository.saveAndFlush(any(Post.class))).thenAnswer(invocation -> invocation.getArgument(0));
 
         PostResponse response = postService.createPost(request);
 
@@ -73,6 +96,7 @@ public class PostServiceTest {
         assertEquals("testUser", response.getAuthorName());
         assertEquals("General", response.getCategoryName());
         assertEquals(SchoolLevel.HIGH.toString(), response.getSchoolLevel());
+        verify(hotFeedCache, times(1)).add(any(PostView.class));
     }
 
     @Test
@@ -108,7 +132,7 @@ public class PostServiceTest {
         user.setSchoolLevel(SchoolLevel.HIGH);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postCategoryRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(postCategoryRegistry.findById(anyLong())).thenReturn(Optional.empty());
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             postService.createPost(request);
@@ -131,13 +155,10 @@ public class PostServiceTest {
         user.setUserName("testUser");
         user.setSchoolLevel(SchoolLevel.HIGH);
 
-        PostCategory postCategory = new PostCategory();
-        postCategory.setId(1L);
-        postCategory.setName("General");
-        postCategory.setSchoolLevel(SchoolLevel.HIGH);
+        PostCategoryView postCategory = new PostCategoryView(1L, "general", "General", null, true, SchoolLevel.HIGH);
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postCategoryRepository.findById(anyLong())).thenReturn(Optional.of(postCategory));
+        when(postCategoryRegistry.findById(anyLong())).thenReturn(Optional.of(postCategory));
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             postService.createPost(request);
@@ -148,55 +169,219 @@ public class PostServiceTest {
 
     @Test
     public void testGetPosts_Success() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostView post1 = new PostView(2L, "Title 1", "Content 1", "testUser", "General", 0, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        PostView post2 = new PostView(1L, "Title 2", "Content 2", "testUser", "General", 0, 0, null,
+                createdAt.minusMinutes(1), createdAt.minusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(postRepository.findFeed(eq(SchoolLevel.HIGH), eq(Status.ACTIVE), any(Pageable.class)))
+                .thenReturn(Arrays.asList(post1, post2));
+
+        CursorResponse<PostResponse> response = postService.getPosts(1L, null, 20);
+
+        assertNotNull(response);
+        List<PostResponse> responses = response.getItems();
+        assertEquals(2, responses.size());
+        assertEquals("Title 1", responses.get(0).getTitle());
+        assertEquals("Title 2", responses.get(1).getTitle());
+        assertEquals("testUser", responses.get(0).getAuthorName());
+        assertEquals("General", responses.get(0).getCategoryName());
+        assertEquals("Content 1", responses.get(0).getExcerpt());
+        assertNull(responses.get(0).getContent());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    public void testGetPosts_NextPageWithCursor() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostView post3 = new PostView(3L, "Title 3", "Content 3", "testUser", "General", 0, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        PostView post2 = new PostView(2L, "Title 2", "Content 2", "testUser", "General", 0, 0, null,
+                createdAt.minusMinutes(1), createdAt.minusMinutes(1), Status.ACTIVE, SchoolLevel.HIGH);
+
+        String cursor = CursorUtil.encode(createdAt.plusMinutes(1), 4L);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(postRepository.findFeedAfter(eq(SchoolLevel.HIGH), eq(Status.ACTIVE),
+                eq(createdAt.plusMinutes(1)), eq(4L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(post3, post2));
+
+        CursorResponse<PostResponse> response = postService.getPosts(1L, cursor, 1);
+
+        assertEquals(1, response.getItems().size());
+        assertEquals("Title 3", response.getItems().get(0).getTitle());
+        assertTrue(response.isHasNext());
+        assertEquals(CursorUtil.encode(createdAt, 3L), response.getNextCursor());
+    }
+
+    @Test
+    public void testGetPosts_InvalidCursor() {
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            postService.getPosts(1L, "not-a-cursor", 20);
+        });
+
+        assertEquals(ErrorCode.INVALID_CURSOR.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testGetPosts_UserNotFound() {
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.empty());
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            postService.getPosts(1L, null, 20);
+        });
+
+        assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testGetPost_IncrementsViewCount() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostDetailView post = new PostDetailView(1L, "Title", "Content", "testUser", "General", 10, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(postRepository.findDetailById(1L)).thenReturn(Optional.of(post));
+        when(postViewCountService.getViewCount(1L, 10)).thenReturn(11);
+
+        PostResponse response = postService.getPost(1L, 1L);
+
+        verify(postViewCountService, times(1)).increment(1L);
+        verify(trendingPostEngine, times(1)).recordView(1L, SchoolLevel.HIGH);
+        assertEquals(11, response.getViewCount());
+        assertEquals("Content", response.getContent());
+    }
+
+    @Test
+    public void testGetPost_InvalidAccess() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostDetailView post = new PostDetailView(1L, "Title", "Content", "testUser", "General", 10, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.MIDDLE);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(postRepository.findDetailById(1L)).thenReturn(Optional.of(post));
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            postService.getPost(1L, 1L);
+        });
+
+        assertEquals(ErrorCode.INVALID_ACCESS.getMessage(), exception.getMessage());
+        verify(postViewCountService, never()).increment(anyLong());
+    }
+
+    @Test
+    public void testGetPosts_FirstPageFromHotFeedCache() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostView post = new PostView(1L, "Cached", "Content", "testUser", "General", 0, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(hotFeedCache.getFirstPage(SchoolLevel.HIGH, 21)).thenReturn(Optional.of(List.of(post)));
+
+        CursorResponse<PostResponse> response = postService.getPosts(1L, null, 20);
+
+        assertEquals(1, response.getItems().size());
+        assertEquals("Cached", response.getItems().get(0).getTitle());
+        verify(postRepository, never()).findFeed(any(), any(), any());
+    }
+
+    @Test
+    public void testDeletePost_Success() {
         User user = new User();
         user.setId(1L);
-        user.setUserName("testUser");
-        user.setSchoolLevel(SchoolLevel.HIGH);
-
-        PostCategory postCategory = new PostCategory();
-        postCategory.setId(1L);
-        postCategory.setName("General");
-        postCategory.setSchoolLevel(SchoolLevel.HIGH);
 
-        Post post1 = Post.builder()
+        Post post = Post.builder()
                 .id(1L)
-                .title("Title 1")
-                .content("Content 1")
                 .author(user)
                 .status(Status.ACTIVE)
-                .postCategory(postCategory)
                 .schoolLevel(SchoolLevel.HIGH)
                 .build();
 
-        Post post2 = Post.builder()
-                .id(2L)
-                .title("Title 2")
-                .content("Content 2")
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
+
+        postService.deletePost(1L, 1L);
+
+        assertEquals(Status.DELETED, post.getStatus());
+        verify(hotFeedCache, times(1)).remove(SchoolLevel.HIGH, 1L);
+        verify(trendingPostEngine, times(1)).remove(1L, SchoolLevel.HIGH);
+    }
+
+    @Test
+    public void testDeletePost_NotAuthor() {
+        User user = new User();
+        user.setId(1L);
+
+        Post post = Post.builder()
+                .id(1L)
                 .author(user)
                 .status(Status.ACTIVE)
-                .postCategory(postCategory)
                 .schoolLevel(SchoolLevel.HIGH)
                 .build();
 
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(postRepository.findBySchoolLevel(any(SchoolLevel.class))).thenReturn(Arrays.asList(post1, post2));
+        when(postRepository.findById(1L)).thenReturn(Optional.of(post));
 
-        List<PostResponse> responses = postService.getPosts(1L);
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            postService.deletePost(1L, 2L);
+        });
 
-        assertNotNull(responses);
-        assertEquals(2, responses.size());
-        assertEquals("Title 1", responses.get(0).getTitle());
-        assertEquals("Title 2", responses.get(1).getTitle());
+        assertEquals(ErrorCode.POST_ACCESS_DENIED.getMessage(), exception.getMessage());
+        assertEquals(Status.ACTIVE, post.getStatus());
     }
 
     @Test
-    public void testGetPosts_UserNotFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+    public void testSearchPosts_ReturnsNewestFirstPage() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostView post5 = new PostView(5L, "급식 메뉴", "Content", "testUser", "General", 0, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        PostView post3 = new PostView(3L, "오늘 급식", "Content", "testUser", "General", 0, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(postSearchIndex.search(SchoolLevel.HIGH, "급식", Long.MAX_VALUE, 3)).thenReturn(new long[]{5L, 3L, 1L});
+        when(postRepository.findViewsByIdIn(List.of(5L, 3L))).thenReturn(Arrays.asList(post3, post5));
+
+        CursorResponse<PostResponse> response = postService.searchPosts(1L, "급식", null, 2);
+
+        assertEquals(2, response.getItems().size());
+        assertEquals(5L, response.getItems().get(0).getId());
+        assertEquals(3L, response.getItems().get(1).getId());
+        assertTrue(response.isHasNext());
+        assertEquals(CursorUtil.encode(3L), response.getNextCursor());
+    }
 
+    @Test
+    public void testSearchPosts_BlankQuery() {
         CustomException exception = assertThrows(CustomException.class, () -> {
-            postService.getPosts(1L);
+            postService.searchPosts(1L, " ", null, 20);
         });
 
-        assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), exception.getMessage());
+        assertEquals(ErrorCode.INVALID_SEARCH_QUERY.getMessage(), exception.getMessage());
+    }
+
+    @Test
+    public void testGetTrendingPosts_KeepsScoreOrderAndSkipsDeleted() {
+        LocalDateTime createdAt = LocalDateTime.of(2024, 8, 1, 12, 0);
+        PostView hot = new PostView(7L, "Hot", "Content", "testUser", "General", 10, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        PostView warm = new PostView(2L, "Warm", "Content", "testUser", "General", 3, 0, null,
+                createdAt, createdAt, Status.ACTIVE, SchoolLevel.HIGH);
+        PostView deleted = new PostView(5L, "Deleted", "Content", "testUser", "General", 5, 0, null,
+                createdAt, createdAt, Status.DELETED, SchoolLevel.HIGH);
+
+        when(userRepository.findSchoolLevelById(anyLong())).thenReturn(Optional.of(SchoolLevel.HIGH));
+        when(trendingPostEngine.getTrending(SchoolLevel.HIGH, 20)).thenReturn(List.of(
+                new TrendingBoard.ScoredPost(7L, 12.0),
+                new TrendingBoard.ScoredPost(5L, 8.0),
+                new TrendingBoard.ScoredPost(2L, 3.5)));
+        when(postRepository.findViewsByIdIn(List.of(7L, 5L, 2L))).thenReturn(Arrays.asList(warm, deleted, hot));
+
+        List<PostResponse> responses = postService.getTrendingPosts(1L, 20);
+
+        assertEquals(List.of(7L, 2L), responses.stream().map(PostResponse::getId).toList());
     }
 }
@@ -0,0 +1,128 @@
+package com.minseok.enigma.enigma.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+public class PostViewCountServiceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    private PostViewCountService postViewCountService;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    public void setup() {
+        MockitoAnnotations.openMocks(this);
+        when(transactionTemplate.execute(any(TransactionCallback.class)))
+                .thenAnswer(invocation -> ((TransactionCallback<Object>) invocation.getArgument(0)).doInTransaction(null));
+        postViewCountService = new PostViewCountService(jdbcTemplate, transactionTemplate, new SimpleMeterRegistry());
+        postViewCountService.registerMetrics();
+    }
+
+    @Test
+    public void testIncrement_AccumulatesPendingDelta() {
+        postViewCountService.increment(1L);
+        postViewCountService.increment(1L);
+        postViewCountService.increment(2L);
+
+        assertEquals(2, postViewCountService.getPendingDelta(1L));
+        assertEquals(1, postViewCountService.getPendingDelta(2L));
+        assertEquals(3, postViewCountService.getTotalPendingDelta());
+        assertEquals(12, postViewCountService.getViewCount(1L, 10));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush_WritesAggregatedDeltasInOneBatch() {
+        postViewCountService.increment(1L);
+        postViewCountService.increment(1L);
+        postViewCountService.increment(2L);
+
+        postViewCountService.flush();
+
+        ArgumentCaptor<List<Object[]>> captor = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate, times(1)).batchUpdate(anyString(), captor.capture());
+        List<Object[]> batchArgs = captor.getValue();
+        assertEquals(2, batchArgs.size());
+        long total = batchArgs.stream().mapToLong(args -> (Long) args[0]).sum();
+        assertEquals(3, total);
+        assertEquals(0, postViewCountService.getTotalPendingDelta());
+    }
+
+    @Test
+    public void testFlush_NothingPending() {
+        postViewCountService.flush();
+
+        verify(jdbcTemplate, never()).batchUpdate(anyString(), anyList());
+    }
+
+    @Test
+    public void testFlush_FailureKeepsDeltas() {
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenThrow(new RuntimeException("db down"));
+        postViewCountService.increment(1L);
+        postViewCountService.increment(1L);
+
+        postViewCountService.flush();
+
+        assertEquals(2, postViewCountService.getPendingDelta(1L));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    public void testFlush_ConcurrentIncrementsAreNeverLost() throws InterruptedException {
+        AtomicLong flushed = new AtomicLong();
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            List<Object[]> batchArgs = invocation.getArgument(1);
+            batchArgs.forEach(args -> flushed.addAndGet((Long) args[0]));
+            return new int[batchArgs.size()];
+        });
+
+        // 조회가 드문드문 들어와 반영 주기가 빈 누적기를 정리하는 순간과 증가가 겹치게 합니다.
+        int threads = 4;
+        int incrementsPerThread = 20000;
+        List<Thread> workers = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Thread worker = new Thread(() -> {
+                for (int j = 0; j < incrementsPerThread; j++) {
+                    postViewCountService.increment(1L);
+                    if (j % 100 == 0) {
+                        Thread.yield();
+                    }
+                }
+            });
+            workers.add(worker);
+            worker.start();
+        }
+        while (workers.stream().anyMatch(Thread::isAlive)) {
+            postViewCountService.flush();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+        postViewCountService.flush();
+
+        assertEquals((long) threads * incrementsPerThread, flushed.get());
+        assertEquals(0, postViewCountService.getTotalPendingDelta());
+    }
+}
@@ -0,0 +1,172 @@
+package com.minseok.enigma.enigma.service;
+
+import com.minseok.enigma.enigma.availability.UserAvailabilityService;
+import com.minseok.enigma.enigma.dto.request.auth.SignupRequest;
+import com.minseok.enigma.enigma.exception.CustomException;
+import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.friend.FriendGraphIndex;
+import com.minseok.enigma.enigma.security.JwtTokenProvider;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+/**
+ * 동시에 가입 요청이 몰릴 때 유니크 제약만으로 중복 가입을 막는지 마이그레이션된 스키마에서 검증합니다.<p>
+ * 가입이 각자의 트랜잭션에서 커밋되어야 하므로 테스트 트랜잭션 없이 실행하고, 만든 행은 테스트가 끝나면 지웁니다.
+ */
+@Slf4j
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@ActiveProfiles("test")
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import(AuthService.class)
+public class SignupConcurrencyTest {
+
+    private static final int THREADS = 16;
+
+    @Autowired
+    private AuthService authService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private PasswordEncoder passwordEncoder;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private FriendGraphIndex friendGraphIndex;
+
+    @MockBean
+    private UserAvailabilityService userAvailabilityService;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    public void setup() {
+        entityManagerFactory.getCache().evictAll();
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
+    }
+
+    @AfterEach
+    public void cleanup() {
+        jdbcTemplate.update("DELETE FROM users");
+        entityManagerFactory.getCache().evictAll();
+    }
+
+    private static SignupRequest request(String userName, String email) {
+        return SignupRequest.builder()
+                .userName(userName)
+                .password("Test@1234")
+                .email(email)
+                .schoolLevel("HIGH")
+                .grade(1)
+                .build();
+    }
+
+    /**
+     * 모든 요청을 한꺼번에 출발시켜 가입을 실행하고, 요청별 결과(성공이면 null, 실패면 예외)를 반환합니다.
+     */
+    private List<Throwable> signupConcurrently(int count, IntFunction<SignupRequest> requests) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Throwable>> futures = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            SignupRequest request = requests.apply(i);
+            Callable<Throwable> task = () -> {
+                start.await();
+                try {
+                    authService.signup(request);
+                    return null;
+                } catch (RuntimeException e) {
+                    return e;
+                }
+            };
+            futures.add(executor.submit(task));
+        }
+        start.countDown();
+
+        List<Throwable> results = new ArrayList<>();
+        for (Future<Throwable> future : futures) {
+            results.add(future.get());
+        }
+        executor.shutdown();
+        return results;
+    }
+
+    private static void assertOneSuccess(List<Throwable> results, ErrorCode expected) {
+        assertEquals(1, results.stream().filter(result -> result == null).count());
+        for (Throwable result : results) {
+            if (result != null) {
+                CustomException exception = assertInstanceOf(CustomException.class, result);
+                assertEquals(expected.getMessage(), exception.getMessage());
+            }
+        }
+    }
+
+    @Test
+    public void testConcurrentSignups_SameUserName_OnlyOneSucceeds() throws Exception {
+        List<Throwable> results = signupConcurrently(40, i -> request("sameUser", "user" + i + "@example.com"));
+
+        assertOneSuccess(results, ErrorCode.USER_ALREADY_EXISTS);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE user_name = 'sameUser'", Integer.class));
+    }
+
+    @Test
+    public void testConcurrentSignups_SameEmail_OnlyOneSucceeds() throws Exception {
+        List<Throwable> results = signupConcurrently(40, i -> request("user" + i, "same@example.com"));
+
+        assertOneSuccess(results, ErrorCode.EMAIL_ALREADY_EXISTS);
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users WHERE email = 'same@example.com'", Integer.class));
+    }
+
+    @Test
+    public void testConcurrentSignups_DistinctUsers_InsertWithoutPreCheckQueries() throws Exception {
+        int count = 400;
+        long startedAt = System.nanoTime();
+        List<Throwable> results = signupConcurrently(count, i -> request("user" + i, "user" + i + "@example.com"));
+        double elapsedMs = (System.nanoTime() - startedAt) / 1_000_000.0;
+
+        assertTrue(results.stream().allMatch(result -> result == null), "실패한 가입이 있습니다: " + results);
+        assertEquals(count, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM users", Integer.class));
+        // 가입마다 INSERT 한 번만 실행하고 existsByUserName/existsByEmail 같은 사전 조회는 하지 않습니다.
+        assertEquals(count, statistics.getEntityInsertCount());
+        assertEquals(0, statistics.getQueryExecutionCount());
+        log.info("동시 가입 {}건: {}ms ({} 건/초)", count, String.format("%.1f", elapsedMs),
+                String.format("%.0f", count / (elapsedMs / 1000)));
+    }
+}
@@ -1,24 +1,31 @@
 package com.minseok.enigma.enigma.service;
 
+import com.minseok.enigma.enigma.availability.UserAvailabilityService;
 import com.minseok.enigma.enigma.dto.request.user.UserUpdateRequest;
+import com.minseok.enigma.enigma.dto.response.common.CursorResponse;
+import com.minseok.enigma.enigma.dto.response.user.FriendSuggestionResponse;
 import com.minseok.enigma.enigma.dto.response.user.UserResponse;
 import com.minseok.enigma.enigma.entity.SchoolLevel;
 import com.minseok.enigma.enigma.entity.User;
 import com.minseok.enigma.enigma.exception.CustomException;
 import com.minseok.enigma.enigma.exception.ErrorCode;
+import com.minseok.enigma.enigma.friend.FriendGraph;
+import com.minseok.enigma.enigma.friend.FriendGraphIndex;
+import com.minseok.enigma.enigma.friend.FriendshipWriter;
 import com.minseok.enigma.enigma.repository.UserRepository;
+import com.minseok.enigma.enigma.repository.projection.UserView;
+import com.minseok.enigma.enigma.util.CursorUtil;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
-import java.util.HashSet;
-import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -33,6 +40,15 @@ public class UserServiceTest {
     @Mock
     private PasswordEncoder passwordEncoder;
 
+    @Mock
+    private FriendGraphIndex friendGraphIndex;
+
+    @Mock
+    private UserAvailabilityService userAvailabilityService;
+
+    @Mock
+    private FriendshipWriter friendshipWriter;
+
     @InjectMocks
     private UserService userService;
 
@@ -58,7 +74,7 @@ public class UserServiceTest {
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
         when(passwordEncoder.encode(anyString())).thenReturn("encodedPassword");
-        when(userRepository.existsByEmail(anyString())).thenReturn(false);
+        when(userAvailabilityService.isEmailTaken(anyString())).thenReturn(false);
         when(userRepository.save(any(User.class))).thenReturn(user);
 
         UserResponse response = userService.updateUser(1L, request);
@@ -85,34 +101,12 @@ public class UserServiceTest {
 
     @Test
     public void testGetFriends_Success() {
+        UserView friend1 = new UserView(2L, "friendUser1", "friend1@example.com", SchoolLevel.HIGH, 1, null, null);
+        UserView friend2 = new UserView(3L, "friendUser2", "friend2@example.com", SchoolLevel.HIGH, 2, null, null);
 
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
-        user.setEmail("oldemail@example.com");
-        user.setSchoolLevel(SchoolLevel.HIGH);
-        user.setGrade(3);
-
-        User friend1 = new User();
-        friend1.setId(2L);
-        friend1.setUserName("friendUser1");
-        friend1.setEmail("friend1@example.com");
-        friend1.setSchoolLevel(SchoolLevel.HIGH);
-        friend1.setGrade(1);
-
-        User friend2 = new User();
-        friend2.setId(3L);
-        friend2.setUserName("friendUser2");
-        friend2.setEmail("friend2@example.com");
-        friend2.setSchoolLevel(SchoolLevel.HIGH);
-        friend2.setGrade(2);
-
-        Set<User> friends = new HashSet<>();
-        friends.add(friend1);
-        friends.add(friend2);
-        user.setFriends(friends);
-
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(friendGraphIndex.getFriends(1L)).thenReturn(new long[]{2L, 3L});
+        when(userRepository.findViewsByIdIn(List.of(2L, 3L))).thenReturn(Arrays.asList(friend1, friend2));
 
         List<UserResponse> responses = userService.getFriends(1L);
 
@@ -122,6 +116,17 @@ public class UserServiceTest {
         assertEquals("friendUser2", responses.get(1).getUserName());
     }
 
+    @Test
+    public void testGetFriends_UserNotFound() {
+        when(userRepository.existsById(anyLong())).thenReturn(false);
+
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            userService.getFriends(1L);
+        });
+
+        assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), exception.getMessage());
+    }
+
     @Test
     public void testUpdateUser_EmailAlreadyExists() {
         UserUpdateRequest request = new UserUpdateRequest();
@@ -132,7 +137,7 @@ public class UserServiceTest {
         user.setUserName("testUser");
 
         when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
-        when(userRepository.existsByEmail(anyString())).thenReturn(true);
+        when(userAvailabilityService.isEmailTaken(anyString())).thenReturn(true);
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             userService.updateUser(1L, request);
@@ -143,14 +148,9 @@ public class UserServiceTest {
 
     @Test
     public void testGetUser_Success() {
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
-        user.setEmail("test@example.com");
-        user.setSchoolLevel(SchoolLevel.HIGH);
-        user.setGrade(3);
+        UserView user = new UserView(1L, "testUser", "test@example.com", SchoolLevel.HIGH, 3, null, null);
 
-        when(userRepository.findById(anyLong())).thenReturn(Optional.of(user));
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.of(user));
 
         UserResponse response = userService.getUser(1L);
 
@@ -163,7 +163,7 @@ public class UserServiceTest {
 
     @Test
     public void testGetUser_UserNotFound() {
-        when(userRepository.findById(anyLong())).thenReturn(Optional.empty());
+        when(userRepository.findViewById(anyLong())).thenReturn(Optional.empty());
 
         CustomException exception = assertThrows(CustomException.class, () -> {
             userService.getUser(1L);
@@ -174,19 +174,10 @@ public class UserServiceTest {
 
     @Test
     public void testGetUsersBySchoolLevelAndGrade() {
-        User user1 = new User();
-        user1.setId(1L);
-        user1.setUserName("user1");
-        user1.setSchoolLevel(SchoolLevel.HIGH);
-        user1.setGrade(3);
-
-        User user2 = new User();
-        user2.setId(2L);
-        user2.setUserName("user2");
-        user2.setSchoolLevel(SchoolLevel.HIGH);
-        user2.setGrade(3);
-
-        when(userRepository.findBySchoolLevelAndGrade(any(SchoolLevel.class), anyInt()))
+        UserView user1 = new UserView(1L, "user1", "user1@example.com", SchoolLevel.HIGH, 3, null, null);
+        UserView user2 = new UserView(2L, "user2", "user2@example.com", SchoolLevel.HIGH, 3, null, null);
+
+        when(userRepository.findViewsBySchoolLevelAndGrade(any(SchoolLevel.class), anyInt()))
                 .thenReturn(Arrays.asList(user1, user2));
 
         List<UserResponse> responses = userService.getUsersBySchoolLevelAndGrade(SchoolLevel.HIGH, 3);
@@ -198,42 +189,140 @@ public class UserServiceTest {
     }
 
     @Test
-    public void testAddFriend_Success() {
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
+    public void testGetUserDirectory_ReturnsCursorForNextPage() {
+        UserView user1 = new UserView(5L, "user5", "user5@example.com", SchoolLevel.HIGH, 2, null, null);
+        UserView user2 = new UserView(8L, "user8", "user8@example.com", SchoolLevel.HIGH, 2, null, null);
+        UserView user3 = new UserView(9L, "user9", "user9@example.com", SchoolLevel.HIGH, 2, null, null);
+
+        when(userRepository.findDirectory(SchoolLevel.HIGH, 2, 4L, PageRequest.of(0, 3)))
+                .thenReturn(Arrays.asList(user1, user2, user3));
+
+        CursorResponse<UserResponse> response = userService.getUserDirectory(SchoolLevel.HIGH, 2, null, CursorUtil.encode(4L), 2);
+
+        assertEquals(2, response.getItems().size());
+        assertTrue(response.isHasNext());
+        assertEquals(8L, CursorUtil.decodeId(response.getNextCursor()));
+    }
+
+    @Test
+    public void testGetUserDirectory_EscapesUserNamePrefix() {
+        when(userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "a!_b!%%", "", 0L, PageRequest.of(0, 21)))
+                .thenReturn(List.of());
+
+        CursorResponse<UserResponse> response = userService.getUserDirectory(SchoolLevel.HIGH, 2, " a_b% ", null, 0);
 
-        User friend = new User();
-        friend.setId(2L);
-        friend.setUserName("friendUser");
+        assertTrue(response.getItems().isEmpty());
+        assertFalse(response.isHasNext());
+        assertNull(response.getNextCursor());
+    }
+
+    @Test
+    public void testGetUserDirectory_PrefixPagesByUserNameCursor() {
+        UserView user1 = new UserView(9L, "kimb", "kimb@example.com", SchoolLevel.HIGH, 2, null, null);
+        UserView user2 = new UserView(3L, "kimc", "kimc@example.com", SchoolLevel.HIGH, 2, null, null);
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(userRepository.findById(2L)).thenReturn(Optional.of(friend));
+        when(userRepository.findDirectoryByUserNamePrefix(SchoolLevel.HIGH, 2, "kim%", "kima", 7L, PageRequest.of(0, 2)))
+                .thenReturn(Arrays.asList(user1, user2));
+
+        CursorResponse<UserResponse> response = userService.getUserDirectory(SchoolLevel.HIGH, 2, "kim",
+                CursorUtil.encodeKey("kima", 7L), 1);
+
+        assertEquals(1, response.getItems().size());
+        assertTrue(response.isHasNext());
+        assertEquals(new CursorUtil.KeyCursor("kimb", 9L), CursorUtil.decodeKeyWithId(response.getNextCursor()));
+    }
+
+    @Test
+    public void testAddFriend_Success() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(2L)).thenReturn(true);
+        when(friendshipWriter.add(1L, 2L)).thenReturn(true);
 
         userService.addFriend(1L, 2L);
 
-        verify(userRepository, times(1)).save(user);
-        assertTrue(user.getFriends().contains(friend));
+        verify(friendshipWriter, times(1)).add(1L, 2L);
+        verify(userRepository, never()).findById(anyLong());
+        verify(friendGraphIndex).addFriend(1L, 2L);
+        verify(friendGraphIndex).addFriend(2L, 1L);
     }
 
     @Test
-    public void testRemoveFriend_Success() {
-        User user = new User();
-        user.setId(1L);
-        user.setUserName("testUser");
+    public void testAddFriend_Self() {
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            userService.addFriend(1L, 1L);
+        });
+
+        assertEquals(ErrorCode.INVALID_FRIEND.getMessage(), exception.getMessage());
+        verify(friendshipWriter, never()).add(anyLong(), anyLong());
+    }
+
+    @Test
+    public void testAddFriends_BatchesExistingUsers() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findIdsByIdIn(List.of(2L, 3L))).thenReturn(List.of(2L, 3L));
+        when(friendshipWriter.addAll(1L, List.of(2L, 3L))).thenReturn(List.of(3L));
+
+        userService.addFriends(1L, List.of(2L, 3L, 2L));
+
+        verify(friendshipWriter, times(1)).addAll(1L, List.of(2L, 3L));
+        verify(friendGraphIndex).addFriend(1L, 3L);
+        verify(friendGraphIndex).addFriend(3L, 1L);
+        // 이미 친구여서 건너뛴 관계는 그래프에 다시 반영하지 않습니다.
+        verify(friendGraphIndex, never()).addFriend(1L, 2L);
+        verify(friendGraphIndex, never()).addFriend(2L, 1L);
+    }
 
-        User friend = new User();
-        friend.setId(2L);
-        friend.setUserName("friendUser");
+    @Test
+    public void testAddFriends_MissingUser() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.findIdsByIdIn(List.of(2L, 3L))).thenReturn(List.of(2L));
 
-        user.addFriend(friend);
+        CustomException exception = assertThrows(CustomException.class, () -> {
+            userService.addFriends(1L, List.of(2L, 3L));
+        });
 
-        when(userRepository.findById(1L)).thenReturn(Optional.of(user));
-        when(userRepository.findById(2L)).thenReturn(Optional.of(friend));
+        assertEquals(ErrorCode.USER_NOT_FOUND.getMessage(), exception.getMessage());
+        verify(friendshipWriter, never()).addAll(anyLong(), any());
+    }
+
+    @Test
+    public void testRemoveFriend_Success() {
+        when(userRepository.existsById(1L)).thenReturn(true);
+        when(userRepository.existsById(2L)).thenReturn(true);
 
         userService.removeFriend(1L, 2L);
 
-        verify(userRepository, times(1)).save(user);
-        assertFalse(user.getFriends().contains(friend));
+        verify(friendshipWriter, times(1)).remove(1L, 2L);
+        verify(friendGraphIndex).removeFriend(1L, 2L);
+        verify(friendGraphIndex).removeFriend(2L, 1L);
+    }
+
+    @Test
+    public void testGetFriends_NoFriendsSkipsQuery() {
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(friendGraphIndex.getFriends(1L)).thenReturn(new long[0]);
+
+        List<UserResponse> responses = userService.getFriends(1L);
+
+        assertTrue(responses.isEmpty());
+        verify(userRepository, never()).findViewsByIdIn(any());
+    }
+
+    @Test
+    public void testGetFriendSuggestions_KeepsRankingOrder() {
+        UserView user4 = new UserView(4L, "user4", "user4@example.com", SchoolLevel.HIGH, 1, null, null);
+        UserView user5 = new UserView(5L, "user5", "user5@example.com", SchoolLevel.HIGH, 1, null, null);
+
+        when(userRepository.existsById(anyLong())).thenReturn(true);
+        when(friendGraphIndex.suggest(1L, UserService.MAX_SUGGESTION_SIZE)).thenReturn(List.of(
+                new FriendGraph.Suggestion(5L, 3), new FriendGraph.Suggestion(4L, 1)));
+        when(userRepository.findViewsByIdIn(List.of(5L, 4L))).thenReturn(Arrays.asList(user4, user5));
+
+        List<FriendSuggestionResponse> responses = userService.getFriendSuggestions(1L, 1000);
+
+        assertEquals(2, responses.size());
+        assertEquals(5L, responses.get(0).getId());
+        assertEquals(3, responses.get(0).getMutualFriendCount());
+        assertEquals(4L, responses.get(1).getId());
     }
 }
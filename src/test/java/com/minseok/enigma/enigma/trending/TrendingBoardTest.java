@@ -0,0 +1,87 @@
+package com.minseok.enigma.enigma.trending;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class TrendingBoardTest {
+
+    private static final long HOUR = 60 * 60 * 1000L;
+    private static final long NOW = 1_722_470_400_000L;
+
+    private List<Long> topIds(TrendingBoard board, int limit, long nowMillis) {
+        return board.getTop(limit, nowMillis).stream().map(TrendingBoard.ScoredPost::postId).toList();
+    }
+
+    @Test
+    public void testAdd_RanksByScore() {
+        TrendingBoard board = new TrendingBoard(10, 6 * HOUR);
+        board.add(1, 1.0, NOW);
+        board.add(2, 5.0, NOW);
+        board.add(3, 1.0, NOW);
+        board.add(3, 1.0, NOW);
+
+        assertEquals(List.of(2L, 3L, 1L), topIds(board, 10, NOW));
+        assertEquals(List.of(2L, 3L), topIds(board, 2, NOW));
+    }
+
+    @Test
+    public void testScore_HalvesEveryHalfLife() {
+        TrendingBoard board = new TrendingBoard(10, 6 * HOUR);
+        board.add(1, 8.0, NOW);
+
+        assertEquals(8.0, board.getTop(1, NOW).get(0).score(), 1e-6);
+        assertEquals(4.0, board.getTop(1, NOW + 6 * HOUR).get(0).score(), 1e-6);
+        assertEquals(1.0, board.getTop(1, NOW + 18 * HOUR).get(0).score(), 1e-6);
+    }
+
+    @Test
+    public void testAdd_RecentActivityOvertakesOldActivity() {
+        TrendingBoard board = new TrendingBoard(10, 6 * HOUR);
+        board.add(1, 10.0, NOW);
+        board.add(2, 3.0, NOW + 12 * HOUR);
+
+        // 12시간 뒤 1번의 점수는 2.5로 감쇠되어 새로 3점을 받은 2번보다 낮습니다.
+        assertEquals(List.of(2L, 1L), topIds(board, 10, NOW + 12 * HOUR));
+    }
+
+    @Test
+    public void testAdd_KeepsOnlyTopCapacity() {
+        TrendingBoard board = new TrendingBoard(2, 6 * HOUR);
+        board.add(1, 1.0, NOW);
+        board.add(2, 2.0, NOW);
+        board.add(3, 3.0, NOW);
+
+        assertEquals(List.of(3L, 2L), topIds(board, 10, NOW));
+
+        // 상위 집합 밖의 게시글도 점수를 추적하므로 점수가 오르면 다시 들어옵니다.
+        board.add(1, 2.5, NOW);
+        assertEquals(List.of(1L, 3L), topIds(board, 10, NOW));
+    }
+
+    @Test
+    public void testRemove_RefillsFromTrackedPosts() {
+        TrendingBoard board = new TrendingBoard(2, 6 * HOUR);
+        board.add(1, 1.0, NOW);
+        board.add(2, 2.0, NOW);
+        board.add(3, 3.0, NOW);
+
+        board.remove(3);
+
+        assertEquals(List.of(2L, 1L), topIds(board, 10, NOW));
+        assertEquals(2, board.size());
+    }
+
+    @Test
+    public void testPrune_DropsDecayedPostsOutsideTop() {
+        TrendingBoard board = new TrendingBoard(1, HOUR);
+        board.add(1, 1.0, NOW);
+        board.add(2, 1.0, NOW - 10 * HOUR);
+
+        assertEquals(1, board.prune(0.05, NOW));
+        assertEquals(List.of(1L), topIds(board, 10, NOW));
+        assertEquals(1, board.snapshot(NOW).size());
+    }
+}
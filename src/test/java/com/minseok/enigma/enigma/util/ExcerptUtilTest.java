@@ -0,0 +1,33 @@
+package com.minseok.enigma.enigma.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ExcerptUtilTest {
+
+    @Test
+    public void testOf_ShortContentKeptWithNormalizedWhitespace() {
+        assertEquals("오늘 급식 메뉴 알려주세요", ExcerptUtil.of("  오늘 급식\n\n메뉴   알려주세요 "));
+        assertNull(ExcerptUtil.of(null));
+    }
+
+    @Test
+    public void testOf_LongContentTruncatedByCodePoints() {
+        String content = "가".repeat(ExcerptUtil.MAX_LENGTH) + "나다라";
+
+        String excerpt = ExcerptUtil.of(content);
+
+        assertEquals("가".repeat(ExcerptUtil.MAX_LENGTH) + "…", excerpt);
+    }
+
+    @Test
+    public void testOf_DoesNotSplitSurrogatePairs() {
+        String content = "😀".repeat(ExcerptUtil.MAX_LENGTH + 1);
+
+        String excerpt = ExcerptUtil.of(content);
+
+        assertEquals(ExcerptUtil.MAX_LENGTH + 1, excerpt.codePointCount(0, excerpt.length()));
+        assertTrue(excerpt.endsWith("…"));
+    }
+}
@@ -0,0 +1,87 @@
+package com.minseok.enigma.enigma.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RebuildableSnapshotTest {
+
+    private static final int WRITERS = 4;
+    private static final int CHANGES_PER_WRITER = 5000;
+
+    @Test
+    public void testRebuild_ConcurrentChangesAreNotLost() throws Exception {
+        // DB 역할을 하는 집합입니다. 쓰기 스레드는 "커밋"(DB에 추가)한 뒤 변경을 적용합니다.
+        Set<Integer> database = ConcurrentHashMap.newKeySet();
+        RebuildableSnapshot<Set<Integer>> snapshot = new RebuildableSnapshot<>(ConcurrentHashMap.newKeySet());
+        AtomicInteger committed = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(WRITERS);
+        List<Future<?>> writers = new ArrayList<>();
+        for (int w = 0; w < WRITERS; w++) {
+            int base = w * CHANGES_PER_WRITER;
+            writers.add(executor.submit(() -> {
+                start.await();
+                for (int i = 0; i < CHANGES_PER_WRITER; i++) {
+                    int value = base + i;
+                    database.add(value);
+                    committed.incrementAndGet();
+                    snapshot.apply(current -> current.add(value));
+                }
+                return null;
+            }));
+        }
+
+        start.countDown();
+        int total = WRITERS * CHANGES_PER_WRITER;
+        // 쓰기가 진행되는 도중에 DB를 읽고, 읽은 뒤에도 쓰기가 계속되는 동안 교체를 미룹니다.
+        snapshot.rebuild(() -> {
+            awaitCommitted(committed, total / 4);
+            Set<Integer> loaded = ConcurrentHashMap.newKeySet();
+            loaded.addAll(database);
+            awaitCommitted(committed, total / 2);
+            return loaded;
+        });
+
+        for (Future<?> writer : writers) {
+            writer.get(30, TimeUnit.SECONDS);
+        }
+        executor.shutdown();
+
+        assertEquals(total, snapshot.get().size());
+        assertEquals(database, snapshot.get());
+    }
+
+    @Test
+    public void testRebuild_FailedLoadKeepsCurrentSnapshot() {
+        RebuildableSnapshot<Set<Integer>> snapshot = new RebuildableSnapshot<>(ConcurrentHashMap.newKeySet());
+        snapshot.apply(current -> current.add(1));
+
+        assertThrows(IllegalStateException.class, () -> snapshot.rebuild(() -> {
+            snapshot.apply(current -> current.add(2));
+            throw new IllegalStateException("load failed");
+        }));
+        snapshot.apply(current -> current.add(3));
+
+        assertEquals(Set.of(1, 2, 3), snapshot.get());
+    }
+
+    private static void awaitCommitted(AtomicInteger committed, int target) {
+        long deadline = System.currentTimeMillis() + 10_000;
+        while (committed.get() < target && System.currentTimeMillis() < deadline) {
+            Thread.onSpinWait();
+        }
+    }
+}